@@ -1,12 +1,50 @@
 package com.example.footballteamapi.auth.application.port.out;
 
+import com.example.footballteamapi.auth.domain.model.RevokedToken;
 import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface InvalidTokenRepository extends JpaRepository<InvalidTokenEntity, String> {
 
     Optional<InvalidTokenEntity> findByTokenId(final String tokenId);
 
+    @Query("""
+            SELECT new com.example.footballteamapi.auth.domain.model.RevokedToken(t.tokenId, t.expiresAt)
+            FROM InvalidTokenEntity t
+            WHERE t.expiresAt IS NULL OR t.expiresAt > :now
+            """)
+    List<RevokedToken> findRevokedTokensNotExpiredAt(@Param("now") final LocalDateTime now);
+
+    @Query("""
+            SELECT new com.example.footballteamapi.auth.domain.model.RevokedToken(t.tokenId, t.expiresAt)
+            FROM InvalidTokenEntity t
+            WHERE t.createdAt >= :createdAt
+            """)
+    List<RevokedToken> findRevokedTokensCreatedSince(@Param("createdAt") final LocalDateTime createdAt);
+
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    DELETE FROM invalid_token
+                    WHERE id IN (
+                        SELECT id FROM invalid_token
+                        WHERE expires_at < :expiredBefore
+                        ORDER BY expires_at
+                        LIMIT :batchSize
+                    )
+                    """,
+            nativeQuery = true
+    )
+    int deleteExpiredBatch(@Param("expiredBefore") final LocalDateTime expiredBefore,
+                           @Param("batchSize") final int batchSize);
+
 }
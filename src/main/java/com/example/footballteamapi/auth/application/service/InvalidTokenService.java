@@ -1,11 +1,15 @@
 package com.example.footballteamapi.auth.application.service;
 
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+
 import java.util.Set;
 
 public interface InvalidTokenService {
 
-    void invalidateTokens(final Set<String> tokenIds);
+    void invalidateTokens(final Set<VerifiedToken> verifiedTokens);
 
     void checkForInvalidityOfToken(final String tokenId);
 
+    int purgeExpiredTokens();
+
 }
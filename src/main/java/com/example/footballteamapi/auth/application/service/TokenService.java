@@ -1,6 +1,7 @@
 package com.example.footballteamapi.auth.application.service;
 
 import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +17,10 @@ public interface TokenService {
 
     UsernamePasswordAuthenticationToken getAuthentication(final String token);
 
+    UsernamePasswordAuthenticationToken getAuthentication(final VerifiedToken verifiedToken);
+
+    VerifiedToken verify(final String jwt);
+
     void verifyAndValidate(final String jwt);
 
     void verifyAndValidate(final Set<String> jwts);
@@ -3,38 +3,106 @@ package com.example.footballteamapi.auth.application.service.impl;
 import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.domain.exception.TokenAlreadyInvalidatedException;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.RevokedTokenIndex;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
+import com.example.footballteamapi.auth.infrastructure.config.InvalidTokenPurgeProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.InvalidTokenWriter;
 import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class InvalidTokenServiceImpl implements InvalidTokenService {
 
     private final InvalidTokenRepository invalidTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final InvalidTokenWriter invalidTokenWriter;
+    private final InvalidTokenPurgeProperties invalidTokenPurgeProperties;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    public void invalidateTokens(Set<String> tokenIds) {
-        final Set<InvalidTokenEntity> invalidTokenEntities = tokenIds.stream()
-                .map(tokenId -> InvalidTokenEntity.builder()
-                        .tokenId(tokenId)
+    public void invalidateTokens(Set<VerifiedToken> verifiedTokens) {
+        final Set<InvalidTokenEntity> invalidTokenEntities = verifiedTokens.stream()
+                .map(verifiedToken -> InvalidTokenEntity.builder()
+                        .tokenId(verifiedToken.getId())
+                        .expiresAt(
+                                Optional.ofNullable(verifiedToken.getExpiresAt())
+                                        .map(expiresAt -> LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                                        .orElse(null)
+                        )
                         .build()
                 )
                 .collect(Collectors.toSet());
 
-        invalidTokenRepository.saveAll(invalidTokenEntities);
+        final Set<String> tokenIds = invalidTokenEntities.stream()
+                .map(InvalidTokenEntity::getTokenId)
+                .collect(Collectors.toSet());
+
+        revokedTokenIndex.addAll(invalidTokenEntities);
+        verifiedTokenCache.evictByTokenIds(tokenIds);
+
+        invalidTokenWriter.write(invalidTokenEntities);
     }
 
     @Override
     public void checkForInvalidityOfToken(String tokenId) {
-        final boolean isTokenInvalid = invalidTokenRepository.findByTokenId(tokenId).isPresent();
+        final boolean isTokenInvalid = revokedTokenIndex.isRevoked(tokenId);
 
         if (isTokenInvalid) {
             throw new TokenAlreadyInvalidatedException(tokenId);
         }
     }
 
+    /**
+     * Deletes rows of tokens that are already expired, one small batch per transaction, so the purge never
+     * holds locks on a large part of the table. A run stops at the first partial batch or after the configured
+     * number of batches; whatever is left is picked up by the next run.
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${auth.invalid-token-purge.interval:10m}",
+            fixedDelayString = "${auth.invalid-token-purge.interval:10m}"
+    )
+    public int purgeExpiredTokens() {
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final LocalDateTime expiredBefore = LocalDateTime.now();
+        final int batchSize = invalidTokenPurgeProperties.getBatchSize();
+
+        int purgedCount = 0;
+        try {
+            for (int batch = 0; batch < invalidTokenPurgeProperties.getMaxBatchesPerRun(); batch++) {
+                final int deletedCount = invalidTokenRepository.deleteExpiredBatch(expiredBefore, batchSize);
+                purgedCount += deletedCount;
+                if (deletedCount < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception exception) {
+            log.warn("Purge of expired invalid tokens failed: {}", exception.getMessage());
+        } finally {
+            meterRegistry.counter("auth.invalid.token.purge.deleted").increment(purgedCount);
+            sample.stop(meterRegistry.timer("auth.invalid.token.purge.duration"));
+        }
+
+        if (purgedCount > 0) {
+            log.info("Purged {} expired invalid tokens", purgedCount);
+        }
+        return purgedCount;
+    }
+
 }
@@ -4,6 +4,7 @@ import com.example.footballteamapi.auth.application.dto.request.TokenInvalidateR
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.application.service.LogoutService;
 import com.example.footballteamapi.auth.application.service.TokenService;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -19,27 +20,13 @@ public class LogoutServiceImpl implements LogoutService {
     @Override
     public void logout(TokenInvalidateRequest tokenInvalidateRequest) {
 
-        tokenService.verifyAndValidate(
-                Set.of(
-                        tokenInvalidateRequest.getAccessToken(),
-                        tokenInvalidateRequest.getRefreshToken()
-                )
-        );
+        final VerifiedToken accessToken = tokenService.verify(tokenInvalidateRequest.getAccessToken());
+        final VerifiedToken refreshToken = tokenService.verify(tokenInvalidateRequest.getRefreshToken());
 
-        final String accessTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getAccessToken())
-                .getId();
+        invalidTokenService.checkForInvalidityOfToken(accessToken.getId());
+        invalidTokenService.checkForInvalidityOfToken(refreshToken.getId());
 
-        invalidTokenService.checkForInvalidityOfToken(accessTokenId);
-
-
-        final String refreshTokenId = tokenService
-                .getPayload(tokenInvalidateRequest.getRefreshToken())
-                .getId();
-
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
-
-        invalidTokenService.invalidateTokens(Set.of(accessTokenId,refreshTokenId));
+        invalidTokenService.invalidateTokens(Set.of(accessToken, refreshToken));
 
     }
 
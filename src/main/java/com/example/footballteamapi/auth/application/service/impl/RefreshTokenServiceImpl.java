@@ -1,15 +1,14 @@
 package com.example.footballteamapi.auth.application.service.impl;
 
 import com.example.footballteamapi.auth.application.dto.request.TokenRefreshRequest;
-import com.example.footballteamapi.auth.application.port.out.UserRepository;
 import com.example.footballteamapi.auth.application.service.RefreshTokenService;
 import com.example.footballteamapi.auth.application.service.TokenService;
 import com.example.footballteamapi.auth.domain.enums.TokenClaims;
-import com.example.footballteamapi.auth.domain.enums.UserStatus;
 import com.example.footballteamapi.auth.domain.exception.UserNotFoundException;
 import com.example.footballteamapi.auth.domain.exception.UserStatusNotValidException;
 import com.example.footballteamapi.auth.domain.model.Token;
-import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,7 +16,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final TokenService tokenService;
 
     @Override
@@ -29,21 +28,21 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
                 .get(TokenClaims.USER_ID.getValue())
                 .toString();
 
-        final UserEntity userEntityFromDB = userRepository
-                .findById(adminId)
+        final UserSnapshot userSnapshot = userSnapshotCache
+                .find(adminId)
                 .orElseThrow(UserNotFoundException::new);
 
-        this.validateAdminStatus(userEntityFromDB);
+        this.validateAdminStatus(userSnapshot);
 
         return tokenService.generateToken(
-                userEntityFromDB.getClaims(),
+                userSnapshot.getClaims(),
                 tokenRefreshRequest.getRefreshToken()
         );
     }
 
-    private void validateAdminStatus(final UserEntity userEntity) {
-        if (!(UserStatus.ACTIVE.equals(userEntity.getUserStatus()))) {
-            throw new UserStatusNotValidException("UserStatus = " + userEntity.getUserStatus());
+    private void validateAdminStatus(final UserSnapshot userSnapshot) {
+        if (!userSnapshot.isActive()) {
+            throw new UserStatusNotValidException("UserStatus = " + userSnapshot.getUserStatus());
         }
     }
 
@@ -4,9 +4,13 @@ import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.application.service.TokenService;
 import com.example.footballteamapi.auth.domain.enums.ConfigurationParameter;
 import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import com.example.footballteamapi.auth.domain.enums.TokenProfile;
 import com.example.footballteamapi.auth.domain.enums.TokenType;
 import com.example.footballteamapi.auth.domain.enums.UserType;
 import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
 import com.example.footballteamapi.auth.infrastructure.config.TokenConfigurationParameter;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -15,6 +19,7 @@ import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
@@ -27,6 +32,8 @@ public class TokenServiceImpl implements TokenService {
 
     private final TokenConfigurationParameter tokenConfigurationParameter;
     private final InvalidTokenService invalidTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public Token generateToken(Map<String, Object> claims) {
@@ -49,7 +56,7 @@ public class TokenServiceImpl implements TokenService {
                 .issuedAt(tokenIssuedAt)
                 .expiration(accessTokenExpiresAt)
                 .signWith(tokenConfigurationParameter.getPrivateKey())
-                .claims(claims)
+                .claims(this.getAccessTokenClaims(claims))
                 .compact();
 
         final Date refreshTokenExpiresAt = DateUtils.addDays(
@@ -101,7 +108,7 @@ public class TokenServiceImpl implements TokenService {
                 .issuedAt(accessTokenIssuedAt)
                 .expiration(accessTokenExpiresAt)
                 .signWith(tokenConfigurationParameter.getPrivateKey())
-                .claims(claims)
+                .claims(this.getAccessTokenClaims(claims))
                 .compact();
 
         return Token.builder()
@@ -113,11 +120,23 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        return this.getAuthentication(this.verify(token));
+    }
 
-        final Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(tokenConfigurationParameter.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
+    @Override
+    public UsernamePasswordAuthenticationToken getAuthentication(VerifiedToken verifiedToken) {
+        return UsernamePasswordAuthenticationToken
+                .authenticated(verifiedToken.getJwt(), null, verifiedToken.getAuthorities());
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        return verifiedTokenCache.get(token, this::parseAndVerify);
+    }
+
+    private VerifiedToken parseAndVerify(final String token) {
+
+        final Jws<Claims> claimsJws = this.getClaims(token);
 
         final JwsHeader jwsHeader = claimsJws.getHeader();
         final Claims payload = claimsJws.getPayload();
@@ -130,17 +149,50 @@ public class TokenServiceImpl implements TokenService {
                         TokenClaims.TYP.getValue(), jwsHeader.getType(),
                         TokenClaims.ALGORITHM.getValue(), jwsHeader.getAlgorithm()
                 ),
-                payload
+                this.resolveClaims(payload)
         );
 
+        final List<GrantedAuthority> authorities = new ArrayList<>();
+        Optional.ofNullable(payload.get(TokenClaims.USER_TYPE.getValue()))
+                .map(userType -> UserType.valueOf(userType.toString()))
+                .ifPresent(userType -> authorities.add(new SimpleGrantedAuthority(userType.name())));
 
-        final UserType userType = UserType.valueOf(payload.get(TokenClaims.USER_TYPE.getValue()).toString());
+        return VerifiedToken.builder()
+                .id(payload.getId())
+                .expiresAt(jwt.getExpiresAt())
+                .jwt(jwt)
+                .authorities(Collections.unmodifiableList(authorities))
+                .build();
+    }
 
-        final List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(userType.name()));
+    /**
+     * Returns the claims of a verified token, completing a compact access token
+     * with the user claims it leaves out. Claims carried by the token take precedence.
+     */
+    private Map<String, Object> resolveClaims(final Claims payload) {
 
-        return UsernamePasswordAuthenticationToken
-                .authenticated(jwt, null, authorities);
+        final boolean isCompactAccessToken = payload.containsKey(TokenClaims.USER_TYPE.getValue())
+                && !payload.containsKey(TokenClaims.USER_EMAIL.getValue());
+        final Object userId = payload.get(TokenClaims.USER_ID.getValue());
+
+        if (!isCompactAccessToken || userId == null) {
+            return payload;
+        }
+
+        final Map<String, Object> claims = new HashMap<>(userSnapshotCache.getClaims(userId.toString()));
+        claims.putAll(payload);
+        return claims;
+    }
+
+    private Map<String, Object> getAccessTokenClaims(final Map<String, Object> claims) {
+
+        if (!TokenProfile.COMPACT.equals(tokenConfigurationParameter.getTokenProfile())) {
+            return claims;
+        }
+
+        final Map<String, Object> compactClaims = new HashMap<>(claims);
+        compactClaims.keySet().retainAll(TokenProfile.COMPACT.getClaims());
+        return compactClaims;
     }
 
     @Override
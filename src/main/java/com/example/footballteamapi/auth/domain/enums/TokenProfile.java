@@ -0,0 +1,21 @@
+package com.example.footballteamapi.auth.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Set of user claims written into access tokens.
+ * {@code COMPACT} keeps only the claims needed to authorize a request; the others are resolved on the server.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TokenProfile {
+
+    FULL(Set.of()),
+    COMPACT(Set.of(TokenClaims.USER_ID.getValue(), TokenClaims.USER_TYPE.getValue()));
+
+    private final Set<String> claims;
+
+}
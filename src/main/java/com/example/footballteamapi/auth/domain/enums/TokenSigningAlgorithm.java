@@ -0,0 +1,24 @@
+package com.example.footballteamapi.auth.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWS algorithms that tokens can be signed and verified with, together with the configuration parameters
+ * holding their key pair. The algorithm of a signed token follows from the type of its private key.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TokenSigningAlgorithm {
+
+    RS256("RSA", ConfigurationParameter.AUTH_PUBLIC_KEY, ConfigurationParameter.AUTH_PRIVATE_KEY),
+    ES256("EC", ConfigurationParameter.AUTH_ES256_PUBLIC_KEY, ConfigurationParameter.AUTH_ES256_PRIVATE_KEY),
+    EdDSA("Ed25519", ConfigurationParameter.AUTH_EDDSA_PUBLIC_KEY, ConfigurationParameter.AUTH_EDDSA_PRIVATE_KEY);
+
+    private final String keyAlgorithm;
+
+    private final ConfigurationParameter publicKeyParameter;
+
+    private final ConfigurationParameter privateKeyParameter;
+
+}
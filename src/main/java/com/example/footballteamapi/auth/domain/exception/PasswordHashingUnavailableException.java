@@ -0,0 +1,28 @@
+package com.example.footballteamapi.auth.domain.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -2391764508163620917L;
+
+    public static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    private static final String DEFAULT_MESSAGE = """
+            Authentication is busy, please retry later!
+            """;
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(final Duration retryAfter) {
+        super(DEFAULT_MESSAGE, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+}
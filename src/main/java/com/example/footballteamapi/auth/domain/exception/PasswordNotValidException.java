@@ -16,11 +16,11 @@ public class PasswordNotValidException extends RuntimeException {
             """;
 
     public PasswordNotValidException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public PasswordNotValidException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
@@ -16,11 +16,11 @@ public class RoleNotFoundException extends RuntimeException {
             """;
 
     public RoleNotFoundException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public RoleNotFoundException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
@@ -16,11 +16,11 @@ public class TokenAlreadyInvalidatedException extends RuntimeException {
             """;
 
     public TokenAlreadyInvalidatedException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public TokenAlreadyInvalidatedException(final String tokenId) {
-        super(DEFAULT_MESSAGE + " TokenID = " + tokenId);
+        super(DEFAULT_MESSAGE + " TokenID = " + tokenId, null, false, false);
     }
 
 }
@@ -0,0 +1,32 @@
+package com.example.footballteamapi.auth.domain.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Thrown when a client exceeds the login or register rate limit.
+ * It is thrown for every rejected attempt, so it skips the stack trace.
+ */
+@Getter
+public class TooManyAuthenticationAttemptsException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4820165395129946057L;
+
+    public static final HttpStatus STATUS = HttpStatus.TOO_MANY_REQUESTS;
+
+    private static final String DEFAULT_MESSAGE = """
+            Too many authentication attempts, please retry later!
+            """;
+
+    private final Duration retryAfter;
+
+    public TooManyAuthenticationAttemptsException(final Duration retryAfter) {
+        super(DEFAULT_MESSAGE, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+}
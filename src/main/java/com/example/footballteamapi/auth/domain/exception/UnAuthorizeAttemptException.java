@@ -16,7 +16,7 @@ public class UnAuthorizeAttemptException extends RuntimeException {
             """;
 
     public UnAuthorizeAttemptException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
 }
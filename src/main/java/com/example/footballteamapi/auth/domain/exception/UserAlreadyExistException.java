@@ -16,11 +16,11 @@ public class UserAlreadyExistException extends RuntimeException {
             """;
 
     public UserAlreadyExistException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public UserAlreadyExistException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
@@ -16,11 +16,11 @@ public class UserNotFoundException extends RuntimeException {
             """;
 
     public UserNotFoundException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public UserNotFoundException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
@@ -16,11 +16,11 @@ public class UserStatusNotValidException extends RuntimeException {
             """;
 
     public UserStatusNotValidException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public UserStatusNotValidException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
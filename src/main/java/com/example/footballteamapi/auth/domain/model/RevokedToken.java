@@ -0,0 +1,10 @@
+package com.example.footballteamapi.auth.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The two columns of a revoked token the revocation index needs, read without loading the whole entity.
+ * A {@code null} expiry means the token never expires.
+ */
+public record RevokedToken(String tokenId, LocalDateTime expiresAt) {
+}
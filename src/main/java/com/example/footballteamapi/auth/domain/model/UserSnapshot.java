@@ -0,0 +1,30 @@
+package com.example.footballteamapi.auth.domain.model;
+
+import com.example.footballteamapi.auth.domain.enums.UserStatus;
+import com.example.footballteamapi.auth.domain.enums.UserType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Immutable copy of the user fields needed on the token paths.
+ * {@code claims} holds the same representation a parsed token would carry: enums as their names and no null claims.
+ */
+@Getter
+@Builder
+public class UserSnapshot {
+
+    private final String id;
+
+    private final UserType userType;
+
+    private final UserStatus userStatus;
+
+    private final Map<String, Object> claims;
+
+    public boolean isActive() {
+        return UserStatus.ACTIVE.equals(userStatus);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.example.footballteamapi.auth.domain.model;
+
+import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A bearer token whose signature and expiry have already been checked.
+ * It is built once per token by {@code TokenService#verify} and then reused for the
+ * token id lookup, the revocation check and the authentication object.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private final String id;
+
+    private final Instant expiresAt;
+
+    private final Jwt jwt;
+
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Only access tokens carry the user type; a refresh token has the same signature and header,
+     * so it must be told apart by its claims before it is accepted as a bearer token.
+     */
+    public boolean isAccessToken() {
+        return jwt != null && jwt.hasClaim(TokenClaims.USER_TYPE.getValue());
+    }
+
+}
@@ -2,7 +2,14 @@ package com.example.footballteamapi.auth.infrastructure.adapter.filter;
 
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.application.service.TokenService;
+import com.example.footballteamapi.auth.domain.enums.TokenClaims;
 import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
+import com.example.footballteamapi.common.domain.model.RequestPrincipal;
+import com.example.footballteamapi.common.infrastructure.context.RequestPrincipalHolder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +20,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,7 +33,8 @@ public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter
 
     private final TokenService tokenService;
     private final InvalidTokenService invalidTokenService;
-
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserSnapshotCacheProperties userSnapshotCacheProperties;
 
     @Override
     protected void doFilterInternal(@NonNull final HttpServletRequest httpServletRequest,
@@ -36,25 +45,82 @@ public class CustomBearerTokenAuthenticationFilter extends OncePerRequestFilter
 
         final String authorizationHeader = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
 
+        try {
+            this.authenticate(authorizationHeader);
+            filterChain.doFilter(httpServletRequest,httpServletResponse);
+        } finally {
+            RequestPrincipalHolder.clear();
+        }
+
+    }
+
+    private void authenticate(final String authorizationHeader) {
+
         if (Token.isBearerToken(authorizationHeader)) {
 
             final String jwt = Token.getJwt(authorizationHeader);
 
-            tokenService.verifyAndValidate(jwt);
+            final VerifiedToken verifiedToken = tokenService.verify(jwt);
+
+            if (!verifiedToken.isAccessToken()) {
+                log.debug("Token {} is not an access token", verifiedToken.getId());
+                return;
+            }
+
+            invalidTokenService.checkForInvalidityOfToken(verifiedToken.getId());
+
+            if (this.isUserActive(verifiedToken)) {
+
+                final UsernamePasswordAuthenticationToken authentication = tokenService
+                        .getAuthentication(verifiedToken);
 
-            final String tokenId = tokenService.getId(jwt);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                RequestPrincipalHolder.set(toRequestPrincipal(verifiedToken));
 
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
+            }
 
-            final UsernamePasswordAuthenticationToken authentication = tokenService
-                    .getAuthentication(jwt);
+        }
+
+    }
+
+    /**
+     * Reads the caller once per request so that auditing and logging do not walk the token claims again.
+     */
+    private static RequestPrincipal toRequestPrincipal(final VerifiedToken verifiedToken) {
+        final Jwt jwt = verifiedToken.getJwt();
+        if (jwt == null) {
+            return new RequestPrincipal(null, null);
+        }
+        return new RequestPrincipal(
+                jwt.getClaimAsString(TokenClaims.USER_ID.getValue()),
+                jwt.getClaimAsString(TokenClaims.USER_EMAIL.getValue())
+        );
+    }
+
+    /**
+     * When {@code auth.user-snapshot-cache.check-user-status-on-request} is enabled, a token whose user is
+     * missing or no longer active is left unauthenticated, so the request ends with 401.
+     */
+    private boolean isUserActive(final VerifiedToken verifiedToken) {
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (!userSnapshotCacheProperties.isCheckUserStatusOnRequest()) {
+            return true;
+        }
 
+        final String userId = verifiedToken.getJwt().getClaimAsString(TokenClaims.USER_ID.getValue());
+        if (userId == null) {
+            return false;
         }
 
-        filterChain.doFilter(httpServletRequest,httpServletResponse);
+        final boolean isActive = userSnapshotCache.find(userId)
+                .map(UserSnapshot::isActive)
+                .orElse(false);
+
+        if (!isActive) {
+            log.debug("Token {} belongs to a missing or inactive user", verifiedToken.getId());
+        }
 
+        return isActive;
     }
 
 }
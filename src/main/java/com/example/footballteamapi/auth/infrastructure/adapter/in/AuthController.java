@@ -11,10 +11,12 @@ import com.example.footballteamapi.auth.application.service.RefreshTokenService;
 import com.example.footballteamapi.auth.application.service.RegisterService;
 import com.example.footballteamapi.auth.domain.model.Token;
 import com.example.footballteamapi.auth.infrastructure.mapper.TokenToTokenResponseMapper;
+import com.example.footballteamapi.auth.infrastructure.security.AuthRateLimiter;
 import com.example.footballteamapi.common.application.dto.response.CustomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
@@ -38,6 +40,8 @@ public class AuthController {
 
     private final LogoutService logoutService;
 
+    private final AuthRateLimiter authRateLimiter;
+
     private final TokenToTokenResponseMapper tokenToTokenResponseMapper = TokenToTokenResponseMapper.initialize();
 
     @Operation(
@@ -46,11 +50,14 @@ public class AuthController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "User successfully registered"),
                     @ApiResponse(responseCode = "400", description = "Invalid request data"),
-                    @ApiResponse(responseCode = "409", description = "User already exists")
+                    @ApiResponse(responseCode = "409", description = "User already exists"),
+                    @ApiResponse(responseCode = "429", description = "Too many registration attempts")
             }
     )
     @PostMapping("/register")
-    public CustomResponse<Void> registerAdmin(@RequestBody @Valid final RegisterRequest registerRequest) {
+    public CustomResponse<Void> registerAdmin(@RequestBody @Valid final RegisterRequest registerRequest,
+                                              final HttpServletRequest httpServletRequest) {
+        authRateLimiter.acquire(AuthRateLimiter.REGISTER, registerRequest.getEmail(), httpServletRequest.getRemoteAddr());
         registerService.registerUser(registerRequest);
         return CustomResponse.SUCCESS;
     }
@@ -60,11 +67,14 @@ public class AuthController {
             description = "Authenticates a user and returns an access and refresh token.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Login successful"),
-                    @ApiResponse(responseCode = "401", description = "Invalid login credentials")
+                    @ApiResponse(responseCode = "401", description = "Invalid login credentials"),
+                    @ApiResponse(responseCode = "429", description = "Too many login attempts")
             }
     )
     @PostMapping("/login")
-    public CustomResponse<TokenResponse> loginAdmin(@RequestBody @Valid final LoginRequest loginRequest) {
+    public CustomResponse<TokenResponse> loginAdmin(@RequestBody @Valid final LoginRequest loginRequest,
+                                                    final HttpServletRequest httpServletRequest) {
+        authRateLimiter.acquire(AuthRateLimiter.LOGIN, loginRequest.getEmail(), httpServletRequest.getRemoteAddr());
         final Token token = loginService.login(loginRequest);
         final TokenResponse tokenResponse = tokenToTokenResponseMapper.map(token);
         return CustomResponse.successOf(tokenResponse);
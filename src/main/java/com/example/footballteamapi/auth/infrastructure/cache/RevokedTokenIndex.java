@@ -0,0 +1,199 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
+import com.example.footballteamapi.auth.domain.model.RevokedToken;
+import com.example.footballteamapi.auth.infrastructure.config.RevokedTokenIndexProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
+import com.example.footballteamapi.auth.infrastructure.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local view of the {@code INVALID_TOKEN} table used to answer revocation checks without a database round trip.
+ * A Bloom filter answers most lookups for valid tokens; positives are confirmed against the exact set of ids.
+ * The index is loaded when the application is ready, updated by local revocations, and delta-synced from the table
+ * so that revocations done on other replicas become visible within one sync interval.
+ * Until the first load succeeds, lookups fall back to the database for ids not revoked locally.
+ * Ids of expired tokens are dropped on each sync, since an expired token is rejected before the revocation check.
+ * A Bloom filter cannot drop them, so it is rebuilt from the live ids every {@code bloomFilterRebuildInterval},
+ * or as soon as more ids were put into it than it was sized for, and swapped in once complete.
+ */
+@Slf4j
+@Component
+public class RevokedTokenIndex {
+
+    private final InvalidTokenRepository invalidTokenRepository;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final RevokedTokenIndexProperties revokedTokenIndexProperties;
+
+    private final Map<String, LocalDateTime> expiresAtByRevokedTokenId = new ConcurrentHashMap<>();
+
+    private final Counter falsePositiveCounter;
+
+    /**
+     * Guards putting ids into the Bloom filter against a rebuild, so an id added meanwhile is not left out of it.
+     */
+    private final Object bloomFilterLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+
+    private long bloomFilterCapacity;
+
+    private long bloomFilterInsertions;
+
+    private LocalDateTime bloomFilterRebuiltAt;
+
+    private volatile boolean loaded;
+
+    private LocalDateTime lastSynchronizedAt;
+
+    public RevokedTokenIndex(final InvalidTokenRepository invalidTokenRepository,
+                             final VerifiedTokenCache verifiedTokenCache,
+                             final RevokedTokenIndexProperties revokedTokenIndexProperties,
+                             final MeterRegistry meterRegistry) {
+
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedTokenIndexProperties = revokedTokenIndexProperties;
+        this.bloomFilterCapacity = revokedTokenIndexProperties.getExpectedInsertions();
+        this.bloomFilter = new BloomFilter(bloomFilterCapacity, revokedTokenIndexProperties.getFalsePositiveProbability());
+        this.bloomFilterRebuiltAt = LocalDateTime.now();
+
+        Gauge.builder("auth.revoked.token.index.size", expiresAtByRevokedTokenId, Map::size)
+                .description("Number of revoked token ids held in memory")
+                .register(meterRegistry);
+
+        this.falsePositiveCounter = Counter.builder("auth.revoked.token.index.false.positives")
+                .description("Bloom filter hits that were not revoked token ids")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(final String tokenId) {
+
+        if (!loaded) {
+            return expiresAtByRevokedTokenId.containsKey(tokenId)
+                    || invalidTokenRepository.findByTokenId(tokenId).isPresent();
+        }
+
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        final boolean revoked = expiresAtByRevokedTokenId.containsKey(tokenId);
+        if (!revoked) {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    public void addAll(final Collection<InvalidTokenEntity> invalidTokenEntities) {
+        invalidTokenEntities.forEach(invalidTokenEntity ->
+                this.add(invalidTokenEntity.getTokenId(), invalidTokenEntity.getExpiresAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        this.synchronize();
+    }
+
+    @Scheduled(
+            initialDelayString = "${auth.revoked-token-index.sync-interval:30s}",
+            fixedDelayString = "${auth.revoked-token-index.sync-interval:30s}"
+    )
+    public synchronized void synchronize() {
+
+        final LocalDateTime synchronizationStartedAt = LocalDateTime.now();
+
+        try {
+
+            final List<RevokedToken> revokedTokens = lastSynchronizedAt == null
+                    ? invalidTokenRepository.findRevokedTokensNotExpiredAt(synchronizationStartedAt)
+                    : invalidTokenRepository.findRevokedTokensCreatedSince(
+                            lastSynchronizedAt.minus(revokedTokenIndexProperties.getSyncOverlap())
+                    );
+
+            final List<String> newlyRevokedTokenIds = revokedTokens.stream()
+                    .filter(revokedToken -> this.add(revokedToken.tokenId(), revokedToken.expiresAt()))
+                    .map(RevokedToken::tokenId)
+                    .toList();
+
+            verifiedTokenCache.evictByTokenIds(newlyRevokedTokenIds);
+
+            expiresAtByRevokedTokenId.values().removeIf(expiresAt -> expiresAt.isBefore(synchronizationStartedAt));
+
+            if (this.isBloomFilterStale(synchronizationStartedAt)) {
+                this.rebuildBloomFilter(synchronizationStartedAt);
+            }
+
+            if (!loaded) {
+                log.info("Revoked token index loaded with {} token ids", expiresAtByRevokedTokenId.size());
+            }
+
+            lastSynchronizedAt = synchronizationStartedAt;
+            loaded = true;
+
+        } catch (Exception exception) {
+            log.warn("Revoked token index synchronization failed: {}", exception.getMessage());
+        }
+
+    }
+
+    private boolean add(final String tokenId, final LocalDateTime expiresAt) {
+        synchronized (bloomFilterLock) {
+            final boolean added = expiresAtByRevokedTokenId
+                    .put(tokenId, Objects.requireNonNullElse(expiresAt, LocalDateTime.MAX)) == null;
+            bloomFilter.put(tokenId);
+            bloomFilterInsertions++;
+            return added;
+        }
+    }
+
+    private boolean isBloomFilterStale(final LocalDateTime now) {
+        synchronized (bloomFilterLock) {
+            return bloomFilterInsertions > bloomFilterCapacity
+                    || !now.isBefore(bloomFilterRebuiltAt.plus(revokedTokenIndexProperties.getBloomFilterRebuildInterval()));
+        }
+    }
+
+    /**
+     * Builds a new filter from the live ids and swaps it in. Lookups keep using the old filter until the new one
+     * holds every id, and ids added meanwhile wait on the lock, so no revoked id is ever missing from the filter.
+     */
+    private void rebuildBloomFilter(final LocalDateTime now) {
+
+        synchronized (bloomFilterLock) {
+
+            final long capacity = Math.max(
+                    revokedTokenIndexProperties.getExpectedInsertions(),
+                    2L * expiresAtByRevokedTokenId.size()
+            );
+            final BloomFilter rebuiltBloomFilter = new BloomFilter(
+                    capacity, revokedTokenIndexProperties.getFalsePositiveProbability()
+            );
+            expiresAtByRevokedTokenId.keySet().forEach(rebuiltBloomFilter::put);
+
+            bloomFilter = rebuiltBloomFilter;
+            bloomFilterCapacity = capacity;
+            bloomFilterInsertions = expiresAtByRevokedTokenId.size();
+            bloomFilterRebuiltAt = now;
+        }
+
+        log.debug("Revoked token Bloom filter rebuilt with {} token ids", expiresAtByRevokedTokenId.size());
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.application.port.out.UserRepository;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-bounded cache of {@link UserSnapshot}s keyed by user id.
+ * Entries are invalidated when the user row changes (see {@code UserSnapshotInvalidationListener}), reloaded in
+ * the background once {@code refreshAfterWrite} has passed so changes made on other instances show up within
+ * that interval, and dropped after {@code expireAfterWrite}. Unknown users are not cached.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final String CACHE_NAME = "userSnapshotCache";
+
+    private final UserRepository userRepository;
+
+    private final LoadingCache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(final UserRepository userRepository,
+                             final UserSnapshotCacheProperties userSnapshotCacheProperties,
+                             final MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(userSnapshotCacheProperties.getMaximumSize())
+                .refreshAfterWrite(userSnapshotCacheProperties.getRefreshAfterWrite())
+                .expireAfterWrite(userSnapshotCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<UserSnapshot> find(final String userId) {
+        return Optional.ofNullable(cache.get(userId));
+    }
+
+    public Map<String, Object> getClaims(final String userId) {
+        return this.find(userId)
+                .map(UserSnapshot::getClaims)
+                .orElse(Map.of());
+    }
+
+    public void invalidate(final String userId) {
+        cache.invalidate(userId);
+    }
+
+    private UserSnapshot load(final String userId) {
+        return userRepository.findById(userId)
+                .map(this::toSnapshot)
+                .orElse(null);
+    }
+
+    private UserSnapshot toSnapshot(final UserEntity userEntity) {
+
+        final Map<String, Object> claims = new HashMap<>();
+        userEntity.getClaims().forEach((name, value) -> {
+            if (value != null) {
+                claims.put(name, value instanceof Enum<?> enumValue ? enumValue.name() : value);
+            }
+        });
+
+        return UserSnapshot.builder()
+                .id(userEntity.getId())
+                .userType(userEntity.getUserType())
+                .userStatus(userEntity.getUserStatus())
+                .claims(Collections.unmodifiableMap(claims))
+                .build();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.config.VerifiedTokenCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of verified bearer tokens keyed by the SHA-256 digest of the raw token.
+ * Every entry expires exactly when its token's {@code exp} passes, and is dropped as soon as the
+ * token id is revoked, so a hit can safely skip the signature verification.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedTokenCache";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    private final Map<String, String> digestsByTokenId = new ConcurrentHashMap<>();
+
+    private final Counter revocationCounter;
+
+    public VerifiedTokenCache(final VerifiedTokenCacheProperties verifiedTokenCacheProperties,
+                              final MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheProperties.getMaximumSize())
+                .expireAfter(new ExpiresAtExpiry())
+                .executor(Runnable::run)
+                .removalListener((String digest, VerifiedToken verifiedToken, RemovalCause cause) ->
+                        Optional.ofNullable(verifiedToken)
+                                .map(VerifiedToken::getId)
+                                .ifPresent(tokenId -> digestsByTokenId.remove(tokenId, digest))
+                )
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.revocationCounter = Counter.builder("cache.revocations")
+                .description("Entries removed because their token id was revoked")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public VerifiedToken get(final String token, final Function<String, VerifiedToken> verifier) {
+
+        return cache.get(digest(token), digest -> {
+            final VerifiedToken verifiedToken = verifier.apply(token);
+            if (verifiedToken.getId() != null) {
+                digestsByTokenId.put(verifiedToken.getId(), digest);
+            }
+            return verifiedToken;
+        });
+    }
+
+    public void evictByTokenIds(final Collection<String> tokenIds) {
+        tokenIds.stream()
+                .map(digestsByTokenId::remove)
+                .filter(Objects::nonNull)
+                .forEach(digest -> {
+                    cache.invalidate(digest);
+                    revocationCounter.increment();
+                });
+    }
+
+    private static String digest(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static final class ExpiresAtExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String digest, final VerifiedToken verifiedToken, final long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), verifiedToken.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String digest, final VerifiedToken verifiedToken,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(digest, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String digest, final VerifiedToken verifiedToken,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
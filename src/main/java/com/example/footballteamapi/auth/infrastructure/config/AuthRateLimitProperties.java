@@ -0,0 +1,44 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class AuthRateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maximumKeys = 100_000;
+
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+
+    private Rate email = new Rate(10, Duration.ofMinutes(1));
+
+    private Rate clientIp = new Rate(60, Duration.ofMinutes(1));
+
+    @Getter
+    @Setter
+    public static class Rate {
+
+        private long capacity;
+
+        private Duration refillPeriod;
+
+        public Rate() {
+        }
+
+        public Rate(final long capacity, final Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+
+    }
+
+}
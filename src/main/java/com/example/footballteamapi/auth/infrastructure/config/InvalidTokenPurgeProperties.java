@@ -0,0 +1,22 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.invalid-token-purge")
+public class InvalidTokenPurgeProperties {
+
+    private int batchSize = 500;
+
+    private int maxBatchesPerRun = 200;
+
+    private Duration interval = Duration.ofMinutes(10);
+
+}
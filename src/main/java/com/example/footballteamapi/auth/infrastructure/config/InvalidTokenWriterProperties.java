@@ -0,0 +1,26 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.invalid-token-writer")
+public class InvalidTokenWriterProperties {
+
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 100;
+
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private int retryAttempts = 5;
+
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+}
@@ -0,0 +1,22 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    private int queueCapacity = 64;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,30 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.revoked-token-index")
+public class RevokedTokenIndexProperties {
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveProbability = 0.01;
+
+    private Duration syncInterval = Duration.ofSeconds(30);
+
+    private Duration syncOverlap = Duration.ofMinutes(2);
+
+    /**
+     * The Bloom filter cannot forget expired ids, so it is rebuilt from the live ids this often,
+     * and sooner once more ids were put into it than it was sized for.
+     */
+    private Duration bloomFilterRebuildInterval = Duration.ofHours(1);
+
+}
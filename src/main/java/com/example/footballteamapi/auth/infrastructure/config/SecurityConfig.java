@@ -1,7 +1,9 @@
 package com.example.footballteamapi.auth.infrastructure.config;
 
 import com.example.footballteamapi.auth.infrastructure.adapter.filter.CustomBearerTokenAuthenticationFilter;
+import com.example.footballteamapi.auth.infrastructure.security.BoundedPasswordEncoder;
 import com.example.footballteamapi.auth.infrastructure.security.CustomAuthenticationEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -74,8 +76,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(final PasswordHashingProperties passwordHashingProperties,
+                                           final MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingProperties, meterRegistry);
     }
 
 }
@@ -1,10 +1,16 @@
 package com.example.footballteamapi.auth.infrastructure.config;
 
 import com.example.footballteamapi.auth.domain.enums.ConfigurationParameter;
+import com.example.footballteamapi.auth.domain.enums.TokenProfile;
+import com.example.footballteamapi.auth.domain.enums.TokenSigningAlgorithm;
 import com.example.footballteamapi.auth.infrastructure.utils.KeyConverter;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 
@@ -15,11 +21,22 @@ public class TokenConfigurationParameter {
     private final String issuer;
     private final int accessTokenExpireMinute;
     private final int refreshTokenExpireDay;
+    private final TokenSigningAlgorithm signingAlgorithm;
+    private final TokenProfile tokenProfile;
     private final PublicKey publicKey;
     private final PrivateKey privateKey;
 
 
     public TokenConfigurationParameter() {
+        this(
+                ConfigurationParameter.AUTH_SIGNING_ALGORITHM.getDefaultValue(),
+                ConfigurationParameter.AUTH_TOKEN_PROFILE.getDefaultValue()
+        );
+    }
+
+    @Autowired
+    public TokenConfigurationParameter(@Value("${auth.token.signing-algorithm:}") final String signingAlgorithm,
+                                       @Value("${auth.token.profile:}") final String tokenProfile) {
 
         this.issuer = ConfigurationParameter.ISSUER.getDefaultValue();
 
@@ -31,15 +48,36 @@ public class TokenConfigurationParameter {
                 ConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.getDefaultValue()
         );
 
+        this.signingAlgorithm = TokenSigningAlgorithm.valueOf(
+                StringUtils.defaultIfBlank(signingAlgorithm, ConfigurationParameter.AUTH_SIGNING_ALGORITHM.getDefaultValue())
+        );
+
+        this.tokenProfile = TokenProfile.valueOf(
+                StringUtils.defaultIfBlank(tokenProfile, ConfigurationParameter.AUTH_TOKEN_PROFILE.getDefaultValue())
+        );
+
         this.publicKey = KeyConverter.convertPublicKey(
-                ConfigurationParameter.AUTH_PUBLIC_KEY.getDefaultValue()
+                this.signingAlgorithm.getPublicKeyParameter().getDefaultValue()
         );
 
         this.privateKey = KeyConverter.convertPrivateKey(
-                ConfigurationParameter.AUTH_PRIVATE_KEY.getDefaultValue()
+                this.signingAlgorithm.getPrivateKeyParameter().getDefaultValue()
         );
 
+        this.checkKeyAlgorithm(this.publicKey);
+        this.checkKeyAlgorithm(this.privateKey);
+
     }
 
+    private void checkKeyAlgorithm(final Key key) {
+        final String keyAlgorithm = key.getAlgorithm();
+        final boolean matches = signingAlgorithm.getKeyAlgorithm().equalsIgnoreCase(keyAlgorithm)
+                || (TokenSigningAlgorithm.EdDSA.equals(signingAlgorithm) && "EdDSA".equalsIgnoreCase(keyAlgorithm));
+        if (!matches) {
+            throw new IllegalStateException(
+                    "Key algorithm " + keyAlgorithm + " does not match signing algorithm " + signingAlgorithm
+            );
+        }
+    }
 
 }
@@ -0,0 +1,24 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.user-snapshot-cache")
+public class UserSnapshotCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    private Duration refreshAfterWrite = Duration.ofSeconds(30);
+
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    private boolean checkUserStatusOnRequest = false;
+
+}
@@ -0,0 +1,16 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.verified-token-cache")
+public class VerifiedTokenCacheProperties {
+
+    private long maximumSize = 10_000;
+
+}
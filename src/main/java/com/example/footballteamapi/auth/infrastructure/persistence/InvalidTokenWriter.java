@@ -0,0 +1,66 @@
+package com.example.footballteamapi.auth.infrastructure.persistence;
+
+import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
+import com.example.footballteamapi.auth.infrastructure.config.InvalidTokenWriterProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
+import com.example.footballteamapi.common.infrastructure.batch.WriteBehindQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes invalid tokens to the database behind the request thread.
+ * Rows are queued and inserted in batches by {@link WriteBehindQueue}; when the queue is full they are written
+ * synchronously instead. A batch that fails is retried with backoff and then inserted row by row, and the queue is
+ * drained on shutdown, so a revocation only gets lost if its own row cannot be inserted after every retry.
+ */
+@Component
+public class InvalidTokenWriter {
+
+    private final InvalidTokenRepository invalidTokenRepository;
+
+    private final WriteBehindQueue<InvalidTokenEntity> writeBehindQueue;
+
+    public InvalidTokenWriter(final InvalidTokenRepository invalidTokenRepository,
+                              final InvalidTokenWriterProperties invalidTokenWriterProperties,
+                              final MeterRegistry meterRegistry) {
+
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.writeBehindQueue = new WriteBehindQueue<>(
+                "invalidToken",
+                invalidTokenWriterProperties.getQueueCapacity(),
+                invalidTokenWriterProperties.getBatchSize(),
+                Duration.ZERO,
+                invalidTokenWriterProperties.getShutdownTimeout(),
+                new WriteBehindQueue.Retry(
+                        invalidTokenWriterProperties.getRetryAttempts(),
+                        invalidTokenWriterProperties.getRetryBackoff(),
+                        true
+                ),
+                invalidTokenRepository::saveAll,
+                meterRegistry
+        );
+    }
+
+    public void write(final Collection<InvalidTokenEntity> invalidTokenEntities) {
+
+        final List<InvalidTokenEntity> rejectedInvalidTokenEntities = invalidTokenEntities.stream()
+                .filter(invalidTokenEntity -> !writeBehindQueue.offer(invalidTokenEntity))
+                .toList();
+
+        if (!rejectedInvalidTokenEntities.isEmpty()) {
+            invalidTokenRepository.saveAll(rejectedInvalidTokenEntities);
+        }
+
+    }
+
+    @PreDestroy
+    public void close() {
+        writeBehindQueue.close();
+    }
+
+}
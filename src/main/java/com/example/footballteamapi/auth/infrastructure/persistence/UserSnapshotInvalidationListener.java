@@ -0,0 +1,53 @@
+package com.example.footballteamapi.auth.infrastructure.persistence;
+
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts a user from {@link UserSnapshotCache} whenever its row is written.
+ * The entry is evicted right away and, inside a transaction, once more after commit, so a concurrent read
+ * cannot put the pre-commit row back into the cache.
+ * The cache is looked up lazily because it depends on the repository, which is created after this listener.
+ */
+@Component
+public class UserSnapshotInvalidationListener {
+
+    private final ObjectProvider<UserSnapshotCache> userSnapshotCacheProvider;
+
+    public UserSnapshotInvalidationListener(final ObjectProvider<UserSnapshotCache> userSnapshotCacheProvider) {
+        this.userSnapshotCacheProvider = userSnapshotCacheProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(final UserEntity userEntity) {
+
+        final UserSnapshotCache userSnapshotCache = userSnapshotCacheProvider.getIfAvailable();
+        final String userId = userEntity.getId();
+
+        if (userSnapshotCache == null || userId == null) {
+            return;
+        }
+
+        userSnapshotCache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userSnapshotCache.invalidate(userId);
+                }
+            });
+        }
+
+    }
+
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
@@ -12,7 +14,13 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "INVALID_TOKEN")
+@Table(
+        name = "INVALID_TOKEN",
+        indexes = {
+                @Index(name = "IDX_INVALID_TOKEN_TOKEN_ID", columnList = "TOKEN_ID"),
+                @Index(name = "IDX_INVALID_TOKEN_EXPIRES_AT", columnList = "EXPIRES_AT")
+        }
+)
 public class InvalidTokenEntity extends BaseEntity {
 
     @Id
@@ -23,4 +31,7 @@ public class InvalidTokenEntity extends BaseEntity {
     @Column(name = "TOKEN_ID")
     private String tokenId;
 
+    @Column(name = "EXPIRES_AT")
+    private LocalDateTime expiresAt;
+
 }
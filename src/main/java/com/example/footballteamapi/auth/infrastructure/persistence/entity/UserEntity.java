@@ -3,6 +3,7 @@ package com.example.footballteamapi.auth.infrastructure.persistence.entity;
 import com.example.footballteamapi.auth.domain.enums.TokenClaims;
 import com.example.footballteamapi.auth.domain.enums.UserStatus;
 import com.example.footballteamapi.auth.domain.enums.UserType;
+import com.example.footballteamapi.auth.infrastructure.persistence.UserSnapshotInvalidationListener;
 import com.example.footballteamapi.common.infrastructure.persistence.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,6 +21,7 @@ import java.util.Map;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Table(name = "USERS")
+@EntityListeners(UserSnapshotInvalidationListener.class)
 public class UserEntity extends BaseEntity {
 
     @Id
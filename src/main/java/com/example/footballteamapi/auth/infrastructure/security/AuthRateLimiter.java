@@ -0,0 +1,123 @@
+package com.example.footballteamapi.auth.infrastructure.security;
+
+import com.example.footballteamapi.auth.domain.exception.TooManyAuthenticationAttemptsException;
+import com.example.footballteamapi.auth.infrastructure.config.AuthRateLimitProperties;
+import com.example.footballteamapi.common.infrastructure.ratelimit.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Throttles the login and register endpoints with one {@link TokenBucket} per client IP and one per email.
+ * Buckets live in a size-bounded cache and are dropped after {@code expireAfterAccess} without use;
+ * a dropped bucket comes back full, which is the state it would have refilled to anyway.
+ * The IP bucket is checked first so a flood of different emails from one address is cut off
+ * before it can fill the cache with email buckets.
+ * Callers pass {@code HttpServletRequest#getRemoteAddr()}, which Tomcat resolves from {@code X-Forwarded-For}
+ * only for requests coming from a trusted proxy ({@code server.tomcat.remoteip.internal-proxies}).
+ * The rejection counters are registered up front, so a flood of rejected attempts only bumps a counter.
+ */
+@Component
+public class AuthRateLimiter {
+
+    public static final String LOGIN = "login";
+
+    public static final String REGISTER = "register";
+
+    private static final String CACHE_NAME = "authRateLimitBuckets";
+
+    private static final String CLIENT_IP_KEY = "client-ip";
+
+    private static final String EMAIL_KEY = "email";
+
+    private final AuthRateLimitProperties authRateLimitProperties;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Rejection counters of each endpoint, one map per key type.
+     */
+    private final Map<String, Counter> clientIpRejections = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> emailRejections = new ConcurrentHashMap<>();
+
+    public AuthRateLimiter(final AuthRateLimitProperties authRateLimitProperties,
+                           final MeterRegistry meterRegistry) {
+
+        this.authRateLimitProperties = authRateLimitProperties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(authRateLimitProperties.getMaximumKeys())
+                .expireAfterAccess(authRateLimitProperties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+
+        for (final String endpoint : List.of(LOGIN, REGISTER)) {
+            clientIpRejections.put(endpoint, this.rejectedCounter(endpoint, CLIENT_IP_KEY));
+            emailRejections.put(endpoint, this.rejectedCounter(endpoint, EMAIL_KEY));
+        }
+    }
+
+    /**
+     * Takes one attempt for the given endpoint from the client IP and the email buckets.
+     *
+     * @throws TooManyAuthenticationAttemptsException when either bucket is empty
+     */
+    public void acquire(final String endpoint, final String email, final String clientIp) {
+
+        if (!authRateLimitProperties.isEnabled()) {
+            return;
+        }
+
+        this.acquire(endpoint, CLIENT_IP_KEY, clientIp, authRateLimitProperties.getClientIp(), clientIpRejections);
+        this.acquire(endpoint, EMAIL_KEY, normalize(email), authRateLimitProperties.getEmail(), emailRejections);
+    }
+
+    private void acquire(final String endpoint,
+                         final String keyType,
+                         final String key,
+                         final AuthRateLimitProperties.Rate rate,
+                         final Map<String, Counter> rejections) {
+
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+
+        final TokenBucket tokenBucket = buckets.get(
+                endpoint + ':' + keyType + ':' + key,
+                ignored -> new TokenBucket(rate.getCapacity(), rate.getRefillPeriod())
+        );
+
+        final Duration retryAfter = tokenBucket.tryConsume();
+        if (!retryAfter.isZero()) {
+            rejections.computeIfAbsent(endpoint, ignored -> this.rejectedCounter(endpoint, keyType)).increment();
+            throw new TooManyAuthenticationAttemptsException(retryAfter);
+        }
+    }
+
+    private Counter rejectedCounter(final String endpoint, final String keyType) {
+        return Counter.builder("auth.rate.limit.rejected")
+                .tag("endpoint", endpoint)
+                .tag("key", keyType)
+                .description("Authentication attempts rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    private static String normalize(final String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.example.footballteamapi.auth.infrastructure.security;
 
 import com.example.footballteamapi.common.domain.model.CustomError;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,7 +14,8 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.text.DateFormat;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 @Component
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
@@ -23,6 +26,15 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         OBJECT_MAPPER.registerModule(new JavaTimeModule());
     }
 
+    private static final String TIME_FIELD = "time";
+
+    private static final byte[] BODY_PREFIX = ("{\"" + TIME_FIELD + "\":").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Everything after the time field of the 401 body, serialized once; only the time changes between responses.
+     */
+    private static final byte[] BODY_SUFFIX = serializeUnauthorizedBodyWithoutTime();
+
     @Override
     public void commence(final HttpServletRequest httpServletRequest,
                          final HttpServletResponse httpServletResponse,
@@ -31,18 +43,36 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
         httpServletResponse.setStatus(HttpStatus.UNAUTHORIZED.value());
 
+        final byte[] time = OBJECT_MAPPER.writeValueAsBytes(LocalDateTime.now());
+
+        final byte[] responseBody = new byte[BODY_PREFIX.length + time.length + BODY_SUFFIX.length];
+        System.arraycopy(BODY_PREFIX, 0, responseBody, 0, BODY_PREFIX.length);
+        System.arraycopy(time, 0, responseBody, BODY_PREFIX.length, time.length);
+        System.arraycopy(BODY_SUFFIX, 0, responseBody, BODY_PREFIX.length + time.length, BODY_SUFFIX.length);
+
+        httpServletResponse.setContentLength(responseBody.length);
+        httpServletResponse.getOutputStream()
+                .write(responseBody);
+
+    }
+
+    private static byte[] serializeUnauthorizedBodyWithoutTime() {
+
         final CustomError customError = CustomError.builder()
                 .header(CustomError.Header.AUTH_ERROR.getName())
                 .httpStatus(HttpStatus.UNAUTHORIZED)
                 .isSuccess(false)
                 .build();
 
-        final String responseBody = OBJECT_MAPPER
-                .writer(DateFormat.getDateInstance())
-                .writeValueAsString(customError);
+        final ObjectNode body = OBJECT_MAPPER.valueToTree(customError);
+        body.remove(TIME_FIELD);
 
-        httpServletResponse.getOutputStream()
-                .write(responseBody.getBytes());
+        try {
+            // Drop the opening brace and continue the object after the time field
+            return ("," + OBJECT_MAPPER.writeValueAsString(body).substring(1)).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unauthorized response body could not be serialized", exception);
+        }
 
     }
 
@@ -0,0 +1,86 @@
+package com.example.footballteamapi.auth.infrastructure.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, lock-free Bloom filter for string keys.
+ * A negative answer is definite; a positive answer has to be confirmed against the exact set.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+
+    private final long numberOfBits;
+
+    private final int numberOfHashFunctions;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+
+        final long insertions = Math.max(1L, expectedInsertions);
+
+        final long optimalNumberOfBits = (long) Math.ceil(
+                -insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))
+        );
+
+        this.numberOfBits = Math.max(Long.SIZE, (optimalNumberOfBits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        this.bits = new AtomicLongArray(Math.toIntExact(numberOfBits / Long.SIZE));
+        this.numberOfHashFunctions = Math.max(1, (int) Math.round((double) numberOfBits / insertions * Math.log(2)));
+    }
+
+    public void put(final String value) {
+
+        final long hash1 = hash(value);
+        final long hash2 = mix(hash1 ^ FNV_PRIME);
+
+        for (int i = 0; i < numberOfHashFunctions; i++) {
+            final long bitIndex = Math.floorMod(hash1 + i * hash2, numberOfBits);
+            final int wordIndex = (int) (bitIndex >>> 6);
+            final long mask = 1L << bitIndex;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(final String value) {
+
+        final long hash1 = hash(value);
+        final long hash2 = mix(hash1 ^ FNV_PRIME);
+
+        for (int i = 0; i < numberOfHashFunctions; i++) {
+            final long bitIndex = Math.floorMod(hash1 + i * hash2, numberOfBits);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long hash(final String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -3,6 +3,8 @@ package com.example.footballteamapi.auth.infrastructure.utils;
 import lombok.experimental.UtilityClass;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 
@@ -11,6 +13,11 @@ import java.io.StringReader;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 
+/**
+ * Converts PEM encoded RSA, EC and Ed25519 keys.
+ * Public keys can be given as {@code PUBLIC KEY} or as a {@code CERTIFICATE};
+ * private keys as PKCS#8 {@code PRIVATE KEY}, {@code RSA PRIVATE KEY} or {@code EC PRIVATE KEY}.
+ */
 @UtilityClass
 public class KeyConverter {
 
@@ -18,8 +25,10 @@ public class KeyConverter {
 
         final StringReader keyReader = new StringReader(publicPemKey);
         try {
-            SubjectPublicKeyInfo publicKeyInfo = SubjectPublicKeyInfo
-                    .getInstance(new PEMParser(keyReader).readObject());
+            final Object pemObject = new PEMParser(keyReader).readObject();
+            final SubjectPublicKeyInfo publicKeyInfo = pemObject instanceof X509CertificateHolder certificateHolder
+                    ? certificateHolder.getSubjectPublicKeyInfo()
+                    : SubjectPublicKeyInfo.getInstance(pemObject);
             return new JcaPEMKeyConverter().getPublicKey(publicKeyInfo);
         } catch (IOException exception) {
             throw new RuntimeException(exception);
@@ -31,8 +40,10 @@ public class KeyConverter {
 
         StringReader keyReader = new StringReader(privatePemKey);
         try {
-            PrivateKeyInfo privateKeyInfo = PrivateKeyInfo
-                    .getInstance(new PEMParser(keyReader).readObject());
+            final Object pemObject = new PEMParser(keyReader).readObject();
+            final PrivateKeyInfo privateKeyInfo = pemObject instanceof PEMKeyPair pemKeyPair
+                    ? pemKeyPair.getPrivateKeyInfo()
+                    : PrivateKeyInfo.getInstance(pemObject);
             return new JcaPEMKeyConverter().getPrivateKey(privateKeyInfo);
         } catch (IOException exception) {
             throw new RuntimeException(exception);
@@ -0,0 +1,9 @@
+package com.example.footballteamapi.common.domain.model;
+
+/**
+ * The authenticated caller of the current request, read from the token once by the authentication filter.
+ *
+ * @param userId the {@code userId} claim
+ * @param email  the {@code userEmail} claim
+ */
+public record RequestPrincipal(String userId, String email) {}
@@ -7,8 +7,11 @@ import com.example.footballteamapi.footballteam.domain.exception.footballteam.Fo
 import com.example.footballteamapi.footballteam.domain.exception.player.MaxPlayersExceededException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerTeamMismatchException;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
+import com.example.footballteamapi.logging.domain.exception.InvalidLogCursorException;
 import jakarta.validation.ConstraintViolationException;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -125,6 +128,36 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    protected ResponseEntity<CustomError> handlePasswordHashingUnavailableException(final PasswordHashingUnavailableException ex) {
+
+        CustomError error = CustomError.builder()
+                .httpStatus(PasswordHashingUnavailableException.STATUS)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return ResponseEntity.status(PasswordHashingUnavailableException.STATUS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
+    @ExceptionHandler(TooManyAuthenticationAttemptsException.class)
+    protected ResponseEntity<CustomError> handleTooManyAuthenticationAttemptsException(final TooManyAuthenticationAttemptsException ex) {
+
+        CustomError error = CustomError.builder()
+                .httpStatus(TooManyAuthenticationAttemptsException.STATUS)
+                .header(CustomError.Header.AUTH_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return ResponseEntity.status(TooManyAuthenticationAttemptsException.STATUS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().plusMillis(999).toSeconds())))
+                .body(error);
+    }
+
     @ExceptionHandler(RoleNotFoundException.class)
     protected ResponseEntity<CustomError> handleRoleNotFoundException(final RoleNotFoundException ex) {
 
@@ -268,4 +301,32 @@ public class GlobalExceptionHandler {
 
     }
 
+    @ExceptionHandler(RosterConflictException.class)
+    protected ResponseEntity<CustomError> handleRosterConflictException(final RosterConflictException ex) {
+
+        CustomError error = CustomError.builder()
+                .httpStatus(RosterConflictException.STATUS)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, RosterConflictException.STATUS);
+
+    }
+
+    @ExceptionHandler(InvalidLogCursorException.class)
+    protected ResponseEntity<CustomError> handleInvalidLogCursorException(final InvalidLogCursorException ex) {
+
+        CustomError error = CustomError.builder()
+                .httpStatus(InvalidLogCursorException.STATUS)
+                .header(CustomError.Header.VALIDATION_ERROR.getName())
+                .message(ex.getMessage())
+                .isSuccess(false)
+                .build();
+
+        return new ResponseEntity<>(error, InvalidLogCursorException.STATUS);
+
+    }
+
 }
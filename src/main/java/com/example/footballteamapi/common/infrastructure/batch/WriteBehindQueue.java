@@ -0,0 +1,352 @@
+package com.example.footballteamapi.common.infrastructure.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue drained by a single background thread that hands items to a batch writer.
+ * The writer thread blocks until an item arrives and then drains everything already queued, up to the batch size,
+ * so batches stay small under light load and grow under bursts without adding latency.
+ * With a positive flush interval the writer instead keeps collecting for up to that long after the first item,
+ * trading that much latency for fuller batches.
+ * Producers never block on {@link #offer(Object)}; a {@code false} result tells them the queue is full
+ * and lets them pick their own overflow policy.
+ * A batch that cannot be written is retried as set by its {@link Retry}; if it still fails, each item may be written
+ * on its own so one bad item does not take the rest of the batch with it.
+ * {@link #close()} stops accepting items and gives the writer and the closing thread together one shutdown timeout
+ * to write what is queued. Once it has passed no write is retried, the items still queued are counted as failed,
+ * and a writer still busy is interrupted and, after a short grace, left behind, so shutdown does not wait much
+ * longer than that timeout.
+ *
+ * @param <T> type of the queued items
+ */
+@Slf4j
+public class WriteBehindQueue<T> implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final String name;
+
+    private final BlockingQueue<T> queue;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final Duration shutdownTimeout;
+
+    private final Consumer<List<T>> batchWriter;
+
+    private final Retry retry;
+
+    private final Thread writerThread;
+
+    private final Counter writtenCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Timer flushTimer;
+
+    private volatile boolean running = true;
+
+    /**
+     * {@link System#nanoTime()} by which {@link #close()} gives up writing; only meaningful once {@code closing} is set.
+     */
+    private volatile long closeDeadlineNanos;
+
+    private volatile boolean closing;
+
+    public WriteBehindQueue(final String name,
+                            final int capacity,
+                            final int batchSize,
+                            final Duration shutdownTimeout,
+                            final Consumer<List<T>> batchWriter,
+                            final MeterRegistry meterRegistry) {
+        this(name, capacity, batchSize, Duration.ZERO, shutdownTimeout, batchWriter, meterRegistry);
+    }
+
+    public WriteBehindQueue(final String name,
+                            final int capacity,
+                            final int batchSize,
+                            final Duration flushInterval,
+                            final Duration shutdownTimeout,
+                            final Consumer<List<T>> batchWriter,
+                            final MeterRegistry meterRegistry) {
+        this(name, capacity, batchSize, flushInterval, shutdownTimeout, Retry.NONE, batchWriter, meterRegistry);
+    }
+
+    public WriteBehindQueue(final String name,
+                            final int capacity,
+                            final int batchSize,
+                            final Duration flushInterval,
+                            final Duration shutdownTimeout,
+                            final Retry retry,
+                            final Consumer<List<T>> batchWriter,
+                            final MeterRegistry meterRegistry) {
+
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.batchWriter = batchWriter;
+        this.retry = retry;
+
+        Gauge.builder("write.behind.queue.size", queue, BlockingQueue::size)
+                .tag("queue", name)
+                .description("Number of items waiting to be written")
+                .register(meterRegistry);
+
+        this.writtenCounter = Counter.builder("write.behind.queue.written")
+                .tag("queue", name)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("write.behind.queue.failed")
+                .tag("queue", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("write.behind.queue.rejected")
+                .tag("queue", name)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("write.behind.queue.flush")
+                .tag("queue", name)
+                .register(meterRegistry);
+
+        this.writerThread = new Thread(this::drainLoop, name + "-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public boolean offer(final T item) {
+        if (running && queue.offer(item)) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public boolean offer(final T item, final Duration timeout) throws InterruptedException {
+        if (running && queue.offer(item, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    @Override
+    public void close() {
+
+        closeDeadlineNanos = System.nanoTime() + shutdownTimeout.toNanos();
+        closing = true;
+        running = false;
+
+        // Cut short a backoff the writer started before the deadline existed
+        LockSupport.unpark(writerThread);
+        this.joinWriterUntilCloseDeadline();
+
+        // Items the writer has not reached yet, or offered while it was exiting
+        final List<T> remaining = new ArrayList<>(batchSize);
+        while (!this.isPastCloseDeadline() && queue.drainTo(remaining, batchSize) > 0) {
+            this.write(remaining);
+            remaining.clear();
+        }
+
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            failedCounter.increment(remaining.size());
+            log.error("Write-behind queue {} did not drain within {}, dropping {} unwritten items",
+                    name, shutdownTimeout, remaining.size());
+        }
+
+        // Let a batch the writer is still on finish while time is left, then leave the daemon thread behind
+        this.joinWriterUntilCloseDeadline();
+        if (writerThread.isAlive()) {
+            log.warn("Write-behind queue {} writer is still busy after {}, interrupting it", name, shutdownTimeout);
+            writerThread.interrupt();
+            try {
+                writerThread.join(POLL_TIMEOUT_MILLIS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    private void joinWriterUntilCloseDeadline() {
+
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(closeDeadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        try {
+            writerThread.join(remainingMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isPastCloseDeadline() {
+        return closing && System.nanoTime() - closeDeadlineNanos >= 0;
+    }
+
+    private void drainLoop() {
+
+        final List<T> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+
+            try {
+                final T first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            queue.drainTo(batch, batchSize - 1);
+            if (!this.fillUntilFlushInterval(batch)) {
+                return;
+            }
+            this.write(batch);
+            batch.clear();
+
+        }
+
+    }
+
+    /**
+     * Keeps adding items to the batch until it is full or the flush interval since the first item has passed.
+     *
+     * @return {@code false} if the writer thread was interrupted
+     */
+    private boolean fillUntilFlushInterval(final List<T> batch) {
+
+        final long deadline = System.nanoTime() + flushInterval.toNanos();
+
+        while (running && batch.size() < batchSize) {
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+
+            try {
+                final T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.write(batch);
+                return false;
+            }
+
+            queue.drainTo(batch, batchSize - batch.size());
+
+        }
+
+        return true;
+    }
+
+    private void write(final List<T> batch) {
+
+        final List<T> items = List.copyOf(batch);
+        if (this.tryWrite(items)) {
+            writtenCounter.increment(items.size());
+            return;
+        }
+
+        if (!retry.writeItemsOnFailure() || items.size() == 1) {
+            failedCounter.increment(items.size());
+            log.error("Write-behind queue {} failed to write {} items", name, items.size());
+            return;
+        }
+
+        // Write the items one by one, so only the ones that cannot be written at all are lost
+        int failedItems = 0;
+        for (final T item : items) {
+            if (!this.isPastCloseDeadline() && this.tryWrite(List.of(item))) {
+                writtenCounter.increment();
+            } else {
+                failedItems++;
+            }
+        }
+
+        if (failedItems > 0) {
+            failedCounter.increment(failedItems);
+            log.error("Write-behind queue {} failed to write {} of {} items one by one", name, failedItems, items.size());
+        }
+    }
+
+    /**
+     * Writes the items, retrying with a backoff that grows with each attempt until the attempts run out
+     * or the queue is past its close deadline.
+     *
+     * @return {@code false} if every attempt failed
+     */
+    private boolean tryWrite(final List<T> items) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> batchWriter.accept(items));
+                return true;
+            } catch (Exception exception) {
+                if (attempt >= retry.maxAttempts() || this.isPastCloseDeadline()) {
+                    log.warn("Write-behind queue {} could not write {} items after {} attempts: {}",
+                            name, items.size(), attempt, exception.getMessage());
+                    return false;
+                }
+                this.pauseBeforeRetry(retry.backoff().multipliedBy(attempt).toNanos());
+            }
+        }
+    }
+
+    /**
+     * Parks for the backoff, but no longer than the close deadline once the queue is closing.
+     */
+    private void pauseBeforeRetry(final long backoffNanos) {
+        final long pauseNanos = closing ? Math.min(backoffNanos, closeDeadlineNanos - System.nanoTime()) : backoffNanos;
+        if (pauseNanos > 0) {
+            LockSupport.parkNanos(pauseNanos);
+        }
+    }
+
+    /**
+     * How a batch that cannot be written is retried.
+     *
+     * @param maxAttempts         attempts per write, including the first one.
+     * @param backoff             pause after the first failed attempt, growing linearly with each further one.
+     * @param writeItemsOnFailure whether to write the items of a batch one by one once all attempts failed.
+     */
+    public record Retry(int maxAttempts, Duration backoff, boolean writeItemsOnFailure) {
+
+        public static final Retry NONE = new Retry(1, Duration.ZERO, false);
+
+    }
+
+}
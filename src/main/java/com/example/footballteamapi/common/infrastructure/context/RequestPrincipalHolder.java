@@ -0,0 +1,44 @@
+package com.example.footballteamapi.common.infrastructure.context;
+
+import com.example.footballteamapi.common.domain.model.RequestPrincipal;
+import lombok.experimental.UtilityClass;
+
+import java.util.Optional;
+
+/**
+ * Holds the {@link RequestPrincipal} of the request running on the current thread.
+ * The authentication filter sets it once and clears it when the request ends; auditing and logging read it
+ * instead of walking the security context and the token claims again for every entity and every log.
+ * Threads that do not serve a request, such as background writers and scheduled jobs, see no principal.
+ */
+@UtilityClass
+public class RequestPrincipalHolder {
+
+    public final String ANONYMOUS_USER = "anonymousUser";
+
+    private final ThreadLocal<RequestPrincipal> CURRENT = new ThreadLocal<>();
+
+    public void set(final RequestPrincipal requestPrincipal) {
+        CURRENT.set(requestPrincipal);
+    }
+
+    public Optional<RequestPrincipal> find() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the email of the current principal, or {@value #ANONYMOUS_USER} when there is none.
+     */
+    public String currentAuditor() {
+        final RequestPrincipal requestPrincipal = CURRENT.get();
+        if (requestPrincipal == null || requestPrincipal.email() == null) {
+            return ANONYMOUS_USER;
+        }
+        return requestPrincipal.email();
+    }
+
+    public void clear() {
+        CURRENT.remove();
+    }
+
+}
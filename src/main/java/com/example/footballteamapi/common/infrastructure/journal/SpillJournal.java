@@ -0,0 +1,209 @@
+package com.example.footballteamapi.common.infrastructure.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of opaque records kept in fixed-size, memory-mapped segment files.
+ * Each record is written as {@code length, crc32, bytes} into the active segment; once a record no longer fits,
+ * the segment is forced to disk and a new one is started, so an append is a memory copy and never waits on I/O.
+ * A zero length marks the end of a segment, and a record whose checksum does not match (a write torn by a crash)
+ * ends it as well.
+ * {@link #replay(int, Consumer)} hands the records of every sealed segment to a handler and deletes a segment only
+ * after all of its records were handled, so a failed or interrupted replay delivers the same records again
+ * and the handler has to be idempotent.
+ */
+@Slf4j
+public class SpillJournal implements AutoCloseable {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private long nextSequence;
+
+    private FileChannel activeChannel;
+
+    private MappedByteBuffer activeSegment;
+
+    public SpillJournal(final Path directory, final int segmentSize) throws IOException {
+
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+
+        // Segments left by a previous run are sealed, new records go to a fresh one
+        this.nextSequence = this.findSegments().stream()
+                .mapToLong(SpillJournal::sequenceOf)
+                .max()
+                .orElse(0L) + 1;
+    }
+
+    public synchronized void append(final byte[] record) throws IOException {
+
+        final int recordSize = HEADER_BYTES + record.length;
+        if (recordSize > segmentSize) {
+            throw new IOException("Record of " + record.length + " bytes does not fit a segment of " + segmentSize);
+        }
+
+        if (activeSegment == null || activeSegment.remaining() < recordSize) {
+            this.seal();
+            this.openSegment();
+        }
+
+        final CRC32 checksum = new CRC32();
+        checksum.update(record);
+
+        activeSegment.putInt(record.length);
+        activeSegment.putInt((int) checksum.getValue());
+        activeSegment.put(record);
+    }
+
+    /**
+     * Seals the active segment and hands every record of every sealed segment, oldest first, to the handler
+     * in batches of at most {@code batchSize}. A segment is deleted once all of its batches were handled;
+     * if the handler throws, replay stops and the exception is rethrown.
+     *
+     * @return the number of records handled
+     */
+    public int replay(final int batchSize, final Consumer<List<byte[]>> handler) throws IOException {
+
+        // Seal and fix the sequence bound in one step: a segment opened by a later append is never replayed
+        final long sealedBelow;
+        synchronized (this) {
+            if (activeSegment != null && activeSegment.position() > 0) {
+                this.seal();
+            }
+            sealedBelow = this.sealedSequenceBound();
+        }
+
+        final List<Path> sealedSegments = this.findSegmentsBelow(sealedBelow);
+
+        int replayed = 0;
+
+        for (final Path segment : sealedSegments) {
+
+            final List<byte[]> records = this.readSegment(segment);
+
+            for (int from = 0; from < records.size(); from += batchSize) {
+                handler.accept(records.subList(from, Math.min(from + batchSize, records.size())));
+            }
+
+            Files.deleteIfExists(segment);
+            replayed += records.size();
+        }
+
+        return replayed;
+    }
+
+    public int countSealedSegments() throws IOException {
+        final long sealedBelow;
+        synchronized (this) {
+            sealedBelow = this.sealedSequenceBound();
+        }
+        return this.findSegmentsBelow(sealedBelow).size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.seal();
+    }
+
+    private void openSegment() throws IOException {
+        final Path segment = directory.resolve(String.format("%020d%s", nextSequence++, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(segment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeSegment = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void seal() throws IOException {
+        if (activeSegment == null) {
+            return;
+        }
+        activeSegment.force();
+        activeChannel.close();
+        activeSegment = null;
+        activeChannel = null;
+    }
+
+    /**
+     * Every segment with a lower sequence is sealed: the active segment, if any, has the last sequence handed out,
+     * and segments opened later get higher ones. Must be called while holding the lock.
+     */
+    private long sealedSequenceBound() {
+        return activeSegment == null ? nextSequence : nextSequence - 1;
+    }
+
+    private List<Path> findSegmentsBelow(final long sequenceBound) throws IOException {
+        return this.findSegments().stream()
+                .filter(segment -> sequenceOf(segment) < sequenceBound)
+                .toList();
+    }
+
+    private List<Path> findSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<byte[]> readSegment(final Path segment) throws IOException {
+
+        final List<byte[]> records = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= HEADER_BYTES) {
+
+                final int length = buffer.getInt();
+                final int expectedChecksum = buffer.getInt();
+                if (length <= 0) {
+                    break;
+                }
+                if (length > buffer.remaining()) {
+                    log.warn("Journal segment {} ends with a torn record, skipping the rest", segment.getFileName());
+                    break;
+                }
+
+                final byte[] record = new byte[length];
+                buffer.get(record);
+
+                final CRC32 checksum = new CRC32();
+                checksum.update(record);
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    log.warn("Journal segment {} has a corrupt record, skipping the rest", segment.getFileName());
+                    break;
+                }
+
+                records.add(record);
+            }
+
+        }
+
+        return records;
+    }
+
+    private static long sequenceOf(final Path segment) {
+        final String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+}
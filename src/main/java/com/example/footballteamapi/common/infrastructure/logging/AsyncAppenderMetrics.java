@@ -0,0 +1,58 @@
+package com.example.footballteamapi.common.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the queue depth, capacity and dropped events of every {@link MeteredAsyncAppender}
+ * attached to the root logger, as {@code logging.async.*} tagged by appender name.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+
+        final Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+
+        for (Iterator<Appender<ILoggingEvent>> appenders = rootLogger.iteratorForAppenders(); appenders.hasNext(); ) {
+            if (appenders.next() instanceof MeteredAsyncAppender appender) {
+                this.bind(appender, meterRegistry);
+            }
+        }
+
+    }
+
+    private void bind(final MeteredAsyncAppender appender, final MeterRegistry meterRegistry) {
+
+        Gauge.builder("logging.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                .tag("appender", appender.getName())
+                .description("Log events waiting to be handed to the delegate appender")
+                .register(meterRegistry);
+
+        Gauge.builder("logging.async.queue.capacity", appender, MeteredAsyncAppender::getQueueSize)
+                .tag("appender", appender.getName())
+                .register(meterRegistry);
+
+        FunctionCounter.builder("logging.async.dropped", appender, MeteredAsyncAppender::getDroppedEvents)
+                .tag("appender", appender.getName())
+                .description("Log events dropped because the queue was full")
+                .register(meterRegistry);
+
+    }
+
+}
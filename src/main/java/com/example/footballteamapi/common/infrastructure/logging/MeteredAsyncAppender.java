@@ -0,0 +1,43 @@
+package com.example.footballteamapi.common.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it gives up on, so the loss shows up in metrics
+ * instead of only in missing log lines.
+ * With {@code neverBlock} an event is dropped when the queue is full; with a positive {@code discardingThreshold}
+ * lower-level events are also discarded once the queue is nearly full. Both are counted in {@link #getDroppedEvents()}.
+ * The queue's own offer result is not visible to subclasses, so a full queue is detected by checking its remaining
+ * capacity without any locking. The count is therefore approximate: when threads race for the last free slot,
+ * an event that loses the race after seeing room is dropped by the queue without being counted.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (this.isNeverBlock() && this.getRemainingCapacity() == 0) {
+            droppedEvents.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(final ILoggingEvent event) {
+        final boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            droppedEvents.increment();
+        }
+        return discardable;
+    }
+
+}
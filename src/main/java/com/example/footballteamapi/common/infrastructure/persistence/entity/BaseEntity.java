@@ -1,6 +1,6 @@
 package com.example.footballteamapi.common.infrastructure.persistence.entity;
 
-import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import com.example.footballteamapi.common.infrastructure.context.RequestPrincipalHolder;
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
@@ -10,12 +10,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Getter
 @Setter
@@ -37,25 +33,23 @@ public abstract class BaseEntity {
     @Column(name = "UPDATED_BY")
     private String updatedBy;
 
+    /**
+     * Fills the creation fields unless they were already set, e.g. on the request thread
+     * by an entity that is persisted later from a background writer.
+     */
     @PrePersist
     public void prePersist() {
-        this.createdBy = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getPrincipal)
-                .filter(user -> !"anonymousUser".equals(user))
-                .map(Jwt.class::cast)
-                .map(jwt -> jwt.getClaim(TokenClaims.USER_EMAIL.getValue()).toString())
-                .orElse("anonymousUser");
-        this.createdAt = LocalDateTime.now();
+        if (this.createdBy == null) {
+            this.createdBy = RequestPrincipalHolder.currentAuditor();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     @PreUpdate
     public void preUpdate() {
-        this.updatedBy = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getPrincipal)
-                .filter(user -> !"anonymousUser".equals(user))
-                .map(Jwt.class::cast)
-                .map(jwt -> jwt.getClaim(TokenClaims.USER_EMAIL.getValue()).toString())
-                .orElse("anonymousUser");
+        this.updatedBy = RequestPrincipalHolder.currentAuditor();
         this.updatedAt = LocalDateTime.now();
     }
 
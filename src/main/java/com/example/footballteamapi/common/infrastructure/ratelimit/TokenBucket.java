@@ -0,0 +1,59 @@
+package com.example.footballteamapi.common.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket holding at most {@code capacity} tokens and refilling one every {@code refillPeriod / capacity}.
+ * The bucket is stored as a single timestamp, the time at which it will be full again (the generic cell rate
+ * algorithm), so taking a token is one compare-and-set and concurrent callers never block each other.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+
+    private final long nanosPerToken;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong fullAt;
+
+    public TokenBucket(final long capacity, final Duration refillPeriod) {
+        this(capacity, refillPeriod, System::nanoTime);
+    }
+
+    TokenBucket(final long capacity, final Duration refillPeriod, final LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return {@link Duration#ZERO} when a token was taken, otherwise how long until the next one is available
+     */
+    public Duration tryConsume() {
+
+        while (true) {
+
+            final long now = nanoClock.getAsLong();
+            final long current = fullAt.get();
+            final long next = Math.max(current, now) + nanosPerToken;
+            final long overdraft = next - now - capacity * nanosPerToken;
+
+            if (overdraft > 0) {
+                return Duration.ofNanos(overdraft);
+            }
+
+            if (fullAt.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+
+        }
+
+    }
+
+}
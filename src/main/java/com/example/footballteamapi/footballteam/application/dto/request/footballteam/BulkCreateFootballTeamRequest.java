@@ -0,0 +1,16 @@
+package com.example.footballteamapi.footballteam.application.dto.request.footballteam;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BulkCreateFootballTeamRequest(
+        @NotEmpty(message = "Teams must not be empty")
+        @Size(max = 5000, message = "At most 5000 teams can be created in one request")
+        List<@NotNull @Valid CreateFootballTeamRequest> teams
+) {}
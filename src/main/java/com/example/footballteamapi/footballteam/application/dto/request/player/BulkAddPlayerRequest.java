@@ -0,0 +1,30 @@
+package com.example.footballteamapi.footballteam.application.dto.request.player;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import org.hibernate.validator.constraints.UUID;
+
+import java.util.List;
+
+@Builder
+public record BulkAddPlayerRequest(
+        @NotEmpty(message = "Players must not be empty")
+        @Size(max = 1000, message = "At most 1000 players can be added in one request")
+        List<@NotNull @Valid Item> players
+) {
+
+    @Builder
+    public record Item(
+            @NotBlank(message = "Team id must not be blank")
+            @UUID(message = "Team id must be a valid UUID")
+            String teamId,
+            @NotNull(message = "Player must not be null")
+            @Valid
+            AddPlayerRequest player
+    ) {}
+
+}
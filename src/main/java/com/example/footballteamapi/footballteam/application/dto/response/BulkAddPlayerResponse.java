@@ -0,0 +1,18 @@
+package com.example.footballteamapi.footballteam.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record BulkAddPlayerResponse(int addedCount,
+                                    int rejectedCount,
+                                    List<Item> results) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(int index,
+                       String teamId,
+                       boolean added,
+                       PlayerResponse player,
+                       String error) {}
+
+}
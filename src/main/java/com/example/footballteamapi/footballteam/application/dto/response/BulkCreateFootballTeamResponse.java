@@ -0,0 +1,18 @@
+package com.example.footballteamapi.footballteam.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record BulkCreateFootballTeamResponse(int createdCount,
+                                             int conflictCount,
+                                             List<Item> results) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(int index,
+                       String teamName,
+                       boolean created,
+                       FootballTeamResponse team,
+                       String error) {}
+
+}
@@ -1,10 +1,57 @@
 package com.example.footballteamapi.footballteam.application.port.out;
 
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface FootballTeamRepository extends JpaRepository<FootballTeamEntity, String> {
 
-    boolean existsByTeamName(String name);
+    boolean existsByNormalizedTeamName(String normalizedTeamName);
+
+    /**
+     * Finds which of the given normalized team names are already taken, in a single query.
+     *
+     * @param normalizedTeamNames the normalized team names to look up.
+     * @return the subset of the given names that belong to an existing team.
+     */
+    @Query("select team.normalizedTeamName from FootballTeamEntity team where team.normalizedTeamName in :names")
+    Set<String> findNormalizedTeamNamesIn(@Param("names") Collection<String> normalizedTeamNames);
+
+    /**
+     * Pages only the team ids, so the page can be fetched with its players afterwards
+     * without paging over a join.
+     *
+     * @param pageable the requested page.
+     * @return a page of team ids.
+     */
+    @Query("select team.id from FootballTeamEntity team order by team.id")
+    Page<String> findAllIds(Pageable pageable);
+
+    /**
+     * Loads the given teams together with all of their players in a single query.
+     *
+     * @param ids the team ids.
+     * @return the teams with their players initialized, in no particular order.
+     */
+    @Query("select distinct team from FootballTeamEntity team left join fetch team.players where team.id in :ids")
+    List<FootballTeamEntity> findAllWithPlayersByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Loads a team together with its players in a single query.
+     *
+     * @param id the team id.
+     * @return the team with its players initialized, if it exists.
+     */
+    @EntityGraph(attributePaths = "players")
+    Optional<FootballTeamEntity> findWithPlayersById(String id);
 
 }
@@ -2,14 +2,20 @@ package com.example.footballteamapi.footballteam.application.service;
 
 import com.example.footballteamapi.common.application.dto.request.CustomPagingRequest;
 import com.example.footballteamapi.common.domain.model.CustomPage;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
+
+import java.util.List;
 
 public interface FootballTeamService {
 
     FootballTeam createTeam(CreateFootballTeamRequest request);
 
+    List<FootballTeamCreationResult> createTeamsInBulk(BulkCreateFootballTeamRequest request);
+
     FootballTeam updateTeam(String teamId, UpdateFootballTeamRequest request);
 
     FootballTeam getTeamById(String teamId);
@@ -18,4 +24,6 @@ public interface FootballTeamService {
 
     CustomPage<FootballTeam> getAllTeamsWithPageable(CustomPagingRequest request);
 
+    void backfillNormalizedTeamNames();
+
 }
@@ -2,6 +2,7 @@ package com.example.footballteamapi.footballteam.application.service.impl;
 
 import com.example.footballteamapi.common.application.dto.request.CustomPagingRequest;
 import com.example.footballteamapi.common.domain.model.CustomPage;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.port.out.FootballTeamRepository;
@@ -9,23 +10,40 @@ import com.example.footballteamapi.footballteam.application.service.FootballTeam
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamAlreadyExistException;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamNotFoundException;
 import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.CreateFootballTeamRequestToFootballTeamEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.FootballTeamEntityToFootballTeamMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.UpdateFootballTeamRequestToFootballTeamEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import com.example.footballteamapi.footballteam.infrastructure.repository.FootballTeamNameRepository;
+import com.example.footballteamapi.footballteam.infrastructure.utils.TeamNameNormalizer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FootballTeamServiceImpl implements FootballTeamService {
 
     private final FootballTeamRepository footballTeamRepository;
+    private final FootballTeamNameRepository footballTeamNameRepository;
     private final CreateFootballTeamRequestToFootballTeamEntityMapper createFootballTeamRequestToFootballTeamEntityMapper =
             CreateFootballTeamRequestToFootballTeamEntityMapper.initialize();
 
@@ -42,24 +60,95 @@ public class FootballTeamServiceImpl implements FootballTeamService {
         this.checkAirportNameUniqueness(request.teamName());
 
         FootballTeamEntity entity = createFootballTeamRequestToFootballTeamEntityMapper.mapForSaving(request);
-        FootballTeamEntity savedEntity = footballTeamRepository.save(entity);
+        FootballTeamEntity savedEntity = this.saveWithUniqueName(entity);
         return footballTeamEntityToFootballTeamMapper.map(savedEntity);
     }
 
+    /**
+     * Creates many teams at once. The normalized names of all teams are checked in one query and the free ones
+     * are inserted in batches; a name that is taken, repeated in the request or taken concurrently is reported
+     * as a conflict for that team only.
+     *
+     * @param request the teams to create.
+     * @return one result per requested team, in request order.
+     */
+    @Override
+    @Transactional
+    public List<FootballTeamCreationResult> createTeamsInBulk(BulkCreateFootballTeamRequest request) {
+
+        List<CreateFootballTeamRequest> teams = request.teams();
+
+        List<FootballTeamEntity> entities = teams.stream()
+                .map(createFootballTeamRequestToFootballTeamEntityMapper::mapForSaving)
+                .toList();
+
+        Set<String> takenNames = footballTeamRepository.findNormalizedTeamNamesIn(
+                entities.stream()
+                        .map(FootballTeamEntity::getNormalizedTeamName)
+                        .collect(Collectors.toSet())
+        );
+
+        FootballTeamCreationResult[] results = new FootballTeamCreationResult[teams.size()];
+        Map<String, Integer> firstIndexByName = new HashMap<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+        List<FootballTeamEntity> candidates = new ArrayList<>();
+
+        for (int index = 0; index < entities.size(); index++) {
+
+            FootballTeamEntity entity = entities.get(index);
+
+            if (takenNames.contains(entity.getNormalizedTeamName())) {
+                results[index] = FootballTeamCreationResult.conflict(index, entity.getTeamName(), nameTakenMessage(entity));
+                continue;
+            }
+
+            Integer firstIndex = firstIndexByName.putIfAbsent(entity.getNormalizedTeamName(), index);
+            if (firstIndex != null) {
+                results[index] = FootballTeamCreationResult.conflict(
+                        index, entity.getTeamName(), "Team name is the same as the team at index " + firstIndex
+                );
+                continue;
+            }
+
+            entity.setId(UUID.randomUUID().toString());
+            entity.prePersist();
+            candidateIndexes.add(index);
+            candidates.add(entity);
+        }
+
+        if (!candidates.isEmpty()) {
+
+            boolean[] inserted = footballTeamNameRepository.insertIfNameFree(candidates);
+
+            for (int candidate = 0; candidate < candidates.size(); candidate++) {
+                int index = candidateIndexes.get(candidate);
+                FootballTeamEntity entity = candidates.get(candidate);
+                results[index] = inserted[candidate]
+                        ? FootballTeamCreationResult.created(index, footballTeamEntityToFootballTeamMapper.map(entity))
+                        : FootballTeamCreationResult.conflict(index, entity.getTeamName(), nameTakenMessage(entity));
+            }
+        }
+
+        return List.of(results);
+    }
+
     @Override
     @Transactional
     public FootballTeam updateTeam(String teamId, UpdateFootballTeamRequest request) {
-        FootballTeamEntity entity = footballTeamRepository.findById(teamId)
+        FootballTeamEntity entity = footballTeamRepository.findWithPlayersById(teamId)
                 .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
+        if (!Objects.equals(entity.getNormalizedTeamName(), TeamNameNormalizer.normalize(request.teamName()))) {
+            this.checkAirportNameUniqueness(request.teamName());
+        }
         FootballTeamEntity footballTeamEntityToBeUpdated = updateFootballTeamRequestToFootballTeamEntityMapper.mapForUpdating(request, entity);
-        FootballTeamEntity updatedEntity = footballTeamRepository.save(footballTeamEntityToBeUpdated);
+        FootballTeamEntity updatedEntity = this.saveWithUniqueName(footballTeamEntityToBeUpdated);
         return footballTeamEntityToFootballTeamMapper.map(updatedEntity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public FootballTeam getTeamById(String teamId) {
-        FootballTeamEntity entity = footballTeamRepository.findById(teamId)
+        FootballTeamEntity entity = footballTeamRepository.findWithPlayersById(teamId)
                 .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
         return footballTeamEntityToFootballTeamMapper.map(entity);
     }
@@ -75,24 +164,64 @@ public class FootballTeamServiceImpl implements FootballTeamService {
     @Override
     @Transactional(readOnly = true)
     public CustomPage<FootballTeam> getAllTeamsWithPageable(CustomPagingRequest request) {
-        Page<FootballTeamEntity> teamEntitiesPage = footballTeamRepository.findAll(request.toPageable());
+        Page<String> teamIdsPage = footballTeamRepository.findAllIds(request.toPageable());
 
-        if (teamEntitiesPage.getContent().isEmpty()) {
+        if (teamIdsPage.getContent().isEmpty()) {
             throw new FootballTeamNotFoundException("Couldn't find any football team");
         }
 
-        List<FootballTeam> domainModels = teamEntitiesPage.getContent().stream()
+        // One query for the teams of the page and all of their players, instead of one player query per team
+        Map<String, FootballTeamEntity> teamEntitiesById = footballTeamRepository
+                .findAllWithPlayersByIdIn(teamIdsPage.getContent()).stream()
+                .collect(Collectors.toMap(FootballTeamEntity::getId, Function.identity()));
+
+        List<FootballTeam> domainModels = teamIdsPage.getContent().stream()
+                .map(teamEntitiesById::get)
+                .filter(Objects::nonNull)
                 .map(footballTeamEntityToFootballTeamMapper::map)
                 .collect(Collectors.toList());
 
-        return CustomPage.of(domainModels, teamEntitiesPage);
+        return CustomPage.of(domainModels, teamIdsPage);
+    }
+
+    /**
+     * Gives normalized names to teams saved before the column existed, so the unique index covers them too.
+     */
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedTeamNames() {
+        int backfilledTeams = footballTeamNameRepository.backfillNormalizedTeamNames();
+        if (backfilledTeams > 0) {
+            log.info("Backfilled normalized names of {} football teams", backfilledTeams);
+        }
     }
 
     public void checkAirportNameUniqueness(final String footballTeamName) {
-        if (footballTeamRepository.existsByTeamName(footballTeamName)) {
+        if (footballTeamRepository.existsByNormalizedTeamName(TeamNameNormalizer.normalize(footballTeamName))) {
             throw new FootballTeamAlreadyExistException("With given team name = " + footballTeamName);
         }
     }
 
+    /**
+     * Saves the team right away, so a name taken by a concurrent request since the check
+     * is reported as a conflict rather than failing at commit.
+     */
+    private FootballTeamEntity saveWithUniqueName(FootballTeamEntity entity) {
+        try {
+            return footballTeamRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException exception) {
+            if (exception.getCause() instanceof ConstraintViolationException violation
+                    && FootballTeamEntity.NORMALIZED_TEAM_NAME_INDEX.equalsIgnoreCase(violation.getConstraintName())) {
+                throw new FootballTeamAlreadyExistException("With given team name = " + entity.getTeamName());
+            }
+            throw exception;
+        }
+    }
+
+    private static String nameTakenMessage(FootballTeamEntity entity) {
+        return new FootballTeamAlreadyExistException("With given team name = " + entity.getTeamName()).getMessage();
+    }
+
 
 }
@@ -3,6 +3,7 @@ package com.example.footballteamapi.footballteam.application.service.impl;
 import com.example.footballteamapi.common.application.dto.request.CustomPagingRequest;
 import com.example.footballteamapi.common.domain.model.CustomPage;
 import com.example.footballteamapi.footballteam.application.dto.request.player.AddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.BulkAddPlayerRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.player.UpdatePlayerRequest;
 import com.example.footballteamapi.footballteam.application.port.out.FootballTeamRepository;
 import com.example.footballteamapi.footballteam.application.port.out.PlayerRepository;
@@ -12,25 +13,55 @@ import com.example.footballteamapi.footballteam.domain.exception.footballteam.Fo
 import com.example.footballteamapi.footballteam.domain.exception.player.MaxPlayersExceededException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerTeamMismatchException;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
 import com.example.footballteamapi.footballteam.domain.model.Player;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import com.example.footballteamapi.footballteam.domain.model.RosterCounts;
+import com.example.footballteamapi.footballteam.infrastructure.concurrency.RosterMutationRetry;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.AddPlayerRequestToPlayerEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.PlayerEntityToPlayerMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.UpdatePlayerRequestToPlayerEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import com.example.footballteamapi.footballteam.infrastructure.repository.PlayerRosterRepository;
+import com.example.footballteamapi.footballteam.infrastructure.repository.PlayerRosterRepository.RosterReconciliation;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlayerServiceImpl implements PlayerService {
 
+    private static final int MAX_PLAYERS = 18;
+
+    private static final int MAX_FOREIGN_PLAYERS = 6;
+
+    private static final int MAX_GOALKEEPERS = 2;
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
     private final FootballTeamRepository footballTeamRepository;
     private final PlayerRepository playerRepository;
+    private final PlayerRosterRepository playerRosterRepository;
+    private final RosterMutationRetry rosterMutationRetry;
+    private final TransactionTemplate transactionTemplate;
     private final AddPlayerRequestToPlayerEntityMapper addPlayerRequestToPlayerEntityMapper =
             AddPlayerRequestToPlayerEntityMapper.initialize();
 
@@ -42,60 +73,205 @@ public class PlayerServiceImpl implements PlayerService {
 
     /**
      * Adds a player to a team based on the provided AddPlayerRequest.
+     * The roster rules are checked and the player inserted by a single guarded statement; only when it is
+     * rejected are the team's counters read to report which rule was broken. If they show a free slot again,
+     * the insert is retried up to the roster retry's attempts before a {@link RosterConflictException}.
      *
      * @param teamId the ID of the football team.
      * @param addPlayerRequest the request data for adding a new player.
      * @return the added player as a domain model.
      */
     @Override
+    @Transactional
     public Player addPlayerToTeam(String teamId, AddPlayerRequest addPlayerRequest) {
 
-        FootballTeamEntity teamEntity = footballTeamRepository.findById(teamId)
-                .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
+        // Map the AddPlayerRequest to a new PlayerEntity with its id and creation fields.
+        PlayerEntity playerEntity = addPlayerRequestToPlayerEntityMapper.mapForSaving(addPlayerRequest);
+        playerEntity.setId(UUID.randomUUID().toString());
+        playerEntity.prePersist();
 
-        // Business Rule 1: Maximum 18 players per team.
-        if (teamEntity.getPlayers().size() >= 18) {
-            throw new MaxPlayersExceededException();
+        for (int attempt = 1; !playerRosterRepository.insertIfRosterAllows(
+                teamId, playerEntity, MAX_PLAYERS, MAX_FOREIGN_PLAYERS, MAX_GOALKEEPERS); attempt++) {
+
+            // A slot may have been freed after the insert was rejected; try again unless a rule still fails.
+            Optional<RuntimeException> violation = this.findRosterViolation(teamId, addPlayerRequest);
+            if (violation.isPresent()) {
+                throw violation.get();
+            }
+            if (attempt >= rosterMutationRetry.maxAttempts()) {
+                throw new RosterConflictException("Team id = " + teamId);
+            }
         }
 
-        // Business Rule 2: Maximum 6 foreign players per team.
-        long foreignCount = teamEntity.getPlayers().stream()
-                .filter(PlayerEntity::isForeignPlayer)
-                .count();
-        if (addPlayerRequest.foreignPlayer() && foreignCount >= 6) {
-            throw new IllegalStateException("A team can have at most 6 foreign players");
+        // Convert the inserted entity to the domain model and return.
+        return playerEntityToPlayerMapper.map(playerEntity);
+
+    }
+
+    /**
+     * Adds players to one or many teams in a single transaction. Every team involved is locked once and its
+     * counters read; each player is then checked against the running counters of its team in request order,
+     * so a rejected player does not take a slot. Accepted players are inserted in JDBC batches and the counters
+     * of each team are updated once.
+     *
+     * @param bulkAddPlayerRequest the players to add, each with its team.
+     * @return one result per requested player, in request order.
+     */
+    @Override
+    @Transactional
+    public List<PlayerAdditionResult> addPlayersInBulk(BulkAddPlayerRequest bulkAddPlayerRequest) {
+
+        List<BulkAddPlayerRequest.Item> items = bulkAddPlayerRequest.players();
+
+        // Lock every team of the request and read its counters in one statement.
+        Map<String, RosterCounts> rosterCounts = playerRosterRepository.lockRosterCounts(
+                items.stream()
+                        .map(BulkAddPlayerRequest.Item::teamId)
+                        .collect(Collectors.toCollection(TreeSet::new))
+        );
+
+        PlayerAdditionResult[] results = new PlayerAdditionResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<PlayerEntity> acceptedEntities = new ArrayList<>();
+        Map<String, RosterCounts> additions = new LinkedHashMap<>();
+
+        for (int index = 0; index < items.size(); index++) {
+
+            String teamId = items.get(index).teamId();
+            AddPlayerRequest addPlayerRequest = items.get(index).player();
+
+            RosterCounts teamCounts = rosterCounts.get(teamId);
+            if (teamCounts == null) {
+                results[index] = PlayerAdditionResult.rejected(index, teamId, "Team with id " + teamId + " does not exist");
+                continue;
+            }
+
+            Optional<RuntimeException> violation = rosterViolation(teamCounts, addPlayerRequest);
+            if (violation.isPresent()) {
+                results[index] = PlayerAdditionResult.rejected(index, teamId, violation.get().getMessage());
+                continue;
+            }
+
+            // Take the slot so later players of the same team are checked against it.
+            RosterCounts addition = new RosterCounts(
+                    1, countOf(addPlayerRequest.foreignPlayer()), countOf(addPlayerRequest.position() == Position.GOALKEEPER)
+            );
+            rosterCounts.put(teamId, teamCounts.plus(addition));
+            additions.merge(teamId, addition, RosterCounts::plus);
+
+            PlayerEntity playerEntity = addPlayerRequestToPlayerEntityMapper.mapForSaving(addPlayerRequest);
+            playerEntity.setFootballTeam(footballTeamRepository.getReferenceById(teamId));
+            acceptedIndexes.add(index);
+            acceptedEntities.add(playerEntity);
         }
 
-        // Business Rule 3: Maximum 2 goalkeepers per team.
-        if (addPlayerRequest.position() == Position.GOALKEEPER) {
-            long goalkeeperCount = teamEntity.getPlayers().stream()
-                    .filter(player -> player.getPosition() == Position.GOALKEEPER)
-                    .count();
-            if (goalkeeperCount >= 2) {
-                throw new IllegalStateException("A team can have at most 2 goalkeepers");
+        if (!acceptedEntities.isEmpty()) {
+
+            // Ids are generated on persist, so the inserts are batched and ordered at flush.
+            List<PlayerEntity> savedEntities = playerRepository.saveAll(acceptedEntities);
+            playerRosterRepository.addToRosterCounts(additions);
+
+            for (int accepted = 0; accepted < savedEntities.size(); accepted++) {
+                int index = acceptedIndexes.get(accepted);
+                results[index] = PlayerAdditionResult.added(
+                        index, items.get(index).teamId(), playerEntityToPlayerMapper.map(savedEntities.get(accepted))
+                );
             }
         }
 
-        // Map the AddPlayerRequest to a new PlayerEntity.
-        PlayerEntity playerEntity = addPlayerRequestToPlayerEntityMapper.mapForSaving(addPlayerRequest);
+        return List.of(results);
+
+    }
+
+    /**
+     * Removes a player from a team. Runs again if the team's roster changed between reading the player
+     * and updating the counters.
+     *
+     * @param teamId   the ID of the football team.
+     * @param playerId the ID of the player to remove.
+     */
+    @Override
+    public void deletePlayer(String teamId, String playerId) {
+        rosterMutationRetry.execute(teamId, () -> {
+            this.removePlayerFromRoster(teamId, playerId);
+            return null;
+        });
+    }
+
+    /**
+     * Updates an existing player on a team based on the provided UpdatePlayerRequest.
+     * Runs again if the team's roster changed between reading the player and updating the counters.
+     *
+     * @param teamId             the ID of the football team.
+     * @param playerId           the ID of the player to update.
+     * @param updatePlayerRequest the request data for updating the player.
+     * @return the updated player as a domain model.
+     */
+    @Override
+    public Player updatePlayer(String teamId, String playerId, UpdatePlayerRequest updatePlayerRequest) {
+        return rosterMutationRetry.execute(
+                teamId, () -> this.updatePlayerOnRoster(teamId, playerId, updatePlayerRequest)
+        );
+    }
 
-        // Set the team association.
-        playerEntity.setFootballTeam(teamEntity);
+    @Override
+    public CustomPage<Player> getPlayersByTeamId(String teamId, CustomPagingRequest customPagingRequest) {
 
-        // Save the new player.
-        PlayerEntity savedEntity = playerRepository.save(playerEntity);
+        // Validate team existence.
+        footballTeamRepository.findById(teamId)
+                .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
+
+        Page<PlayerEntity> playerEntities = playerRepository.findByFootballTeam_Id(teamId, customPagingRequest.toPageable());
 
-        // Update the team's player list.
-        teamEntity.getPlayers().add(savedEntity);
-        footballTeamRepository.save(teamEntity);
+        if (playerEntities.getContent().isEmpty()) {
+            throw new PlayerNotFoundException("No players found for team with id " + teamId);
+        }
 
-        // Convert the saved entity to the domain model and return.
-        return playerEntityToPlayerMapper.map(savedEntity);
+        List<Player> players = playerEntities.getContent().stream()
+                .map(playerEntityToPlayerMapper::map)
+                .collect(Collectors.toList());
+        return CustomPage.of(players, playerEntities);
 
     }
 
+    /**
+     * Recounts the roster counters from the players table at startup, so teams created before the counters
+     * existed, or changed outside this service, start from the right numbers.
+     * Teams are recounted in id-ordered chunks, each in its own short transaction, so roster writes only ever
+     * wait for the chunk their team is in. When several instances start together only one recounts; the others
+     * would only repeat the same work.
+     */
     @Override
-    public void deletePlayer(String teamId, String playerId) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileRosterCounts() {
+
+        String afterTeamId = "";
+        int reconciledTeams = 0;
+
+        while (afterTeamId != null) {
+
+            final String chunkStart = afterTeamId;
+            RosterReconciliation reconciliation = transactionTemplate.execute(status ->
+                    playerRosterRepository.tryLockReconciliation()
+                            ? playerRosterRepository.reconcileRosterCounts(chunkStart, RECONCILE_CHUNK_SIZE)
+                            : null
+            );
+
+            if (reconciliation == null) {
+                log.info("Roster counters are being reconciled by another instance, skipping");
+                break;
+            }
+
+            reconciledTeams += reconciliation.reconciledTeams();
+            afterTeamId = reconciliation.lastTeamId();
+        }
+
+        if (reconciledTeams > 0) {
+            log.info("Reconciled roster counters of {} football teams", reconciledTeams);
+        }
+    }
+
+    private void removePlayerFromRoster(String teamId, String playerId) {
 
         FootballTeamEntity teamEntity = footballTeamRepository.findById(teamId)
                 .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
@@ -111,18 +287,13 @@ public class PlayerServiceImpl implements PlayerService {
 
         playerRepository.delete(playerEntity);
 
+        this.applyRosterChange(
+                teamEntity, -1, -countOf(playerEntity.isForeignPlayer()), -countOf(isGoalkeeper(playerEntity))
+        );
+
     }
 
-    /**
-     * Updates an existing player on a team based on the provided UpdatePlayerRequest.
-     *
-     * @param teamId             the ID of the football team.
-     * @param playerId           the ID of the player to update.
-     * @param updatePlayerRequest the request data for updating the player.
-     * @return the updated player as a domain model.
-     */
-    @Override
-    public Player updatePlayer(String teamId, String playerId, UpdatePlayerRequest updatePlayerRequest) {
+    private Player updatePlayerOnRoster(String teamId, String playerId, UpdatePlayerRequest updatePlayerRequest) {
 
         // Retrieve the team entity; throw if not found.
         FootballTeamEntity teamEntity = footballTeamRepository.findById(teamId)
@@ -138,8 +309,19 @@ public class PlayerServiceImpl implements PlayerService {
         }
 
         // Update the player entity using data from the update request.
+        boolean wasForeignPlayer = playerEntity.isForeignPlayer();
+        boolean wasGoalkeeper = isGoalkeeper(playerEntity);
         updatePlayerRequestToPlayerEntityMapper.mapForUpdating(updatePlayerRequest, playerEntity);
 
+        // Keep the roster counters in line with the player's new nationality and position. The version is
+        // bumped even when nothing is counted differently, so a concurrent move of this player is detected.
+        this.applyRosterChange(
+                teamEntity,
+                0,
+                countOf(playerEntity.isForeignPlayer()) - countOf(wasForeignPlayer),
+                countOf(isGoalkeeper(playerEntity)) - countOf(wasGoalkeeper)
+        );
+
         // Save the updated player entity.
         PlayerEntity updatedEntity = playerRepository.save(playerEntity);
 
@@ -148,24 +330,54 @@ public class PlayerServiceImpl implements PlayerService {
 
     }
 
-    @Override
-    public CustomPage<Player> getPlayersByTeamId(String teamId, CustomPagingRequest customPagingRequest) {
+    private void applyRosterChange(FootballTeamEntity teamEntity,
+                                   int playerDelta,
+                                   int foreignPlayerDelta,
+                                   int goalkeeperDelta) {
 
-        // Validate team existence.
-        footballTeamRepository.findById(teamId)
+        boolean applied = playerRosterRepository.adjustRosterCounts(
+                teamEntity.getId(), teamEntity.getRosterVersion(), playerDelta, foreignPlayerDelta, goalkeeperDelta
+        );
+
+        if (!applied) {
+            throw new OptimisticLockingFailureException("Roster of team " + teamEntity.getId() + " changed concurrently");
+        }
+    }
+
+    private Optional<RuntimeException> findRosterViolation(String teamId, AddPlayerRequest addPlayerRequest) {
+
+        RosterCounts rosterCounts = playerRosterRepository.findRosterCounts(teamId)
                 .orElseThrow(() -> new FootballTeamNotFoundException("Team with id " + teamId + " does not exist"));
 
-        Page<PlayerEntity> playerEntities = playerRepository.findByFootballTeam_Id(teamId, customPagingRequest.toPageable());
+        return rosterViolation(rosterCounts, addPlayerRequest);
+    }
 
-        if (playerEntities.getContent().isEmpty()) {
-            throw new PlayerNotFoundException("No players found for team with id " + teamId);
+    private static Optional<RuntimeException> rosterViolation(RosterCounts rosterCounts, AddPlayerRequest addPlayerRequest) {
+
+        // Business Rule 1: Maximum 18 players per team.
+        if (rosterCounts.players() >= MAX_PLAYERS) {
+            return Optional.of(new MaxPlayersExceededException());
         }
 
-        List<Player> players = playerEntities.getContent().stream()
-                .map(playerEntityToPlayerMapper::map)
-                .collect(Collectors.toList());
-        return CustomPage.of(players, playerEntities);
+        // Business Rule 2: Maximum 6 foreign players per team.
+        if (addPlayerRequest.foreignPlayer() && rosterCounts.foreignPlayers() >= MAX_FOREIGN_PLAYERS) {
+            return Optional.of(new IllegalStateException("A team can have at most 6 foreign players"));
+        }
+
+        // Business Rule 3: Maximum 2 goalkeepers per team.
+        if (addPlayerRequest.position() == Position.GOALKEEPER && rosterCounts.goalkeepers() >= MAX_GOALKEEPERS) {
+            return Optional.of(new IllegalStateException("A team can have at most 2 goalkeepers"));
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean isGoalkeeper(PlayerEntity playerEntity) {
+        return playerEntity.getPosition() == Position.GOALKEEPER;
+    }
 
+    private static int countOf(boolean counted) {
+        return counted ? 1 : 0;
     }
 
 }
@@ -14,11 +14,11 @@ public class FootballTeamAlreadyExistException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "A team with the given name already exists.";
 
     public FootballTeamAlreadyExistException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public FootballTeamAlreadyExistException(String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 
 }
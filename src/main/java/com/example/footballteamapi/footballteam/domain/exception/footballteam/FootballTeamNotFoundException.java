@@ -14,10 +14,10 @@ public class FootballTeamNotFoundException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "Football team not found!";
 
     public FootballTeamNotFoundException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public FootballTeamNotFoundException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 }
@@ -14,10 +14,10 @@ public class MaxPlayersExceededException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "A team can have at most 18 players";
 
     public MaxPlayersExceededException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public MaxPlayersExceededException(String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 }
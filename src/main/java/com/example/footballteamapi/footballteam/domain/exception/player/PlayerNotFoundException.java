@@ -14,10 +14,10 @@ public class PlayerNotFoundException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "Player not found!";
 
     public PlayerNotFoundException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public PlayerNotFoundException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 }
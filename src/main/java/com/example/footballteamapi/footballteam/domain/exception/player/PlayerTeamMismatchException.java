@@ -14,10 +14,10 @@ public class PlayerTeamMismatchException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "Player does not belong to the given team";
 
     public PlayerTeamMismatchException() {
-        super(DEFAULT_MESSAGE);
+        super(DEFAULT_MESSAGE, null, false, false);
     }
 
     public PlayerTeamMismatchException(final String message) {
-        super(DEFAULT_MESSAGE + " " + message);
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
     }
 }
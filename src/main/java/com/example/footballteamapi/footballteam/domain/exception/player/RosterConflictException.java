@@ -0,0 +1,23 @@
+package com.example.footballteamapi.footballteam.domain.exception.player;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+public class RosterConflictException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -6406139127559325548L;
+
+    public static final HttpStatus STATUS = HttpStatus.CONFLICT;
+
+    private static final String DEFAULT_MESSAGE = "The team's roster is being changed by another request, please retry!";
+
+    public RosterConflictException() {
+        super(DEFAULT_MESSAGE, null, false, false);
+    }
+
+    public RosterConflictException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message, null, false, false);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.footballteamapi.footballteam.domain.model;
+
+/**
+ * Outcome of one team in a bulk creation: the created team, or why its name was refused.
+ *
+ * @param index    position of the team in the request.
+ * @param teamName the requested team name.
+ * @param team     the created team, {@code null} on a name conflict.
+ * @param error    the name conflict, {@code null} if created.
+ */
+public record FootballTeamCreationResult(int index, String teamName, FootballTeam team, String error) {
+
+    public static FootballTeamCreationResult created(final int index, final FootballTeam team) {
+        return new FootballTeamCreationResult(index, team.getTeamName(), team, null);
+    }
+
+    public static FootballTeamCreationResult conflict(final int index, final String teamName, final String error) {
+        return new FootballTeamCreationResult(index, teamName, null, error);
+    }
+
+    public boolean isCreated() {
+        return team != null;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.footballteamapi.footballteam.domain.model;
+
+/**
+ * Outcome of one player in a bulk addition: the added player, or the reason it was rejected.
+ *
+ * @param index  position of the player in the request.
+ * @param teamId the team the player was meant for.
+ * @param player the added player, {@code null} if rejected.
+ * @param error  the broken roster rule, {@code null} if added.
+ */
+public record PlayerAdditionResult(int index, String teamId, Player player, String error) {
+
+    public static PlayerAdditionResult added(final int index, final String teamId, final Player player) {
+        return new PlayerAdditionResult(index, teamId, player, null);
+    }
+
+    public static PlayerAdditionResult rejected(final int index, final String teamId, final String error) {
+        return new PlayerAdditionResult(index, teamId, null, error);
+    }
+
+    public boolean isAdded() {
+        return player != null;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.footballteamapi.footballteam.domain.model;
+
+/**
+ * Number of players, foreign players and goalkeepers currently on a team's roster.
+ */
+public record RosterCounts(int players, int foreignPlayers, int goalkeepers) {
+
+    public RosterCounts plus(final RosterCounts other) {
+        return new RosterCounts(
+                players + other.players,
+                foreignPlayers + other.foreignPlayers,
+                goalkeepers + other.goalkeepers
+        );
+    }
+
+}
@@ -4,13 +4,17 @@ import com.example.footballteamapi.common.application.dto.request.CustomPagingRe
 import com.example.footballteamapi.common.application.dto.response.CustomPagingResponse;
 import com.example.footballteamapi.common.application.dto.response.CustomResponse;
 import com.example.footballteamapi.common.domain.model.CustomPage;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.FootballTeamPagingRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
+import com.example.footballteamapi.footballteam.application.dto.response.BulkCreateFootballTeamResponse;
 import com.example.footballteamapi.footballteam.application.dto.response.FootballTeamResponse;
 import com.example.footballteamapi.footballteam.application.service.FootballTeamService;
 import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.CustomPageFootballTeamToCustomPagingFootballTeamResponseMapper;
+import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.FootballTeamToFootballTeamResponseMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,6 +26,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/api/v1/football-teams")
@@ -38,6 +44,9 @@ public class FootballTeamController {
     private final CustomPageFootballTeamToCustomPagingFootballTeamResponseMapper customPageFootballTeamToCustomPagingFootballTeamResponseMapper =
             CustomPageFootballTeamToCustomPagingFootballTeamResponseMapper.initialize();
 
+    private final FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper footballTeamCreationResultsToBulkCreateFootballTeamResponseMapper =
+            FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper.initialize();
+
     @Operation(
             summary = "Create a new football team",
             description = "Creates a new football team in the system.",
@@ -54,6 +63,25 @@ public class FootballTeamController {
         return CustomResponse.successOf(response);
     }
 
+    @Operation(
+            summary = "Create football teams in bulk",
+            description = "Creates many football teams in one request and reports, per team, "
+                    + "whether it was created or its name is already taken.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Request processed, see the result of each team"),
+                    @ApiResponse(responseCode = "400", description = "Invalid request data")
+            }
+    )
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public CustomResponse<BulkCreateFootballTeamResponse> createTeamsInBulk(
+            @RequestBody @Valid final BulkCreateFootballTeamRequest request) {
+        List<FootballTeamCreationResult> results = footballTeamService.createTeamsInBulk(request);
+        BulkCreateFootballTeamResponse response =
+                footballTeamCreationResultsToBulkCreateFootballTeamResponseMapper.toBulkResponse(results);
+        return CustomResponse.successOf(response);
+    }
+
     @Operation(
             summary = "Update a football team",
             description = "Updates an existing football team's name.",
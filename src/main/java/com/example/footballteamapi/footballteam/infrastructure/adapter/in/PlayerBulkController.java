@@ -0,0 +1,50 @@
+package com.example.footballteamapi.footballteam.infrastructure.adapter.in;
+
+import com.example.footballteamapi.common.application.dto.response.CustomResponse;
+import com.example.footballteamapi.footballteam.application.dto.request.player.BulkAddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.dto.response.BulkAddPlayerResponse;
+import com.example.footballteamapi.footballteam.application.service.PlayerService;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import com.example.footballteamapi.footballteam.infrastructure.mapper.player.PlayerAdditionResultsToBulkAddPlayerResponseMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/football-teams/players")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Players", description = "Handles player operations for a football team.")
+public class PlayerBulkController {
+
+    private final PlayerService playerService;
+
+    private final PlayerAdditionResultsToBulkAddPlayerResponseMapper playerAdditionResultsToBulkAddPlayerResponseMapper =
+            PlayerAdditionResultsToBulkAddPlayerResponseMapper.initialize();
+
+    @Operation(
+            summary = "Add players to teams in bulk",
+            description = "Adds players to one or many football teams in one request and reports, per player, "
+                    + "whether it was added or which roster rule rejected it.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Request processed, see the result of each player"),
+                    @ApiResponse(responseCode = "400", description = "Invalid request data")
+            }
+    )
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public CustomResponse<BulkAddPlayerResponse> addPlayersInBulk(
+            @RequestBody @Valid BulkAddPlayerRequest bulkAddPlayerRequest) {
+        List<PlayerAdditionResult> results = playerService.addPlayersInBulk(bulkAddPlayerRequest);
+        BulkAddPlayerResponse response = playerAdditionResultsToBulkAddPlayerResponseMapper.toBulkResponse(results);
+        return CustomResponse.successOf(response);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.footballteamapi.footballteam.infrastructure.concurrency;
+
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
+import com.example.footballteamapi.footballteam.infrastructure.config.RosterRetryProperties;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs a roster change in its own transaction and runs it again, after a short random backoff,
+ * when it loses an optimistic race on the team's roster version.
+ * Only the team being changed is contended; after {@code maxAttempts} lost races the caller gets a
+ * {@link RosterConflictException} instead of waiting any longer.
+ */
+@Component
+public class RosterMutationRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final RosterRetryProperties rosterRetryProperties;
+
+    public RosterMutationRetry(final PlatformTransactionManager transactionManager,
+                               final RosterRetryProperties rosterRetryProperties) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rosterRetryProperties = rosterRetryProperties;
+    }
+
+    public <T> T execute(final String teamId, final Supplier<T> mutation) {
+
+        final int maxAttempts = this.maxAttempts();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> mutation.get());
+            } catch (OptimisticLockingFailureException exception) {
+                if (attempt >= maxAttempts) {
+                    throw new RosterConflictException("Team id = " + teamId);
+                }
+                this.backOff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Attempts a contended roster change gets before the caller is told to retry, at least one.
+     */
+    public int maxAttempts() {
+        return Math.max(1, rosterRetryProperties.getMaxAttempts());
+    }
+
+    private void backOff(final int attempt) {
+        final long maxBackoffNanos = rosterRetryProperties.getBackoff().toNanos() * attempt;
+        if (maxBackoffNanos > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(maxBackoffNanos + 1));
+        }
+    }
+
+}
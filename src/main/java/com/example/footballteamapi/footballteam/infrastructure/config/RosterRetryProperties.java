@@ -0,0 +1,20 @@
+package com.example.footballteamapi.footballteam.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "football-team.roster-retry")
+public class RosterRetryProperties {
+
+    private int maxAttempts = 5;
+
+    private Duration backoff = Duration.ofMillis(5);
+
+}
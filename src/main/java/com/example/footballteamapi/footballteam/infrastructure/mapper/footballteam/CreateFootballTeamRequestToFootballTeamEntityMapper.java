@@ -3,6 +3,7 @@ package com.example.footballteamapi.footballteam.infrastructure.mapper.footballt
 import com.example.footballteamapi.common.infrastructure.mapper.BaseMapper;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import com.example.footballteamapi.footballteam.infrastructure.utils.TeamNameNormalizer;
 import org.mapstruct.Mapper;
 import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
@@ -20,6 +21,7 @@ public interface CreateFootballTeamRequestToFootballTeamEntityMapper extends Bas
     default FootballTeamEntity mapForSaving(CreateFootballTeamRequest request) {
         return FootballTeamEntity.builder()
                 .teamName(request.teamName())
+                .normalizedTeamName(TeamNameNormalizer.normalize(request.teamName()))
                 .build();
     }
 
@@ -0,0 +1,54 @@
+package com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam;
+
+import com.example.footballteamapi.footballteam.application.dto.response.BulkCreateFootballTeamResponse;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+@Mapper
+public interface FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper {
+
+    FootballTeamToFootballTeamResponseMapper footballTeamToFootballTeamResponseMapper =
+            Mappers.getMapper(FootballTeamToFootballTeamResponseMapper.class);
+
+    /**
+     * Converts the per-team results of a bulk creation to a {@link BulkCreateFootballTeamResponse}.
+     *
+     * @param results the results of the bulk creation, in request order.
+     * @return a {@link BulkCreateFootballTeamResponse} with the created and conflicting counts and one item per team,
+     *         or {@code null} if {@code results} is {@code null}.
+     */
+    default BulkCreateFootballTeamResponse toBulkResponse(List<FootballTeamCreationResult> results) {
+        if (results == null) {
+            return null;
+        }
+
+        List<BulkCreateFootballTeamResponse.Item> items = results.stream()
+                .map(result -> new BulkCreateFootballTeamResponse.Item(
+                        result.index(),
+                        result.teamName(),
+                        result.isCreated(),
+                        result.isCreated() ? footballTeamToFootballTeamResponseMapper.map(result.team()) : null,
+                        result.error()
+                ))
+                .toList();
+
+        int createdCount = (int) results.stream()
+                .filter(FootballTeamCreationResult::isCreated)
+                .count();
+
+        return new BulkCreateFootballTeamResponse(createdCount, results.size() - createdCount, items);
+    }
+
+    /**
+     * Initializes and returns an instance of {@link FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper}.
+     *
+     * @return an instance of the mapper.
+     */
+    static FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper initialize() {
+        return Mappers.getMapper(FootballTeamCreationResultsToBulkCreateFootballTeamResponseMapper.class);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.example.footballteamapi.footballteam.infrastructure.mapper.footballt
 import com.example.footballteamapi.common.infrastructure.mapper.BaseMapper;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import com.example.footballteamapi.footballteam.infrastructure.utils.TeamNameNormalizer;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
@@ -21,6 +22,7 @@ public interface UpdateFootballTeamRequestToFootballTeamEntityMapper extends Bas
     @Named("mapForUpdating")
     default FootballTeamEntity mapForUpdating(UpdateFootballTeamRequest request, @MappingTarget FootballTeamEntity entity) {
         entity.setTeamName(request.teamName());
+        entity.setNormalizedTeamName(TeamNameNormalizer.normalize(request.teamName()));
         return entity;
     }
 
@@ -0,0 +1,53 @@
+package com.example.footballteamapi.footballteam.infrastructure.mapper.player;
+
+import com.example.footballteamapi.footballteam.application.dto.response.BulkAddPlayerResponse;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+@Mapper
+public interface PlayerAdditionResultsToBulkAddPlayerResponseMapper {
+
+    PlayerToPlayerResponseMapper playerToPlayerResponseMapper = Mappers.getMapper(PlayerToPlayerResponseMapper.class);
+
+    /**
+     * Converts the per-player results of a bulk addition to a {@link BulkAddPlayerResponse}.
+     *
+     * @param results the results of the bulk addition, in request order.
+     * @return a {@link BulkAddPlayerResponse} with the added and rejected counts and one item per player,
+     *         or {@code null} if {@code results} is {@code null}.
+     */
+    default BulkAddPlayerResponse toBulkResponse(List<PlayerAdditionResult> results) {
+        if (results == null) {
+            return null;
+        }
+
+        List<BulkAddPlayerResponse.Item> items = results.stream()
+                .map(result -> new BulkAddPlayerResponse.Item(
+                        result.index(),
+                        result.teamId(),
+                        result.isAdded(),
+                        playerToPlayerResponseMapper.map(result.player()),
+                        result.error()
+                ))
+                .toList();
+
+        int addedCount = (int) results.stream()
+                .filter(PlayerAdditionResult::isAdded)
+                .count();
+
+        return new BulkAddPlayerResponse(addedCount, results.size() - addedCount, items);
+    }
+
+    /**
+     * Initializes and returns an instance of {@link PlayerAdditionResultsToBulkAddPlayerResponseMapper}.
+     *
+     * @return an instance of the mapper.
+     */
+    static PlayerAdditionResultsToBulkAddPlayerResponseMapper initialize() {
+        return Mappers.getMapper(PlayerAdditionResultsToBulkAddPlayerResponseMapper.class);
+    }
+
+}
@@ -15,9 +15,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "FOOTBALL_TEAMS")
+@Table(
+        name = "FOOTBALL_TEAMS",
+        indexes = {
+                @Index(name = FootballTeamEntity.NORMALIZED_TEAM_NAME_INDEX, columnList = "NORMALIZED_TEAM_NAME", unique = true)
+        }
+)
 public class FootballTeamEntity extends BaseEntity {
 
+    public static final String NORMALIZED_TEAM_NAME_INDEX = "UX_FOOTBALL_TEAMS_NORMALIZED_TEAM_NAME";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "ID")
@@ -25,7 +32,38 @@ public class FootballTeamEntity extends BaseEntity {
 
     private String teamName;
 
+    /**
+     * The team name as normalized by {@code TeamNameNormalizer}; unique, so two teams cannot differ only
+     * in case or spacing.
+     */
+    @Column(name = "NORMALIZED_TEAM_NAME")
+    private String normalizedTeamName;
+
     @OneToMany(mappedBy = "footballTeam", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PlayerEntity> players = new ArrayList<>();
 
+    /**
+     * Roster counters maintained by {@code PlayerRosterRepository}.
+     * They are never written through JPA, so saving a team cannot overwrite a concurrent change.
+     */
+    @Column(name = "PLAYER_COUNT", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int playerCount;
+
+    @Column(name = "FOREIGN_PLAYER_COUNT", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int foreignPlayerCount;
+
+    @Column(name = "GOALKEEPER_COUNT", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private int goalkeeperCount;
+
+    /**
+     * Bumped with every change to the roster counters; roster changes that read a player first
+     * apply only if it has not moved since the team was read.
+     */
+    @Column(name = "ROSTER_VERSION", insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long rosterVersion;
+
 }
@@ -0,0 +1,115 @@
+package com.example.footballteamapi.footballteam.infrastructure.repository;
+
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes teams against the unique index on {@code normalized_team_name}.
+ * Teams are inserted in multi-row statements and a team whose name is taken is skipped by the database instead of
+ * failing the statement, which also covers names taken by a concurrent request after they were checked.
+ * Each statement returns the ids it inserted, so the outcome does not depend on how the driver reports
+ * update counts of batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FootballTeamNameRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_IF_NAME_FREE = """
+            INSERT INTO football_teams (id, team_name, normalized_team_name, created_at, created_by)
+            VALUES %s
+            ON CONFLICT (normalized_team_name) DO NOTHING
+            RETURNING id""";
+
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, ?)";
+
+    /**
+     * Same rule as {@code TeamNameNormalizer}. Where several older teams share a normalized name only the
+     * first created gets it, so the unique index holds; the others keep a null name until renamed.
+     */
+    private static final String BACKFILL_NORMALIZED_TEAM_NAMES = """
+            UPDATE football_teams team
+            SET normalized_team_name = candidate.normalized_team_name
+            FROM (
+                SELECT DISTINCT ON (normalized_team_name) id, normalized_team_name
+                FROM (
+                    SELECT id,
+                           created_at,
+                           lower(regexp_replace(btrim(team_name, E' \\t\\n\\r\\f'), '\\s+', ' ', 'g')) AS normalized_team_name
+                    FROM football_teams
+                    WHERE normalized_team_name IS NULL
+                      AND team_name IS NOT NULL
+                ) named
+                ORDER BY normalized_team_name, created_at, id
+            ) candidate
+            WHERE team.id = candidate.id
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM football_teams other
+                  WHERE other.normalized_team_name = candidate.normalized_team_name
+              )""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the teams, which must already carry their id, normalized name and creation fields,
+     * skipping every team whose normalized name is already taken.
+     *
+     * @return for each team, in order, whether it was inserted.
+     */
+    public boolean[] insertIfNameFree(final List<FootballTeamEntity> teamEntities) {
+
+        final Set<String> insertedIds = new HashSet<>();
+
+        for (int from = 0; from < teamEntities.size(); from += BATCH_SIZE) {
+
+            final List<FootballTeamEntity> batch = teamEntities.subList(from, Math.min(from + BATCH_SIZE, teamEntities.size()));
+            final Object[] arguments = batch.stream()
+                    .flatMap(teamEntity -> Stream.of(
+                            teamEntity.getId(),
+                            teamEntity.getTeamName(),
+                            teamEntity.getNormalizedTeamName(),
+                            timestamp(teamEntity.getCreatedAt()),
+                            teamEntity.getCreatedBy()
+                    ))
+                    .toArray();
+
+            insertedIds.addAll(jdbcTemplate.queryForList(
+                    INSERT_IF_NAME_FREE.formatted(String.join(", ", Collections.nCopies(batch.size(), INSERT_VALUES))),
+                    String.class,
+                    arguments
+            ));
+        }
+
+        final boolean[] inserted = new boolean[teamEntities.size()];
+        for (int index = 0; index < inserted.length; index++) {
+            inserted[index] = insertedIds.contains(teamEntities.get(index).getId());
+        }
+        return inserted;
+    }
+
+    /**
+     * Fills in the normalized name of teams saved before the column existed.
+     *
+     * @return the number of teams that were given a normalized name.
+     */
+    public int backfillNormalizedTeamNames() {
+        return jdbcTemplate.update(BACKFILL_NORMALIZED_TEAM_NAMES);
+    }
+
+    private static Timestamp timestamp(final LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+}
@@ -0,0 +1,266 @@
+package com.example.footballteamapi.footballteam.infrastructure.repository;
+
+import com.example.footballteamapi.footballteam.domain.enums.Position;
+import com.example.footballteamapi.footballteam.domain.model.RosterCounts;
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the roster counters on {@code football_teams} and inserts players against them.
+ * A player is inserted by one statement that first bumps the counters of its team, guarded by the roster limits,
+ * and then inserts the row only if the team row was updated. The update locks the team row and re-checks the
+ * guard against the latest counters, so concurrent inserts cannot overfill a team.
+ * Every change to the counters also bumps {@code roster_version}; changes that depend on a player read earlier,
+ * like moving or removing that player, only apply if the version is still the one read with the team.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerRosterRepository {
+
+    private static final long RECONCILE_ADVISORY_LOCK_KEY = 0x524F535445524354L;
+
+    private static final String INSERT_IF_ROSTER_ALLOWS = """
+            WITH reserved AS (
+                UPDATE football_teams
+                SET player_count = player_count + 1,
+                    foreign_player_count = foreign_player_count + CASE WHEN ? THEN 1 ELSE 0 END,
+                    goalkeeper_count = goalkeeper_count + CASE WHEN ? THEN 1 ELSE 0 END,
+                    roster_version = roster_version + 1
+                WHERE id = ?
+                  AND player_count < ?
+                  AND (NOT ? OR foreign_player_count < ?)
+                  AND (NOT ? OR goalkeeper_count < ?)
+                RETURNING id
+            )
+            INSERT INTO football_players (id, name, foreign_player, position, football_team_id, created_at, created_by)
+            SELECT ?, ?, ?, ?, reserved.id, ?, ?
+            FROM reserved""";
+
+    private static final String FIND_ROSTER_COUNTS = """
+            SELECT player_count, foreign_player_count, goalkeeper_count
+            FROM football_teams
+            WHERE id = ?""";
+
+    private static final String ADJUST_ROSTER_COUNTS = """
+            UPDATE football_teams
+            SET player_count = player_count + ?,
+                foreign_player_count = foreign_player_count + ?,
+                goalkeeper_count = goalkeeper_count + ?,
+                roster_version = roster_version + 1
+            WHERE id = ?
+              AND roster_version = ?""";
+
+    private static final String LOCK_ROSTER_COUNTS = """
+            SELECT id, player_count, foreign_player_count, goalkeeper_count
+            FROM football_teams
+            WHERE id IN (%s)
+            ORDER BY id
+            FOR UPDATE""";
+
+    private static final String ADD_TO_ROSTER_COUNTS = """
+            UPDATE football_teams
+            SET player_count = player_count + ?,
+                foreign_player_count = foreign_player_count + ?,
+                goalkeeper_count = goalkeeper_count + ?,
+                roster_version = roster_version + 1
+            WHERE id = ?""";
+
+    private static final String LOCK_ROSTER_COUNTS_AFTER = """
+            SELECT id
+            FROM football_teams
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE""";
+
+    private static final String RECONCILE_ROSTER_COUNTS = """
+            UPDATE football_teams team
+            SET player_count = roster.players,
+                foreign_player_count = roster.foreign_players,
+                goalkeeper_count = roster.goalkeepers,
+                roster_version = team.roster_version + 1
+            FROM (
+                SELECT team.id,
+                       count(player.id) AS players,
+                       count(player.id) FILTER (WHERE player.foreign_player) AS foreign_players,
+                       count(player.id) FILTER (WHERE player.position = 'GOALKEEPER') AS goalkeepers
+                FROM football_teams team
+                LEFT JOIN football_players player ON player.football_team_id = team.id
+                WHERE team.id IN (%s)
+                GROUP BY team.id
+            ) roster
+            WHERE team.id = roster.id
+              AND (team.player_count, team.foreign_player_count, team.goalkeeper_count)
+                  IS DISTINCT FROM (roster.players, roster.foreign_players, roster.goalkeepers)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the player, which must already carry its id and creation fields, into the team's roster
+     * if the team exists and is below every limit.
+     *
+     * @return {@code true} if the player was inserted, {@code false} if the team is missing or a limit is reached.
+     */
+    public boolean insertIfRosterAllows(final String teamId,
+                                        final PlayerEntity playerEntity,
+                                        final int maxPlayers,
+                                        final int maxForeignPlayers,
+                                        final int maxGoalkeepers) {
+
+        final boolean goalkeeper = playerEntity.getPosition() == Position.GOALKEEPER;
+
+        return jdbcTemplate.update(
+                INSERT_IF_ROSTER_ALLOWS,
+                playerEntity.isForeignPlayer(),
+                goalkeeper,
+                teamId,
+                maxPlayers,
+                playerEntity.isForeignPlayer(),
+                maxForeignPlayers,
+                goalkeeper,
+                maxGoalkeepers,
+                playerEntity.getId(),
+                playerEntity.getName(),
+                playerEntity.isForeignPlayer(),
+                playerEntity.getPosition() == null ? null : playerEntity.getPosition().name(),
+                timestamp(playerEntity.getCreatedAt()),
+                playerEntity.getCreatedBy()
+        ) == 1;
+    }
+
+    public Optional<RosterCounts> findRosterCounts(final String teamId) {
+        return jdbcTemplate.query(
+                FIND_ROSTER_COUNTS,
+                (resultSet, rowNumber) -> new RosterCounts(
+                        resultSet.getInt("player_count"),
+                        resultSet.getInt("foreign_player_count"),
+                        resultSet.getInt("goalkeeper_count")
+                ),
+                teamId
+        ).stream().findFirst();
+    }
+
+    /**
+     * Applies the given changes to the team's counters, e.g. when a player leaves the team or changes position,
+     * provided the roster is still at {@code expectedRosterVersion}.
+     *
+     * @return {@code true} if the counters were changed, {@code false} if the roster changed in the meantime
+     * or the team no longer exists.
+     */
+    public boolean adjustRosterCounts(final String teamId,
+                                      final long expectedRosterVersion,
+                                      final int playerDelta,
+                                      final int foreignPlayerDelta,
+                                      final int goalkeeperDelta) {
+        return jdbcTemplate.update(
+                ADJUST_ROSTER_COUNTS, playerDelta, foreignPlayerDelta, goalkeeperDelta, teamId, expectedRosterVersion
+        ) == 1;
+    }
+
+    /**
+     * Locks the rows of the given teams until the end of the transaction and reads their counters.
+     * Rows are locked in id order, so two bulk additions sharing teams cannot deadlock each other;
+     * guarded inserts and roster adjustments on these teams wait until the transaction ends.
+     *
+     * @return the counters of every given team that exists, keyed by team id.
+     */
+    public Map<String, RosterCounts> lockRosterCounts(final Collection<String> teamIds) {
+
+        final Map<String, RosterCounts> rosterCounts = new HashMap<>();
+        if (teamIds.isEmpty()) {
+            return rosterCounts;
+        }
+
+        jdbcTemplate.query(
+                LOCK_ROSTER_COUNTS.formatted(String.join(", ", Collections.nCopies(teamIds.size(), "?"))),
+                (RowCallbackHandler) resultSet -> rosterCounts.put(
+                        resultSet.getString("id"),
+                        new RosterCounts(
+                                resultSet.getInt("player_count"),
+                                resultSet.getInt("foreign_player_count"),
+                                resultSet.getInt("goalkeeper_count")
+                        )
+                ),
+                teamIds.toArray()
+        );
+        return rosterCounts;
+    }
+
+    /**
+     * Adds the given counts to the counters of each team in one batch. Only for teams locked with
+     * {@link #lockRosterCounts(Collection)} in the current transaction, as the limits are not re-checked.
+     */
+    public void addToRosterCounts(final Map<String, RosterCounts> additions) {
+
+        final List<Object[]> batchArguments = additions.entrySet().stream()
+                .map(addition -> new Object[]{
+                        addition.getValue().players(),
+                        addition.getValue().foreignPlayers(),
+                        addition.getValue().goalkeepers(),
+                        addition.getKey()
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(ADD_TO_ROSTER_COUNTS, batchArguments);
+    }
+
+    /**
+     * Takes the reconciliation lock until the end of the transaction, so only one instance recounts at a time.
+     *
+     * @return {@code false} if another instance holds it.
+     */
+    public boolean tryLockReconciliation() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RECONCILE_ADVISORY_LOCK_KEY
+        ));
+    }
+
+    /**
+     * Recounts the next {@code chunkSize} teams after {@code afterTeamId}, in id order, whose counters differ from
+     * their players. The chunk's team rows are locked first, in id order like {@link #lockRosterCounts(Collection)},
+     * and the recount reads the players only after that, so a player inserted, moved or removed meanwhile either
+     * is counted or waits until the chunk committed. Roster writes on other teams are not held up.
+     *
+     * @return the number of teams that were corrected, and the id to continue after, or {@code null} once
+     * the chunk reached the last team.
+     */
+    public RosterReconciliation reconcileRosterCounts(final String afterTeamId, final int chunkSize) {
+
+        final List<String> teamIds = jdbcTemplate.queryForList(LOCK_ROSTER_COUNTS_AFTER, String.class, afterTeamId, chunkSize);
+        if (teamIds.isEmpty()) {
+            return new RosterReconciliation(0, null);
+        }
+
+        final int reconciledTeams = jdbcTemplate.update(
+                RECONCILE_ROSTER_COUNTS.formatted(String.join(", ", Collections.nCopies(teamIds.size(), "?"))),
+                teamIds.toArray()
+        );
+        return new RosterReconciliation(reconciledTeams, teamIds.size() < chunkSize ? null : teamIds.getLast());
+    }
+
+    private static Timestamp timestamp(final LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    /**
+     * Outcome of recounting one chunk of teams.
+     *
+     * @param reconciledTeams teams of the chunk whose counters were corrected.
+     * @param lastTeamId      id to continue after, or {@code null} if no team follows the chunk.
+     */
+    public record RosterReconciliation(int reconciledTeams, String lastTeamId) {
+    }
+
+}
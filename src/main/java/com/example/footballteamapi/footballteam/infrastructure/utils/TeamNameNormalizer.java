@@ -0,0 +1,25 @@
+package com.example.footballteamapi.footballteam.infrastructure.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a team name to the form its uniqueness is checked on: trimmed, inner whitespace collapsed
+ * to single spaces and lower-cased, so "Real  Madrid" and "real madrid" are the same team.
+ * {@code FootballTeamNameRepository} applies the same rule in SQL to teams saved before the normalized column existed.
+ */
+@UtilityClass
+public class TeamNameNormalizer {
+
+    private final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public String normalize(final String teamName) {
+        if (teamName == null) {
+            return null;
+        }
+        return WHITESPACE.matcher(teamName.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.footballteamapi.logging.application.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchRequest {
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private String endpoint;
+
+    private HttpStatus status;
+
+    private String userInfo;
+
+    private String errorType;
+
+    private String cursor;
+
+    @Builder.Default
+    @Min(value = 1, message = "Page size must be at least 1.")
+    @Max(value = 1000, message = "Page size must be at most 1000.")
+    private int size = 100;
+
+}
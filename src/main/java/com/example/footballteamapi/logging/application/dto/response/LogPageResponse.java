@@ -0,0 +1,6 @@
+package com.example.footballteamapi.logging.application.dto.response;
+
+import java.util.List;
+
+public record LogPageResponse(List<LogResponse> content,
+                              String nextCursor) {}
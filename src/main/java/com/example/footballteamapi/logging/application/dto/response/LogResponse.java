@@ -0,0 +1,16 @@
+package com.example.footballteamapi.logging.application.dto.response;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+public record LogResponse(String id,
+                          LocalDateTime time,
+                          String endpoint,
+                          String method,
+                          HttpStatus status,
+                          String operation,
+                          String userInfo,
+                          String errorType,
+                          String message,
+                          String response) {}
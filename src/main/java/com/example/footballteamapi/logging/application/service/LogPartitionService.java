@@ -0,0 +1,7 @@
+package com.example.footballteamapi.logging.application.service;
+
+public interface LogPartitionService {
+
+    void maintainPartitions();
+
+}
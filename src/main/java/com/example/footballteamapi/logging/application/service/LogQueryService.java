@@ -0,0 +1,15 @@
+package com.example.footballteamapi.logging.application.service;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPage;
+
+import java.util.function.Consumer;
+
+public interface LogQueryService {
+
+    LogPage searchLogs(LogSearchRequest logSearchRequest);
+
+    void exportLogs(LogSearchRequest logSearchRequest, Consumer<LogEntity> consumer);
+
+}
@@ -4,6 +4,9 @@ import com.example.footballteamapi.logging.domain.model.LogEntity;
 
 public interface LogService {
 
+    /**
+     * Stamps the log and queues it for a batched insert; the row is written asynchronously.
+     */
     void saveLogToDatabase(final LogEntity logEntity);
 
 }
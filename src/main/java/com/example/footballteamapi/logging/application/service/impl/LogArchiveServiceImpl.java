@@ -0,0 +1,204 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.logging.application.service.LogArchiveService;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchive;
+import com.example.footballteamapi.logging.infrastructure.config.LogArchiveProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogArchiveRepository;
+import com.example.footballteamapi.logging.infrastructure.repository.LogPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Moves the partitions of the {@code LOGS} table that ended {@code archiveAfter} ago into the local archive.
+ * A partition is detached first, so nothing writes into it any more, then every day in it is written to its
+ * segment in short keyset reads, and the partition is dropped only once all of its segments are on disk.
+ * A partition left detached by a run that stopped midway is archived again on the next run; the archive merges
+ * the logs it already holds away. Until a detached partition is archived, its logs are found by neither the
+ * table nor the archive.
+ */
+@Slf4j
+@Service
+public class LogArchiveServiceImpl implements LogArchiveService {
+
+    private final LogArchiveRepository logArchiveRepository;
+    private final LogPartitionRepository logPartitionRepository;
+    private final LogArchive logArchive;
+    private final LogArchiveProperties logArchiveProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public LogArchiveServiceImpl(final LogArchiveRepository logArchiveRepository,
+                                 final LogPartitionRepository logPartitionRepository,
+                                 final LogArchive logArchive,
+                                 final LogArchiveProperties logArchiveProperties,
+                                 final PlatformTransactionManager transactionManager) {
+        this.logArchiveRepository = logArchiveRepository;
+        this.logPartitionRepository = logPartitionRepository;
+        this.logArchive = logArchive;
+        this.logArchiveProperties = logArchiveProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${audit-log.archive.archive-interval:1h}",
+            fixedDelayString = "${audit-log.archive.archive-interval:1h}"
+    )
+    public void archiveLogs() {
+        if (logArchiveProperties.isEnabled()) {
+            this.archiveLogs(LocalDate.now());
+        }
+    }
+
+    void archiveLogs(final LocalDate today) {
+
+        final LocalDateTime cutoff = today.atStartOfDay()
+                .minus(logArchiveProperties.getArchiveAfter())
+                .toLocalDate()
+                .atStartOfDay();
+
+        logPartitionRepository.findDetachedPartitions().forEach(this::archivePartition);
+
+        String partition;
+        while ((partition = transactionTemplate.execute(status -> this.detachOldestPartitionBefore(cutoff))) != null) {
+            this.archivePartition(partition);
+        }
+
+    }
+
+    /**
+     * Detaches the oldest partition that ends at or before the cutoff, under the partition maintenance lock
+     * so it is not dropped for retention at the same time.
+     *
+     * @return the name of the detached partition, or {@code null} if there is none to archive
+     */
+    private String detachOldestPartitionBefore(final LocalDateTime cutoff) {
+
+        logPartitionRepository.lock();
+
+        return logPartitionRepository.findPartitions().stream()
+                .filter(partition -> partition.to() != null && !partition.to().isAfter(cutoff))
+                .min(Comparator.comparing(LogPartition::to))
+                .map(partition -> {
+                    logPartitionRepository.detachPartition(partition.name());
+                    log.info("Detached log partition {} ending at {} for archiving", partition.name(), partition.to());
+                    return partition.name();
+                })
+                .orElse(null);
+    }
+
+    private void archivePartition(final String partition) {
+
+        Optional<LocalDateTime> oldest = logArchiveRepository.findOldestTime(partition, null);
+
+        while (oldest.isPresent()) {
+
+            final LocalDate day = oldest.get().toLocalDate();
+            final LocalDateTime from = day.atStartOfDay();
+            final LocalDateTime to = from.plusDays(1);
+
+            try {
+                final int rowCount = logArchive.archiveDay(day, new DayIterator(partition, from, to));
+                log.info("Archived logs of {} from {}, segment now holds {}", day, partition, rowCount);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Cannot archive logs of " + day + " from " + partition, exception);
+            }
+
+            oldest = logArchiveRepository.findOldestTime(partition, to);
+        }
+
+        logPartitionRepository.dropPartition(partition);
+        log.info("Dropped archived log partition {}", partition);
+    }
+
+    /**
+     * Walks one day of a detached partition in keyset pages of {@code readBatchSize}. Pages arrive in the database
+     * collation, so the logs sharing the last time of a page are held back until the next page is read and then
+     * sorted together into {@link LogArchive#OLDEST_FIRST}.
+     */
+    private final class DayIterator implements Iterator<LogEntity> {
+
+        private final String partition;
+
+        private final LocalDateTime from;
+
+        private final LocalDateTime to;
+
+        private final List<LogEntity> heldBack = new ArrayList<>();
+
+        private Iterator<LogEntity> page = Collections.emptyIterator();
+
+        private LogCursor after;
+
+        private boolean exhausted;
+
+        private DayIterator(final String partition, final LocalDateTime from, final LocalDateTime to) {
+            this.partition = partition;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !exhausted) {
+                this.readPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public LogEntity next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private void readPage() {
+
+            final int batchSize = logArchiveProperties.getReadBatchSize();
+            final List<LogEntity> logs = logArchiveRepository.findRange(partition, from, to, after, batchSize);
+            exhausted = logs.size() < batchSize;
+            if (!logs.isEmpty()) {
+                after = LogCursor.of(logs.getLast());
+            }
+
+            final List<LogEntity> sorted = new ArrayList<>(heldBack);
+            sorted.addAll(logs);
+            heldBack.clear();
+
+            if (!exhausted) {
+                final LocalDateTime lastTime = sorted.getLast().getTime();
+                int split = sorted.size();
+                while (split > 0 && sorted.get(split - 1).getTime().equals(lastTime)) {
+                    split--;
+                }
+                final List<LogEntity> lastTimeLogs = sorted.subList(split, sorted.size());
+                heldBack.addAll(lastTimeLogs);
+                lastTimeLogs.clear();
+            }
+
+            sorted.sort(LogArchive.OLDEST_FIRST);
+            page = sorted.iterator();
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.logging.application.service.LogPartitionService;
+import com.example.footballteamapi.logging.domain.enums.LogPartitionInterval;
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import com.example.footballteamapi.logging.infrastructure.config.LogPartitionProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps the {@code LOGS} table split into daily or weekly range partitions on {@code time}.
+ * Each run creates the partitions for the next {@code partitionsAhead} intervals and drops every partition
+ * that ended before the retention window, so retention is a metadata change instead of a row delete.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogPartitionServiceImpl implements LogPartitionService {
+
+    private static final String PARTITION_PREFIX = "logs_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final LogPartitionRepository logPartitionRepository;
+    private final LogPartitionProperties logPartitionProperties;
+
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${audit-log.partitioning.maintenance-interval:1h}",
+            fixedDelayString = "${audit-log.partitioning.maintenance-interval:1h}"
+    )
+    public void maintainPartitions() {
+        if (logPartitionProperties.isEnabled()) {
+            this.maintainPartitions(LocalDate.now());
+        }
+    }
+
+    void maintainPartitions(final LocalDate today) {
+
+        logPartitionRepository.lock();
+
+        final String tableKind = logPartitionRepository.findTableKind();
+        if (tableKind == null) {
+            log.warn("Logs table does not exist yet, skipping partition maintenance");
+            return;
+        }
+
+        final LogPartitionInterval interval = logPartitionProperties.getInterval();
+        final LocalDate currentStart = interval.start(today);
+
+        if ("r".equals(tableKind)) {
+            final LocalDateTime legacyUpperBound = interval.next(currentStart).atStartOfDay();
+            logPartitionRepository.convertToPartitioned(legacyUpperBound);
+            log.info("Converted logs to a partitioned table, existing rows before {} kept in logs_legacy",
+                    legacyUpperBound);
+        }
+
+        logPartitionRepository.ensureIndexes();
+
+        final List<LogPartition> partitions = logPartitionRepository.findPartitions();
+
+        this.createUpcomingPartitions(partitions, interval, currentStart);
+        this.dropExpiredPartitions(partitions, currentStart);
+    }
+
+    private void createUpcomingPartitions(final List<LogPartition> partitions,
+                                          final LogPartitionInterval interval,
+                                          final LocalDate currentStart) {
+
+        LocalDate start = currentStart;
+
+        for (int i = 0; i <= logPartitionProperties.getPartitionsAhead(); i++) {
+
+            final LocalDateTime from = start.atStartOfDay();
+            final LocalDateTime to = interval.next(start).atStartOfDay();
+
+            if (partitions.stream().noneMatch(partition -> partition.overlaps(from, to))) {
+                final String name = PARTITION_PREFIX + PARTITION_SUFFIX_FORMAT.format(start);
+                logPartitionRepository.createPartition(name, from, to);
+                log.info("Created log partition {} for [{}, {})", name, from, to);
+            }
+
+            start = interval.next(start);
+        }
+
+    }
+
+    private void dropExpiredPartitions(final List<LogPartition> partitions, final LocalDate currentStart) {
+
+        final LocalDateTime retainedFrom = currentStart.atStartOfDay().minus(logPartitionProperties.getRetention());
+
+        partitions.stream()
+                .filter(partition -> partition.to() != null && !partition.to().isAfter(retainedFrom))
+                .forEach(partition -> {
+                    logPartitionRepository.dropPartition(partition.name());
+                    log.info("Dropped log partition {} ending at {}", partition.name(), partition.to());
+                });
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.application.service.LogQueryService;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPage;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchive;
+import com.example.footballteamapi.logging.infrastructure.repository.LogQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Searches the audit logs newest first. Pages are cut with a {@code (time, id)} cursor instead of an offset,
+ * so every page costs the same no matter how deep the caller has scrolled.
+ * The {@code LOGS} table is read from the archive watermark on; once it runs out, the search continues
+ * in the {@link LogArchive}, which only holds older days.
+ */
+@Service
+@RequiredArgsConstructor
+public class LogQueryServiceImpl implements LogQueryService {
+
+    static final int EXPORT_BATCH_SIZE = 1000;
+
+    private final LogQueryRepository logQueryRepository;
+
+    private final LogArchive logArchive;
+
+    @Override
+    public LogPage searchLogs(final LogSearchRequest logSearchRequest) {
+
+        final LogCursor after = logSearchRequest.getCursor() == null
+                ? null
+                : LogCursor.decode(logSearchRequest.getCursor());
+        final int size = logSearchRequest.getSize();
+        final LocalDateTime watermark = this.findWatermark();
+
+        // one extra row tells whether there is a next page without a count query
+        final List<LogEntity> logs = new ArrayList<>(
+                logQueryRepository.findPage(logSearchRequest, watermark, after, size + 1)
+        );
+
+        if (logs.size() <= size && watermark != null) {
+            final LogCursor archiveAfter = logs.isEmpty() ? after : LogCursor.of(logs.getLast());
+            this.scanArchive(logSearchRequest, archiveAfter, logEntity -> {
+                logs.add(logEntity);
+                return logs.size() <= size;
+            });
+        }
+
+        if (logs.size() <= size) {
+            return new LogPage(logs, null);
+        }
+
+        final List<LogEntity> page = logs.subList(0, size);
+        return new LogPage(page, LogCursor.of(page.get(size - 1)));
+    }
+
+    @Override
+    public void exportLogs(final LogSearchRequest logSearchRequest, final Consumer<LogEntity> consumer) {
+
+        LogCursor after = logSearchRequest.getCursor() == null
+                ? null
+                : LogCursor.decode(logSearchRequest.getCursor());
+        final LocalDateTime watermark = this.findWatermark();
+
+        List<LogEntity> batch;
+        do {
+            batch = logQueryRepository.findPage(logSearchRequest, watermark, after, EXPORT_BATCH_SIZE);
+            batch.forEach(consumer);
+            if (!batch.isEmpty()) {
+                after = LogCursor.of(batch.getLast());
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
+
+        if (watermark != null) {
+            this.scanArchive(logSearchRequest, after, logEntity -> {
+                consumer.accept(logEntity);
+                return true;
+            });
+        }
+
+    }
+
+    private LocalDateTime findWatermark() {
+        try {
+            return logArchive.findWatermark().orElse(null);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read the log archive", exception);
+        }
+    }
+
+    private void scanArchive(final LogSearchRequest logSearchRequest,
+                             final LogCursor after,
+                             final Predicate<LogEntity> consumer) {
+        try {
+            logArchive.scan(logSearchRequest, after, consumer);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read the log archive", exception);
+        }
+    }
+
+}
@@ -2,7 +2,7 @@ package com.example.footballteamapi.logging.application.service.impl;
 
 import com.example.footballteamapi.logging.application.service.LogService;
 import com.example.footballteamapi.logging.domain.model.LogEntity;
-import com.example.footballteamapi.logging.infrastructure.repository.LogRepository;
+import com.example.footballteamapi.logging.infrastructure.persistence.LogWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,12 +12,14 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class LogServiceImpl implements LogService {
 
-    private final LogRepository logRepository;
+    private final LogWriter logWriter;
 
     @Override
     public void saveLogToDatabase(final LogEntity logEntity) {
         logEntity.setTime(LocalDateTime.now());
-        logRepository.save(logEntity);
+        // The row is inserted on the writer thread, so capture the caller while the security context is still set
+        logEntity.prePersist();
+        logWriter.write(logEntity);
     }
 
 }
@@ -0,0 +1,24 @@
+package com.example.footballteamapi.logging.domain.enums;
+
+/**
+ * What the audit log writer does with a new log when its queue is under pressure.
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * Drop the new log when the queue is full.
+     */
+    DROP,
+
+    /**
+     * Once the queue passes the sampling threshold, keep every error log and one in {@code sampleRate}
+     * successful logs; drop the new log when the queue is full.
+     */
+    SAMPLE,
+
+    /**
+     * Wait up to {@code blockTimeout} for room in the queue, then drop the new log.
+     */
+    BLOCK
+
+}
@@ -0,0 +1,46 @@
+package com.example.footballteamapi.logging.domain.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Length of one {@code LOGS} partition.
+ */
+public enum LogPartitionInterval {
+
+    DAILY {
+        @Override
+        public LocalDate start(final LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(final LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+
+    WEEKLY {
+        @Override
+        public LocalDate start(final LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(final LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    };
+
+    /**
+     * Returns the first day of the partition that contains {@code date}.
+     */
+    public abstract LocalDate start(final LocalDate date);
+
+    /**
+     * Returns the first day of the partition after the one starting on {@code start}.
+     */
+    public abstract LocalDate next(final LocalDate start);
+
+}
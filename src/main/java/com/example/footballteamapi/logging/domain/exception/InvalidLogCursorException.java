@@ -0,0 +1,26 @@
+package com.example.footballteamapi.logging.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+
+public class InvalidLogCursorException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -6518094372294116758L;
+
+    public static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    private static final String DEFAULT_MESSAGE = """
+            Log cursor is not valid!
+            """;
+
+    public InvalidLogCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public InvalidLogCursorException(final String message) {
+        super(DEFAULT_MESSAGE + " " + message);
+    }
+
+}
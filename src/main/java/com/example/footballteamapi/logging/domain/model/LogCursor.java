@@ -0,0 +1,41 @@
+package com.example.footballteamapi.logging.domain.model;
+
+import com.example.footballteamapi.logging.domain.exception.InvalidLogCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last log of a page, newest first. The next page continues with logs strictly
+ * before {@code (time, id)}, so pages stay stable while new logs are written.
+ */
+public record LogCursor(LocalDateTime time, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static LogCursor of(final LogEntity logEntity) {
+        return new LogCursor(logEntity.getTime(), logEntity.getId());
+    }
+
+    public static LogCursor decode(final String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new LogCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    decoded.substring(separatorIndex + 1)
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new InvalidLogCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((time.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -15,7 +15,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "LOGS")
+@Table(
+        name = "LOGS",
+        indexes = {
+                @Index(name = "idx_logs_time_id", columnList = "time, id"),
+                @Index(name = "idx_logs_endpoint_time_id", columnList = "endpoint, time, id"),
+                @Index(name = "idx_logs_status_time_id", columnList = "status, time, id"),
+                @Index(name = "idx_logs_user_info_time_id", columnList = "userInfo, time, id"),
+                @Index(name = "idx_logs_error_type_time_id", columnList = "errorType, time, id")
+        }
+)
 public class LogEntity extends BaseEntity {
 
     @Id
@@ -0,0 +1,8 @@
+package com.example.footballteamapi.logging.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of logs, newest first; {@code nextCursor} is {@code null} on the last page.
+ */
+public record LogPage(List<LogEntity> logs, LogCursor nextCursor) {}
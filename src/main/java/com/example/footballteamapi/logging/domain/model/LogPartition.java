@@ -0,0 +1,15 @@
+package com.example.footballteamapi.logging.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A partition of the {@code LOGS} table holding rows with {@code from <= time < to}.
+ * A {@code null} bound is unbounded ({@code MINVALUE} or {@code MAXVALUE}).
+ */
+public record LogPartition(String name, LocalDateTime from, LocalDateTime to) {
+
+    public boolean overlaps(final LocalDateTime otherFrom, final LocalDateTime otherTo) {
+        return (from == null || from.isBefore(otherTo)) && (to == null || to.isAfter(otherFrom));
+    }
+
+}
@@ -1,51 +1,147 @@
 package com.example.footballteamapi.logging.infrastructure.adapter.aop;
 
 import com.example.footballteamapi.auth.domain.exception.*;
+import com.example.footballteamapi.common.domain.model.RequestPrincipal;
+import com.example.footballteamapi.common.infrastructure.context.RequestPrincipalHolder;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamAlreadyExistException;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.MaxPlayersExceededException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerTeamMismatchException;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
 import com.example.footballteamapi.logging.application.service.LogService;
+import com.example.footballteamapi.logging.domain.exception.InvalidLogCursorException;
 import com.example.footballteamapi.logging.domain.model.LogEntity;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.footballteamapi.logging.infrastructure.config.LogCaptureProperties;
+import com.example.footballteamapi.logging.infrastructure.config.LogMetricsProperties;
+import com.example.footballteamapi.logging.infrastructure.utils.TruncatingWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LoggerAspectJ {
 
+    private static final String NO_EXCEPTION = "none";
+
+    /**
+     * Status of each domain exception, keyed by its exact class so the error path is a single hash lookup.
+     */
+    private static final Map<Class<? extends Exception>, String> EXCEPTION_STATUSES = Map.ofEntries(
+            Map.entry(PasswordNotValidException.class, PasswordNotValidException.STATUS.name()),
+            Map.entry(RoleNotFoundException.class, RoleNotFoundException.STATUS.name()),
+            Map.entry(TokenAlreadyInvalidatedException.class, TokenAlreadyInvalidatedException.STATUS.name()),
+            Map.entry(UserAlreadyExistException.class, UserAlreadyExistException.STATUS.name()),
+            Map.entry(UserNotFoundException.class, UserNotFoundException.STATUS.name()),
+            Map.entry(UserStatusNotValidException.class, UserStatusNotValidException.STATUS.name()),
+            Map.entry(UnAuthorizeAttemptException.class, UnAuthorizeAttemptException.STATUS.name()),
+            Map.entry(TooManyAuthenticationAttemptsException.class, TooManyAuthenticationAttemptsException.STATUS.name()),
+            Map.entry(PasswordHashingUnavailableException.class, PasswordHashingUnavailableException.STATUS.name()),
+            Map.entry(FootballTeamAlreadyExistException.class, FootballTeamAlreadyExistException.STATUS.name()),
+            Map.entry(FootballTeamNotFoundException.class, FootballTeamNotFoundException.STATUS.name()),
+            Map.entry(MaxPlayersExceededException.class, MaxPlayersExceededException.STATUS.name()),
+            Map.entry(PlayerNotFoundException.class, PlayerNotFoundException.STATUS.name()),
+            Map.entry(PlayerTeamMismatchException.class, PlayerTeamMismatchException.STATUS.name()),
+            Map.entry(RosterConflictException.class, RosterConflictException.STATUS.name()),
+            Map.entry(InvalidLogCursorException.class, InvalidLogCursorException.STATUS.name())
+    );
+
     private final LogService logService;
 
+    private final LogCaptureProperties logCaptureProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final LogMetricsProperties logMetricsProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Meter.MeterProvider<Timer> operationTimer;
+
+    public LoggerAspectJ(final LogService logService,
+                         final LogCaptureProperties logCaptureProperties,
+                         final ObjectMapper objectMapper,
+                         final LogMetricsProperties logMetricsProperties,
+                         final MeterRegistry meterRegistry) {
+
+        this.logService = logService;
+        this.logCaptureProperties = logCaptureProperties;
+        this.objectMapper = objectMapper;
+        this.logMetricsProperties = logMetricsProperties;
+        this.meterRegistry = meterRegistry;
+        this.operationTimer = Timer.builder("api.operation")
+                .description("Latency of controller operations by outcome")
+                .publishPercentileHistogram(logMetricsProperties.isPercentileHistogram())
+                .minimumExpectedValue(logMetricsProperties.getMinimumExpectedValue())
+                .maximumExpectedValue(logMetricsProperties.getMaximumExpectedValue())
+                .withRegistry(meterRegistry);
+    }
+
     @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
     public void restControllerPointcut() {
 
     }
 
+    /**
+     * Times every controller operation into {@code api.operation}, tagged by operation, HTTP method, status and
+     * exception type, so latency percentiles per endpoint come from Prometheus instead of the {@code LOGS} table.
+     */
+    @Around("restControllerPointcut()")
+    public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        if (!logMetricsProperties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        final long startedAt = meterRegistry.config().clock().monotonicTime();
+
+        try {
+            final Object result = joinPoint.proceed();
+            this.recordOperation(joinPoint, startedAt, this.getResponseStatus(), NO_EXCEPTION);
+            return result;
+        } catch (Exception ex) {
+            this.recordOperation(joinPoint, startedAt, getHttpStatusFromException(ex), ex.getClass().getSimpleName());
+            throw ex;
+        }
+
+    }
+
+    /**
+     * Writes a failed operation to the {@code LOGS} table. Throttled login and register attempts are left out:
+     * they are already counted in {@code api.operation}, and writing a row for each would let a client flooding
+     * the limiter fill the table.
+     */
     @AfterThrowing(pointcut = "restControllerPointcut()", throwing = "ex")
     public void logAfterThrowing(JoinPoint joinPoint, Exception ex) {
 
+        if (ex instanceof TooManyAuthenticationAttemptsException) {
+            return;
+        }
+
         Optional<ServletRequestAttributes> requestAttributes = Optional.ofNullable(
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes()
         );
@@ -57,19 +153,17 @@ public class LoggerAspectJ {
             LogEntity logEntity = LogEntity.builder()
                     .endpoint(request.getRequestURL().toString())
                     .method(request.getMethod())
-                    .message(ex.getMessage())
+                    .message(this.capPayload(ex.getMessage()))
                     .errorType(ex.getClass().getName())
                     .status(HttpStatus.valueOf(getHttpStatusFromException(ex)))
                     .operation(joinPoint.getSignature().getName())
-                    .response(ex.getMessage())
+                    .response(this.capPayload(ex.getMessage()))
                     .build();
 
-            // Get the username from SecurityContextHolder and set it in logEntity
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
-                String username = authentication.getName();
-                logEntity.setUserInfo(username);
-            }
+            // The caller resolved once by the authentication filter
+            RequestPrincipalHolder.find()
+                    .map(RequestPrincipal::email)
+                    .ifPresent(logEntity::setUserInfo);
 
             try {
                 logService.saveLogToDatabase(logEntity);
@@ -91,23 +185,21 @@ public class LoggerAspectJ {
 
         if (requestAttributes.isPresent()) {
 
+            final String operation = joinPoint.getSignature().getName();
+            if (!this.isSampled(operation)) {
+                return;
+            }
+
             final HttpServletRequest request = requestAttributes.get().getRequest();
             final HttpServletResponse response = requestAttributes.get().getResponse();
 
-            String responseObject = "";
-
             LogEntity logEntity = LogEntity.builder()
                     .endpoint(request.getRequestURL().toString())
                     .method(request.getMethod())
-                    .operation(joinPoint.getSignature().getName())
+                    .operation(operation)
                     .build();
 
-            if (result instanceof JsonNode) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                responseObject = objectMapper.writeValueAsString(result);
-            } else {
-                responseObject = result.toString();
-            }
+            final String responseObject = this.capPayload(result);
 
             logEntity.setResponse(responseObject);
             logEntity.setMessage(responseObject);
@@ -129,21 +221,69 @@ public class LoggerAspectJ {
     }
 
 
+    private void recordOperation(final JoinPoint joinPoint,
+                                 final long startedAt,
+                                 final String status,
+                                 final String exception) {
+
+        final String method = Optional.ofNullable((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                .map(attributes -> attributes.getRequest().getMethod())
+                .orElse("UNKNOWN");
+
+        operationTimer.withTags(Tags.of(
+                "operation", joinPoint.getSignature().getName(),
+                "method", method,
+                "status", status,
+                "exception", exception
+        )).record(meterRegistry.config().clock().monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private String getResponseStatus() {
+        return Optional.ofNullable((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                .map(ServletRequestAttributes::getResponse)
+                .map(response -> HttpStatus.valueOf(response.getStatus()).name())
+                .orElse(HttpStatus.OK.name());
+    }
+
+    private boolean isSampled(final String operation) {
+        final double sampleRate = logCaptureProperties.getSuccessSampleRate(operation);
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Serializes the payload as JSON, or as {@code toString()} when it cannot be serialized, streaming it into a
+     * {@link TruncatingWriter} so that at most {@code maxPayloadBytes} bytes are ever held.
+     */
+    private String capPayload(final Object payload) {
+
+        if (payload == null) {
+            return null;
+        }
+
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(logCaptureProperties.getMaxPayloadBytes());
+
+        try {
+            if (payload instanceof CharSequence text) {
+                truncatingWriter.append(text);
+            } else {
+                objectMapper.writeValue(truncatingWriter, payload);
+            }
+        } catch (IOException exception) {
+            if (!truncatingWriter.isTruncated()) {
+                truncatingWriter.reset();
+                try {
+                    truncatingWriter.write(payload.toString());
+                } catch (IOException ignored) {
+                    // Limit reached, the writer keeps what fits
+                }
+            }
+        }
+
+        return truncatingWriter.toString();
+    }
+
     private String getHttpStatusFromException(Exception ex) {
-        return switch (ex.getClass().getSimpleName()) {
-            case "PasswordNotValidException" -> PasswordNotValidException.STATUS.name();
-            case "RoleNotFoundException" -> RoleNotFoundException.STATUS.name();
-            case "TokenAlreadyInvalidatedException" -> TokenAlreadyInvalidatedException.STATUS.name();
-            case "UserAlreadyExistException" -> UserAlreadyExistException.STATUS.name();
-            case "UserNotFoundException" -> UserNotFoundException.STATUS.name();
-            case "UserStatusNotValidException" -> UserStatusNotValidException.STATUS.name();
-            case "FootballTeamAlreadyExistException" -> FootballTeamAlreadyExistException.STATUS.name();
-            case "FootballTeamNotFoundException" -> FootballTeamNotFoundException.STATUS.name();
-            case "MaxPlayersExceededException" -> MaxPlayersExceededException.STATUS.name();
-            case "PlayerNotFoundException" -> PlayerNotFoundException.STATUS.name();
-            case "PlayerTeamMismatchException" -> PlayerTeamMismatchException.STATUS.name();
-            default -> HttpStatus.INTERNAL_SERVER_ERROR.name();
-        };
+        return EXCEPTION_STATUSES.getOrDefault(ex.getClass(), HttpStatus.INTERNAL_SERVER_ERROR.name());
     }
 
 }
@@ -0,0 +1,109 @@
+package com.example.footballteamapi.logging.infrastructure.adapter.in;
+
+import com.example.footballteamapi.common.application.dto.response.CustomResponse;
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.application.dto.response.LogPageResponse;
+import com.example.footballteamapi.logging.application.service.LogQueryService;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogPage;
+import com.example.footballteamapi.logging.infrastructure.config.LogExportProperties;
+import com.example.footballteamapi.logging.infrastructure.mapper.LogEntityToLogResponseMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/v1/logs")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Logs", description = "Searches and exports audit logs.")
+public class LogController {
+
+    private final LogQueryService logQueryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final LogExportProperties logExportProperties;
+
+    private final LogEntityToLogResponseMapper logEntityToLogResponseMapper = LogEntityToLogResponseMapper.initialize();
+
+    @Operation(
+            summary = "Search audit logs",
+            description = "Returns one page of audit logs, newest first. Pass the returned nextCursor to get the next page.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logs successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or cursor")
+            }
+    )
+    @PostMapping("/search")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public CustomResponse<LogPageResponse> searchLogs(@RequestBody @Valid LogSearchRequest logSearchRequest) {
+        LogPage logPage = logQueryService.searchLogs(logSearchRequest);
+        LogPageResponse response = new LogPageResponse(
+                logEntityToLogResponseMapper.map(logPage.logs()),
+                logPage.nextCursor() == null ? null : logPage.nextCursor().encode()
+        );
+        return CustomResponse.successOf(response);
+    }
+
+    @Operation(
+            summary = "Export audit logs",
+            description = "Streams every audit log matching the filter as newline-delimited JSON, newest first.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logs successfully streamed"),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or cursor")
+            }
+    )
+    @PostMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportLogs(@RequestBody @Valid LogSearchRequest logSearchRequest,
+                                                            HttpServletRequest httpServletRequest) {
+
+        if (logSearchRequest.getCursor() != null) {
+            // fail with 400 before the response is committed
+            LogCursor.decode(logSearchRequest.getCursor());
+        }
+
+        // Only this request streams for long, so only its async timeout is raised
+        WebAsyncUtils.getAsyncManager(httpServletRequest)
+                .getAsyncWebRequest()
+                .setTimeout(logExportProperties.getTimeout().toMillis());
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                logQueryService.exportLogs(logSearchRequest, logEntity -> {
+                    try {
+                        objectMapper.writeValue(generator, logEntityToLogResponseMapper.map(logEntity));
+                        generator.writeRaw('\n');
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.example.footballteamapi.logging.infrastructure.archive;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Cold storage for audit logs moved out of the {@code LOGS} table, one segment file per day.
+ * Every archived day is older than the watermark, the start of the day after the newest segment,
+ * so a newest-first search reads the table from the watermark on and then continues here without overlap.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogArchive {
+
+    private static final String SEGMENT_SUFFIX = ".archive";
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * Order of the logs in a segment; ids compare like {@link String#compareTo}, not in any database collation.
+     */
+    public static final Comparator<LogEntity> OLDEST_FIRST = Comparator
+            .comparing(LogEntity::getTime)
+            .thenComparing(LogEntity::getId);
+
+    private final LogArchiveProperties logArchiveProperties;
+
+    private volatile boolean watermarkLoaded;
+
+    private volatile LocalDateTime watermark;
+
+    public boolean isEnabled() {
+        return logArchiveProperties.isEnabled();
+    }
+
+    /**
+     * Returns the start of the day after the newest archived day, or empty if nothing is archived.
+     */
+    public Optional<LocalDateTime> findWatermark() throws IOException {
+
+        if (!this.isEnabled()) {
+            return Optional.empty();
+        }
+
+        if (!watermarkLoaded) {
+            watermark = this.findSegments().stream()
+                    .map(LogArchive::dayOf)
+                    .max(Comparator.naturalOrder())
+                    .map(day -> day.plusDays(1).atStartOfDay())
+                    .orElse(null);
+            watermarkLoaded = true;
+        }
+        return Optional.ofNullable(watermark);
+    }
+
+    /**
+     * Merges the given logs of one day, sorted by {@code (time, id)}, into that day's segment.
+     * The segment is rewritten to a temporary file, forced to disk and moved into place, so once this returns
+     * the logs survive a crash. A log already in the segment is written once, so archiving the same logs again
+     * after a failure does not duplicate them.
+     *
+     * @return the number of logs in the segment
+     */
+    public int archiveDay(final LocalDate day, final Iterator<LogEntity> logs) throws IOException {
+
+        final Path directory = Files.createDirectories(Path.of(logArchiveProperties.getDirectory()));
+        final Path segment = directory.resolve(DAY_FORMAT.format(day) + SEGMENT_SUFFIX);
+        final Path temporary = directory.resolve(DAY_FORMAT.format(day) + SEGMENT_SUFFIX + TEMPORARY_SUFFIX);
+
+        final int rowCount;
+
+        try (LogArchiveSegmentReader existing = Files.exists(segment) ? new LogArchiveSegmentReader(segment) : null;
+             LogArchiveSegmentWriter writer = new LogArchiveSegmentWriter(temporary, logArchiveProperties.getBlockSize())) {
+
+            final Iterator<LogEntity> archived = existing == null ? Collections.emptyIterator() : existing.iterator();
+            mergeInto(writer, archived, logs);
+            rowCount = writer.getRowCount();
+        }
+
+        force(temporary);
+        Files.move(temporary, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(directory);
+
+        final LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+        final Optional<LocalDateTime> current = this.findWatermark();
+        if (current.isEmpty() || current.get().isBefore(dayEnd)) {
+            watermark = dayEnd;
+        }
+
+        return rowCount;
+    }
+
+    /**
+     * Hands archived logs matching the filter and lying before the cursor to the consumer, newest first,
+     * until the consumer returns {@code false}.
+     *
+     * @return {@code false} if the consumer stopped the scan
+     */
+    public boolean scan(final LogSearchRequest filter,
+                        final LogCursor after,
+                        final Predicate<LogEntity> consumer) throws IOException {
+
+        if (!this.isEnabled()) {
+            return true;
+        }
+
+        final List<Path> segments = this.findSegments().stream()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        for (final Path segment : segments) {
+
+            final LocalDateTime dayStart = dayOf(segment).atStartOfDay();
+            final LocalDateTime dayEnd = dayStart.plusDays(1);
+
+            if (filter.getFrom() != null && !dayEnd.isAfter(filter.getFrom())) {
+                break;
+            }
+            if ((filter.getTo() != null && !dayStart.isBefore(filter.getTo()))
+                    || (after != null && dayStart.isAfter(after.time()))) {
+                continue;
+            }
+
+            try (LogArchiveSegmentReader reader = new LogArchiveSegmentReader(segment)) {
+                if (!reader.scanDescending(filter, after, consumer)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static void mergeInto(final LogArchiveSegmentWriter writer,
+                                  final Iterator<LogEntity> archived,
+                                  final Iterator<LogEntity> logs) throws IOException {
+
+        LogEntity left = archived.hasNext() ? archived.next() : null;
+        LogEntity right = logs.hasNext() ? logs.next() : null;
+
+        while (left != null || right != null) {
+
+            final int order = left == null ? 1 : right == null ? -1 : OLDEST_FIRST.compare(left, right);
+
+            if (order <= 0) {
+                writer.append(left);
+                left = archived.hasNext() ? archived.next() : null;
+            } else {
+                writer.append(right);
+            }
+            if (order >= 0) {
+                right = logs.hasNext() ? logs.next() : null;
+            }
+        }
+
+    }
+
+    private static void force(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static void forceDirectory(final Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException exception) {
+            // Not every platform can open a directory; the rename is then as durable as the file system makes it
+        }
+    }
+
+    private List<Path> findSegments() throws IOException {
+
+        final Path directory = Path.of(logArchiveProperties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .toList();
+        }
+    }
+
+    private static LocalDate dayOf(final Path segment) {
+        final String fileName = segment.getFileName().toString();
+        return LocalDate.parse(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()), DAY_FORMAT);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.footballteamapi.logging.infrastructure.archive;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * On-disk layout of an archive segment.
+ * A segment is a sequence of blocks followed by a footer and a trailer:
+ * <ul>
+ *     <li>a block holds up to {@code blockSize} logs stored column by column, each column deflated on its own,
+ *     so a reader only inflates the columns it needs;</li>
+ *     <li>the footer lists, per block, its time range, row count, column offsets and the endpoints it contains;</li>
+ *     <li>the trailer is the footer offset followed by {@link #MAGIC}.</li>
+ * </ul>
+ * Rows are sorted by {@code (time, id)} and times are stored as microsecond deltas, which deflate well.
+ */
+final class LogArchiveFormat {
+
+    static final int MAGIC = 0x4C4F4741;
+
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    static final long NULL_TIME = Long.MIN_VALUE;
+
+    enum Column {
+        ID, TIME, ENDPOINT, METHOD, STATUS, OPERATION, USER_INFO, ERROR_TYPE, MESSAGE, RESPONSE, CREATED_AT, CREATED_BY
+    }
+
+    static final Column[] COLUMNS = Column.values();
+
+    /**
+     * Footer entry of one block; {@code columnOffsets} has one more entry than there are columns,
+     * so column {@code c} spans {@code [columnOffsets[c], columnOffsets[c + 1])}.
+     */
+    record BlockIndex(long minTime, long maxTime, int rowCount, long[] columnOffsets, Set<String> endpoints) {
+
+        long offsetOf(final Column column) {
+            return columnOffsets[column.ordinal()];
+        }
+
+        int lengthOf(final Column column) {
+            return Math.toIntExact(columnOffsets[column.ordinal() + 1] - columnOffsets[column.ordinal()]);
+        }
+
+    }
+
+    private LogArchiveFormat() {
+    }
+
+    static long toMicros(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(final long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    static void writeString(final DataOutputStream output, final String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(final DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,344 @@
+package com.example.footballteamapi.logging.infrastructure.archive;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.BlockIndex;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.Column;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.InflaterInputStream;
+
+import static com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.*;
+
+/**
+ * Reads a segment written by {@link LogArchiveSegmentWriter}.
+ * Opening a segment reads only its footer; blocks are skipped by their time range and endpoints,
+ * and inside a block only the filtered columns are inflated until a row matches, so memory stays at one block.
+ */
+public class LogArchiveSegmentReader implements AutoCloseable {
+
+    private static final Comparator<LogEntity> NEWEST_FIRST = Comparator
+            .comparing(LogEntity::getTime)
+            .thenComparing(LogEntity::getId)
+            .reversed();
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final List<BlockIndex> blocks;
+
+    public LogArchiveSegmentReader(final Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.blocks = this.readFooter();
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns every log of the segment in {@code (time, id)} order, reading one block at a time.
+     */
+    public Iterator<LogEntity> iterator() {
+        return new Iterator<>() {
+
+            private int nextBlock;
+
+            private Iterator<LogEntity> current = List.<LogEntity>of().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && nextBlock < blocks.size()) {
+                    try {
+                        final BlockIndex block = blocks.get(nextBlock++);
+                        final Map<Column, Object> columns = readColumns(block, Set.of(COLUMNS));
+                        final List<LogEntity> logs = new ArrayList<>(block.rowCount());
+                        for (int row = 0; row < block.rowCount(); row++) {
+                            logs.add(toLogEntity(columns, row));
+                        }
+                        current = logs.iterator();
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException("Cannot read archive segment " + path.getFileName(), exception);
+                    }
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public LogEntity next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+
+        };
+    }
+
+    /**
+     * Hands the logs matching the filter and lying before the cursor to the consumer, newest first,
+     * until the consumer returns {@code false}.
+     *
+     * @return {@code false} if the consumer stopped the scan
+     */
+    public boolean scanDescending(final LogSearchRequest filter,
+                                  final LogCursor after,
+                                  final Predicate<LogEntity> consumer) throws IOException {
+
+        final long from = toMicros(filter.getFrom());
+        final long to = filter.getTo() == null ? Long.MAX_VALUE : toMicros(filter.getTo());
+        final long afterTime = after == null ? Long.MAX_VALUE : toMicros(after.time());
+
+        for (int blockNumber = blocks.size() - 1; blockNumber >= 0; blockNumber--) {
+
+            final BlockIndex block = blocks.get(blockNumber);
+
+            if (block.maxTime() < from) {
+                // Blocks are in time order, every earlier block is older still
+                break;
+            }
+            if (block.minTime() >= to || block.minTime() > afterTime) {
+                continue;
+            }
+            if (filter.getEndpoint() != null && !block.endpoints().contains(filter.getEndpoint())) {
+                continue;
+            }
+
+            final Map<Column, Object> columns = this.readColumns(block, this.filterColumns(filter));
+            final List<Integer> matches = new ArrayList<>();
+            for (int row = 0; row < block.rowCount(); row++) {
+                if (this.matches(columns, row, filter, from, to, after)) {
+                    matches.add(row);
+                }
+            }
+            if (matches.isEmpty()) {
+                continue;
+            }
+
+            columns.putAll(this.readColumns(block, this.remainingColumns(columns.keySet())));
+
+            final List<LogEntity> logs = matches.stream()
+                    .map(row -> toLogEntity(columns, row))
+                    .sorted(NEWEST_FIRST)
+                    .toList();
+
+            for (final LogEntity logEntity : logs) {
+                if (!consumer.test(logEntity)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean matches(final Map<Column, Object> columns,
+                            final int row,
+                            final LogSearchRequest filter,
+                            final long from,
+                            final long to,
+                            final LogCursor after) {
+
+        final long time = ((long[]) columns.get(Column.TIME))[row];
+        if (time < from || time >= to) {
+            return false;
+        }
+
+        if (after != null) {
+            final long afterTime = toMicros(after.time());
+            final String id = ((String[]) columns.get(Column.ID))[row];
+            if (time > afterTime || (time == afterTime && id.compareTo(after.id()) >= 0)) {
+                return false;
+            }
+        }
+
+        return matchesString(columns, Column.ENDPOINT, row, filter.getEndpoint())
+                && matchesString(columns, Column.STATUS, row,
+                filter.getStatus() == null ? null : filter.getStatus().name())
+                && matchesString(columns, Column.USER_INFO, row, filter.getUserInfo())
+                && matchesString(columns, Column.ERROR_TYPE, row, filter.getErrorType());
+    }
+
+    private static boolean matchesString(final Map<Column, Object> columns,
+                                         final Column column,
+                                         final int row,
+                                         final String expected) {
+        return expected == null || expected.equals(((String[]) columns.get(column))[row]);
+    }
+
+    private Set<Column> filterColumns(final LogSearchRequest filter) {
+        final Set<Column> columns = new HashSet<>(Set.of(Column.ID, Column.TIME));
+        if (filter.getEndpoint() != null) {
+            columns.add(Column.ENDPOINT);
+        }
+        if (filter.getStatus() != null) {
+            columns.add(Column.STATUS);
+        }
+        if (filter.getUserInfo() != null) {
+            columns.add(Column.USER_INFO);
+        }
+        if (filter.getErrorType() != null) {
+            columns.add(Column.ERROR_TYPE);
+        }
+        return columns;
+    }
+
+    private Set<Column> remainingColumns(final Set<Column> alreadyRead) {
+        final Set<Column> columns = new HashSet<>(Set.of(COLUMNS));
+        columns.removeAll(alreadyRead);
+        return columns;
+    }
+
+    private Map<Column, Object> readColumns(final BlockIndex block, final Set<Column> columns) throws IOException {
+
+        final Map<Column, Object> values = new EnumMap<>(Column.class);
+
+        for (final Column column : columns) {
+
+            final ByteBuffer chunk = ByteBuffer.allocate(block.lengthOf(column));
+            this.readFully(chunk, block.offsetOf(column));
+
+            try (DataInputStream input = new DataInputStream(
+                    new InflaterInputStream(new ByteArrayInputStream(chunk.array())))) {
+                values.put(column, decodeColumn(column, input, block.rowCount()));
+            }
+        }
+
+        return values;
+    }
+
+    private static Object decodeColumn(final Column column,
+                                       final DataInputStream input,
+                                       final int rowCount) throws IOException {
+        switch (column) {
+            case TIME -> {
+                final long[] times = new long[rowCount];
+                long previousTime = 0;
+                for (int row = 0; row < rowCount; row++) {
+                    previousTime += input.readLong();
+                    times[row] = previousTime;
+                }
+                return times;
+            }
+            case CREATED_AT -> {
+                final long[] times = new long[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    times[row] = input.readLong();
+                }
+                return times;
+            }
+            default -> {
+                final String[] strings = new String[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    strings[row] = readString(input);
+                }
+                return strings;
+            }
+        }
+    }
+
+    private static LogEntity toLogEntity(final Map<Column, Object> columns, final int row) {
+        final String status = string(columns, Column.STATUS, row);
+        return LogEntity.builder()
+                .id(string(columns, Column.ID, row))
+                .time(fromMicros(((long[]) columns.get(Column.TIME))[row]))
+                .endpoint(string(columns, Column.ENDPOINT, row))
+                .method(string(columns, Column.METHOD, row))
+                .status(status == null ? null : HttpStatus.valueOf(status))
+                .operation(string(columns, Column.OPERATION, row))
+                .userInfo(string(columns, Column.USER_INFO, row))
+                .errorType(string(columns, Column.ERROR_TYPE, row))
+                .message(string(columns, Column.MESSAGE, row))
+                .response(string(columns, Column.RESPONSE, row))
+                .createdAt(fromMicros(((long[]) columns.get(Column.CREATED_AT))[row]))
+                .createdBy(string(columns, Column.CREATED_BY, row))
+                .build();
+    }
+
+    private static String string(final Map<Column, Object> columns, final Column column, final int row) {
+        return ((String[]) Objects.requireNonNull(columns.get(column)))[row];
+    }
+
+    private List<BlockIndex> readFooter() throws IOException {
+
+        final long size = channel.size();
+        if (size < TRAILER_BYTES) {
+            throw new IOException("Archive segment " + path.getFileName() + " has no trailer");
+        }
+
+        final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+        this.readFully(trailer, size - TRAILER_BYTES);
+        trailer.flip();
+        final long footerOffset = trailer.getLong();
+        if (trailer.getInt() != MAGIC || footerOffset < 0 || footerOffset > size - TRAILER_BYTES) {
+            throw new IOException("Archive segment " + path.getFileName() + " is not a log archive");
+        }
+
+        final ByteBuffer footer = ByteBuffer.allocate(Math.toIntExact(size - TRAILER_BYTES - footerOffset));
+        this.readFully(footer, footerOffset);
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(footer.array()))) {
+
+            final int blockCount = input.readInt();
+            final List<BlockIndex> blockIndexes = new ArrayList<>(blockCount);
+
+            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
+                final long minTime = input.readLong();
+                final long maxTime = input.readLong();
+                final int rowCount = input.readInt();
+                final long[] columnOffsets = new long[COLUMNS.length + 1];
+                for (int column = 0; column < columnOffsets.length; column++) {
+                    columnOffsets[column] = input.readLong();
+                }
+                final int endpointCount = input.readInt();
+                final Set<String> endpoints = new HashSet<>(endpointCount);
+                for (int endpoint = 0; endpoint < endpointCount; endpoint++) {
+                    endpoints.add(readString(input));
+                }
+                blockIndexes.add(new BlockIndex(minTime, maxTime, rowCount, columnOffsets, endpoints));
+            }
+
+            return blockIndexes;
+        }
+    }
+
+    private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Archive segment " + path.getFileName() + " is truncated");
+            }
+            position += read;
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.example.footballteamapi.logging.infrastructure.archive;
+
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.BlockIndex;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.Column;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static com.example.footballteamapi.logging.infrastructure.archive.LogArchiveFormat.*;
+
+/**
+ * Writes logs, already sorted by {@code (time, id)}, into a new segment file in the {@link LogArchiveFormat} layout.
+ * Only one block is held in memory at a time.
+ */
+public class LogArchiveSegmentWriter implements AutoCloseable {
+
+    private final DataOutputStream output;
+
+    private final int blockSize;
+
+    private final List<LogEntity> block;
+
+    private final List<BlockIndex> blocks = new ArrayList<>();
+
+    private long position;
+
+    private int rowCount;
+
+    public LogArchiveSegmentWriter(final Path path, final int blockSize) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.blockSize = blockSize;
+        this.block = new ArrayList<>(blockSize);
+    }
+
+    public void append(final LogEntity logEntity) throws IOException {
+        block.add(logEntity);
+        rowCount++;
+        if (block.size() == blockSize) {
+            this.writeBlock();
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.writeBlock();
+            this.writeFooter();
+        } finally {
+            output.close();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+
+        if (block.isEmpty()) {
+            return;
+        }
+
+        final long[] columnOffsets = new long[COLUMNS.length + 1];
+        final Set<String> endpoints = new LinkedHashSet<>();
+
+        for (final Column column : COLUMNS) {
+            columnOffsets[column.ordinal()] = position;
+            final byte[] chunk = this.encodeColumn(column, endpoints);
+            output.write(chunk);
+            position += chunk.length;
+        }
+        columnOffsets[COLUMNS.length] = position;
+
+        blocks.add(new BlockIndex(
+                toMicros(block.getFirst().getTime()),
+                toMicros(block.getLast().getTime()),
+                block.size(),
+                columnOffsets,
+                endpoints
+        ));
+        block.clear();
+    }
+
+    private byte[] encodeColumn(final Column column, final Set<String> endpoints) throws IOException {
+
+        final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        try (DataOutputStream columnOutput = new DataOutputStream(new DeflaterOutputStream(chunk, deflater))) {
+            long previousTime = 0;
+            for (final LogEntity logEntity : block) {
+                switch (column) {
+                    case ID -> writeString(columnOutput, logEntity.getId());
+                    case TIME -> {
+                        final long time = toMicros(logEntity.getTime());
+                        columnOutput.writeLong(time - previousTime);
+                        previousTime = time;
+                    }
+                    case ENDPOINT -> {
+                        writeString(columnOutput, logEntity.getEndpoint());
+                        if (logEntity.getEndpoint() != null) {
+                            endpoints.add(logEntity.getEndpoint());
+                        }
+                    }
+                    case METHOD -> writeString(columnOutput, logEntity.getMethod());
+                    case STATUS -> writeString(columnOutput,
+                            logEntity.getStatus() == null ? null : logEntity.getStatus().name());
+                    case OPERATION -> writeString(columnOutput, logEntity.getOperation());
+                    case USER_INFO -> writeString(columnOutput, logEntity.getUserInfo());
+                    case ERROR_TYPE -> writeString(columnOutput, logEntity.getErrorType());
+                    case MESSAGE -> writeString(columnOutput, logEntity.getMessage());
+                    case RESPONSE -> writeString(columnOutput, logEntity.getResponse());
+                    case CREATED_AT -> columnOutput.writeLong(toMicros(logEntity.getCreatedAt()));
+                    case CREATED_BY -> writeString(columnOutput, logEntity.getCreatedBy());
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+
+        return chunk.toByteArray();
+    }
+
+    private void writeFooter() throws IOException {
+
+        final long footerOffset = position;
+
+        output.writeInt(blocks.size());
+        for (final BlockIndex blockIndex : blocks) {
+            output.writeLong(blockIndex.minTime());
+            output.writeLong(blockIndex.maxTime());
+            output.writeInt(blockIndex.rowCount());
+            for (final long columnOffset : blockIndex.columnOffsets()) {
+                output.writeLong(columnOffset);
+            }
+            output.writeInt(blockIndex.endpoints().size());
+            for (final String endpoint : blockIndex.endpoints()) {
+                writeString(output, endpoint);
+            }
+        }
+
+        output.writeLong(footerOffset);
+        output.writeInt(MAGIC);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.archive")
+public class LogArchiveProperties {
+
+    private boolean enabled = true;
+
+    private String directory = "data/audit-log-archive";
+
+    /**
+     * Partitions that ended this long ago are moved out of the {@code LOGS} table; keep it below the partition
+     * retention. Only a partitioned table is archived.
+     */
+    private Duration archiveAfter = Duration.ofDays(7);
+
+    private int blockSize = 1_024;
+
+    private int readBatchSize = 1_000;
+
+    private Duration archiveInterval = Duration.ofHours(1);
+
+}
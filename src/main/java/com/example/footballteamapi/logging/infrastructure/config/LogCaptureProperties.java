@@ -0,0 +1,30 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.capture")
+public class LogCaptureProperties {
+
+    private int maxPayloadBytes = 4_096;
+
+    private double defaultSuccessSampleRate = 1.0;
+
+    /**
+     * Share of successful calls that are logged, keyed by controller method name; errors are always logged.
+     */
+    private Map<String, Double> successSampleRates = new HashMap<>();
+
+    public double getSuccessSampleRate(final String operation) {
+        return successSampleRates.getOrDefault(operation, defaultSuccessSampleRate);
+    }
+
+}
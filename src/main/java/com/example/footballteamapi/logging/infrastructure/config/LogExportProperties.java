@@ -0,0 +1,22 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.export")
+public class LogExportProperties {
+
+    /**
+     * How long one NDJSON export may keep streaming; the servlet container's default async timeout
+     * of about 30 seconds would cut a large export off midway.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,27 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.journal")
+public class LogJournalProperties {
+
+    private boolean enabled = true;
+
+    private String directory = "data/audit-log-journal";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    private Duration replayInterval = Duration.ofSeconds(30);
+
+    private int replayBatchSize = 500;
+
+}
@@ -0,0 +1,27 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.metrics")
+public class LogMetricsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Publishes histogram buckets so p99 can be computed per endpoint on the Prometheus side.
+     */
+    private boolean percentileHistogram = true;
+
+    private Duration minimumExpectedValue = Duration.ofMillis(1);
+
+    private Duration maximumExpectedValue = Duration.ofSeconds(10);
+
+}
@@ -0,0 +1,27 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import com.example.footballteamapi.logging.domain.enums.LogPartitionInterval;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.partitioning")
+public class LogPartitionProperties {
+
+    private boolean enabled = true;
+
+    private LogPartitionInterval interval = LogPartitionInterval.DAILY;
+
+    private int partitionsAhead = 7;
+
+    private Duration retention = Duration.ofDays(30);
+
+    private Duration maintenanceInterval = Duration.ofHours(1);
+
+}
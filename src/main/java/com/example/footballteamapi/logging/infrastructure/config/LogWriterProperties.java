@@ -0,0 +1,33 @@
+package com.example.footballteamapi.logging.infrastructure.config;
+
+import com.example.footballteamapi.logging.domain.enums.LogOverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit-log.writer")
+public class LogWriterProperties {
+
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 100;
+
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP;
+
+    private double samplingThreshold = 0.5;
+
+    private int sampleRate = 10;
+
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+}
@@ -0,0 +1,46 @@
+package com.example.footballteamapi.logging.infrastructure.mapper;
+
+import com.example.footballteamapi.common.infrastructure.mapper.BaseMapper;
+import com.example.footballteamapi.logging.application.dto.response.LogResponse;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LogEntityToLogResponseMapper extends BaseMapper<LogEntity, LogResponse> {
+
+    /**
+     * Converts a {@link LogEntity} to a {@link LogResponse} DTO.
+     *
+     * @param logEntity the entity to convert.
+     * @return a {@link LogResponse} DTO populated with data from the given entity.
+     */
+    @Override
+    default LogResponse map(LogEntity logEntity) {
+        if (logEntity == null) {
+            return null;
+        }
+        return new LogResponse(
+                logEntity.getId(),
+                logEntity.getTime(),
+                logEntity.getEndpoint(),
+                logEntity.getMethod(),
+                logEntity.getStatus(),
+                logEntity.getOperation(),
+                logEntity.getUserInfo(),
+                logEntity.getErrorType(),
+                logEntity.getMessage(),
+                logEntity.getResponse()
+        );
+    }
+
+    /**
+     * Initializes and returns an instance of {@link LogEntityToLogResponseMapper}.
+     *
+     * @return an instance of the mapper.
+     */
+    static LogEntityToLogResponseMapper initialize() {
+        return Mappers.getMapper(LogEntityToLogResponseMapper.class);
+    }
+
+}
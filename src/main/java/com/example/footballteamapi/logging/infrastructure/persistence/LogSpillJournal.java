@@ -0,0 +1,146 @@
+package com.example.footballteamapi.logging.infrastructure.persistence;
+
+import com.example.footballteamapi.common.infrastructure.journal.SpillJournal;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogJournalProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogInsertRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Local fallback for audit logs that cannot reach the database.
+ * {@link LogWriter} spills a log here when its queue is full or a batch insert fails; every log gets its id
+ * before it is journaled, and the replayer inserts journaled logs with {@code ON CONFLICT DO NOTHING},
+ * so a replay that is interrupted and runs again never duplicates a log.
+ */
+@Slf4j
+@Component
+public class LogSpillJournal {
+
+    private final LogJournalProperties logJournalProperties;
+
+    private final LogInsertRepository logInsertRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final SpillJournal spillJournal;
+
+    private final Counter spilledCounter;
+
+    private final Counter replayedCounter;
+
+    public LogSpillJournal(final LogJournalProperties logJournalProperties,
+                           final LogInsertRepository logInsertRepository,
+                           final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry) {
+
+        this.logJournalProperties = logJournalProperties;
+        this.logInsertRepository = logInsertRepository;
+        this.objectMapper = objectMapper;
+        this.spillJournal = logJournalProperties.isEnabled() ? openJournal(logJournalProperties) : null;
+
+        this.spilledCounter = Counter.builder("audit.log.spilled")
+                .description("Audit logs written to the local journal instead of the database")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("audit.log.replayed")
+                .description("Audit logs moved from the local journal into the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Appends the logs to the journal.
+     *
+     * @return {@code false} if the journal is disabled or the logs could not be written
+     */
+    public boolean spill(final List<LogEntity> logs) {
+
+        if (spillJournal == null) {
+            return false;
+        }
+
+        try {
+            for (final LogEntity logEntity : logs) {
+                if (logEntity.getId() == null) {
+                    logEntity.setId(UUID.randomUUID().toString());
+                }
+                spillJournal.append(objectMapper.writeValueAsBytes(logEntity));
+            }
+        } catch (IOException exception) {
+            log.error("Failed to spill {} audit logs to the journal: {}", logs.size(), exception.getMessage());
+            return false;
+        }
+
+        spilledCounter.increment(logs.size());
+        return true;
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit-log.journal.replay-interval:30s}",
+            fixedDelayString = "${audit-log.journal.replay-interval:30s}"
+    )
+    public void replay() {
+
+        if (spillJournal == null) {
+            return;
+        }
+
+        try {
+            final int replayed = spillJournal.replay(logJournalProperties.getReplayBatchSize(), records -> {
+                logInsertRepository.insertIgnoringDuplicates(records.stream()
+                        .map(this::readLog)
+                        .filter(Objects::nonNull)
+                        .toList());
+                replayedCounter.increment(records.size());
+            });
+            if (replayed > 0) {
+                log.info("Replayed {} audit logs from the journal", replayed);
+            }
+        } catch (Exception exception) {
+            log.warn("Audit log journal replay stopped, retrying in {}: {}",
+                    logJournalProperties.getReplayInterval(), exception.getMessage());
+        }
+
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (spillJournal != null) {
+            spillJournal.close();
+        }
+    }
+
+    private LogEntity readLog(final byte[] record) {
+        try {
+            return objectMapper.readValue(record, LogEntity.class);
+        } catch (IOException exception) {
+            // Skipped rather than retried forever, it would fail the same way on every replay
+            log.error("Skipping unreadable audit log in the journal: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    private static SpillJournal openJournal(final LogJournalProperties logJournalProperties) {
+        try {
+            return new SpillJournal(
+                    Path.of(logJournalProperties.getDirectory()),
+                    Math.toIntExact(logJournalProperties.getSegmentSize().toBytes())
+            );
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot open the audit log journal in " + logJournalProperties.getDirectory(),
+                    exception);
+        }
+    }
+
+}
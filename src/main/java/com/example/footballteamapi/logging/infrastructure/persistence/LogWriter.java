@@ -0,0 +1,132 @@
+package com.example.footballteamapi.logging.infrastructure.persistence;
+
+import com.example.footballteamapi.common.infrastructure.batch.WriteBehindQueue;
+import com.example.footballteamapi.logging.domain.enums.LogOverflowPolicy;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogWriterProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes audit logs to the database behind the request thread.
+ * Logs are queued and inserted in JDBC batches by {@link WriteBehindQueue}, which flushes a batch once it holds
+ * {@code batchSize} logs or {@code flushInterval} after its first log, and drains the queue on shutdown.
+ * When the queue is full or a batch cannot be inserted, the logs are spilled to the local {@link LogSpillJournal}
+ * and replayed into the database later. Only when the journal is disabled or fails may audit logs be lost;
+ * what happens then is set by {@link LogOverflowPolicy}, and every log that is not kept is counted in
+ * {@code audit.log.dropped}.
+ */
+@Component
+public class LogWriter {
+
+    private final LogRepository logRepository;
+
+    private final LogWriterProperties logWriterProperties;
+
+    private final LogSpillJournal logSpillJournal;
+
+    private final WriteBehindQueue<LogEntity> writeBehindQueue;
+
+    private final AtomicLong sampledSuccessCount = new AtomicLong();
+
+    private final Counter queueFullCounter;
+
+    private final Counter sampledOutCounter;
+
+    public LogWriter(final LogRepository logRepository,
+                     final LogWriterProperties logWriterProperties,
+                     final LogSpillJournal logSpillJournal,
+                     final MeterRegistry meterRegistry) {
+
+        this.logRepository = logRepository;
+        this.logWriterProperties = logWriterProperties;
+        this.logSpillJournal = logSpillJournal;
+        this.writeBehindQueue = new WriteBehindQueue<>(
+                "auditLog",
+                logWriterProperties.getQueueCapacity(),
+                logWriterProperties.getBatchSize(),
+                logWriterProperties.getFlushInterval(),
+                logWriterProperties.getShutdownTimeout(),
+                this::saveBatch,
+                meterRegistry
+        );
+
+        this.queueFullCounter = Counter.builder("audit.log.dropped")
+                .tag("reason", "queue-full")
+                .tag("policy", logWriterProperties.getOverflowPolicy().name())
+                .register(meterRegistry);
+        this.sampledOutCounter = Counter.builder("audit.log.dropped")
+                .tag("reason", "sampled-out")
+                .tag("policy", logWriterProperties.getOverflowPolicy().name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the log for the background writer.
+     *
+     * @return {@code false} if the log was dropped
+     */
+    public boolean write(final LogEntity logEntity) {
+
+        if (logWriterProperties.getOverflowPolicy() == LogOverflowPolicy.SAMPLE && this.isSampledOut(logEntity)) {
+            sampledOutCounter.increment();
+            return false;
+        }
+
+        final boolean queued = logWriterProperties.getOverflowPolicy() == LogOverflowPolicy.BLOCK
+                ? this.offerBlocking(logEntity)
+                : writeBehindQueue.offer(logEntity);
+
+        if (queued || logSpillJournal.spill(List.of(logEntity))) {
+            return true;
+        }
+
+        queueFullCounter.increment();
+        return false;
+    }
+
+    @PreDestroy
+    public void close() {
+        writeBehindQueue.close();
+    }
+
+    private void saveBatch(final List<LogEntity> batch) {
+        try {
+            logRepository.saveAll(batch);
+        } catch (RuntimeException exception) {
+            if (!logSpillJournal.spill(batch)) {
+                throw exception;
+            }
+        }
+    }
+
+    private boolean isSampledOut(final LogEntity logEntity) {
+
+        if (logEntity.getErrorType() != null) {
+            return false;
+        }
+
+        final double threshold = logWriterProperties.getSamplingThreshold() * writeBehindQueue.capacity();
+        if (writeBehindQueue.size() < threshold) {
+            return false;
+        }
+
+        return sampledSuccessCount.getAndIncrement() % logWriterProperties.getSampleRate() != 0;
+    }
+
+    private boolean offerBlocking(final LogEntity logEntity) {
+        try {
+            return writeBehindQueue.offer(logEntity, logWriterProperties.getBlockTimeout());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.footballteamapi.logging.infrastructure.repository;
+
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the logs of a partition detached from the {@code logs} table for the archive, one day at a time.
+ * Pages follow {@code (time, id)} in the database collation so the {@code (time, id)} index serves them;
+ * ids of the same time still have to be sorted into the archive order by the caller.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogArchiveRepository {
+
+    private static final RowMapper<LogEntity> LOG_ROW_MAPPER = (resultSet, rowNumber) -> LogEntity.builder()
+            .id(resultSet.getString("id"))
+            .time(toLocalDateTime(resultSet.getTimestamp("time")))
+            .endpoint(resultSet.getString("endpoint"))
+            .method(resultSet.getString("method"))
+            .status(Optional.ofNullable(resultSet.getString("status")).map(HttpStatus::valueOf).orElse(null))
+            .operation(resultSet.getString("operation"))
+            .userInfo(resultSet.getString("user_info"))
+            .errorType(resultSet.getString("error_type"))
+            .message(resultSet.getString("message"))
+            .response(resultSet.getString("response"))
+            .createdAt(toLocalDateTime(resultSet.getTimestamp("created_at")))
+            .createdBy(resultSet.getString("created_by"))
+            .build();
+
+    private static final RowMapper<LocalDateTime> TIME_ROW_MAPPER =
+            (resultSet, rowNumber) -> toLocalDateTime(resultSet.getTimestamp(1));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the time of the oldest log in the partition at or after {@code from}, or of the oldest log at all
+     * if {@code from} is {@code null}.
+     */
+    public Optional<LocalDateTime> findOldestTime(final String partition, final LocalDateTime from) {
+
+        if (from == null) {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(
+                    "SELECT min(time) FROM " + partition, TIME_ROW_MAPPER
+            ));
+        }
+
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT min(time) FROM " + partition + " WHERE time >= ?",
+                TIME_ROW_MAPPER,
+                Timestamp.valueOf(from)
+        ));
+    }
+
+    public List<LogEntity> findRange(final String partition,
+                                     final LocalDateTime from,
+                                     final LocalDateTime to,
+                                     final LogCursor after,
+                                     final int limit) {
+
+        if (after == null) {
+            return jdbcTemplate.query("""
+                            SELECT id, time, endpoint, method, status, operation, user_info, error_type, message, response,
+                                   created_at, created_by
+                            FROM %s
+                            WHERE time >= ? AND time < ?
+                            ORDER BY time, id
+                            LIMIT ?""".formatted(partition),
+                    LOG_ROW_MAPPER,
+                    Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+        }
+
+        return jdbcTemplate.query("""
+                        SELECT id, time, endpoint, method, status, operation, user_info, error_type, message, response,
+                               created_at, created_by
+                        FROM %s
+                        WHERE time >= ? AND time < ? AND (time, id) > (?, ?)
+                        ORDER BY time, id
+                        LIMIT ?""".formatted(partition),
+                LOG_ROW_MAPPER,
+                Timestamp.valueOf(from), Timestamp.valueOf(to), Timestamp.valueOf(after.time()), after.id(), limit);
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.footballteamapi.logging.infrastructure.repository;
+
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserts logs that already carry their id, skipping the ones that are already stored,
+ * so the same logs can be inserted any number of times.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogInsertRepository {
+
+    private static final String INSERT = """
+            INSERT INTO logs (id, message, endpoint, method, status, user_info, error_type, response, operation, time,
+                              created_at, created_by, updated_at, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIgnoringDuplicates(final List<LogEntity> logs) {
+        jdbcTemplate.batchUpdate(INSERT, logs.stream()
+                .map(logEntity -> new Object[]{
+                        logEntity.getId(),
+                        logEntity.getMessage(),
+                        logEntity.getEndpoint(),
+                        logEntity.getMethod(),
+                        logEntity.getStatus() == null ? null : logEntity.getStatus().name(),
+                        logEntity.getUserInfo(),
+                        logEntity.getErrorType(),
+                        logEntity.getResponse(),
+                        logEntity.getOperation(),
+                        timestamp(logEntity.getTime()),
+                        timestamp(logEntity.getCreatedAt()),
+                        logEntity.getCreatedBy(),
+                        timestamp(logEntity.getUpdatedAt()),
+                        logEntity.getUpdatedBy()
+                })
+                .toList());
+    }
+
+    private static Timestamp timestamp(final LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+}
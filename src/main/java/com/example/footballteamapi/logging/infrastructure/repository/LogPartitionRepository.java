@@ -0,0 +1,161 @@
+package com.example.footballteamapi.logging.infrastructure.repository;
+
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL DDL for the range-partitioned {@code logs} table.
+ * Hibernate keeps creating and updating the columns; this repository only manages the partitions.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogPartitionRepository {
+
+    private static final String TABLE_NAME = "logs";
+
+    private static final String LEGACY_TABLE_NAME = "logs_legacy";
+
+    private static final long ADVISORY_LOCK_KEY = 0x4C4F475350415254L;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final Pattern BOUND_PATTERN = Pattern.compile(
+            "FROM \\((MINVALUE|'[^']+')\\) TO \\((MAXVALUE|'[^']+')\\)"
+    );
+
+    private static final Map<String, String> QUERY_INDEXES = new LinkedHashMap<>();
+
+    static {
+        QUERY_INDEXES.put("idx_logs_time_id", "time, id");
+        QUERY_INDEXES.put("idx_logs_endpoint_time_id", "endpoint, time, id");
+        QUERY_INDEXES.put("idx_logs_status_time_id", "status, time, id");
+        QUERY_INDEXES.put("idx_logs_user_info_time_id", "user_info, time, id");
+        QUERY_INDEXES.put("idx_logs_error_type_time_id", "error_type, time, id");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Serializes partition maintenance across instances until the surrounding transaction ends.
+     */
+    public void lock() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)::text", String.class, ADVISORY_LOCK_KEY);
+    }
+
+    /**
+     * Returns {@code "p"} for a partitioned table, {@code "r"} for a plain table and {@code null} if it does not exist.
+     */
+    public String findTableKind() {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?))",
+                String.class,
+                TABLE_NAME
+        );
+    }
+
+    /**
+     * Turns the plain table Hibernate created into a partitioned one. The existing rows stay where they are:
+     * the old table becomes the partition for everything before {@code legacyUpperBound}.
+     */
+    public void convertToPartitioned(final LocalDateTime legacyUpperBound) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " RENAME TO " + LEGACY_TABLE_NAME);
+        jdbcTemplate.execute("UPDATE " + LEGACY_TABLE_NAME
+                + " SET time = COALESCE(created_at, TIMESTAMP 'epoch') WHERE time IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE_NAME + " ALTER COLUMN time SET NOT NULL");
+        jdbcTemplate.execute("CREATE TABLE " + TABLE_NAME + " (LIKE " + LEGACY_TABLE_NAME
+                + " INCLUDING DEFAULTS) PARTITION BY RANGE (time)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " ADD PRIMARY KEY (id, time)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " ATTACH PARTITION " + LEGACY_TABLE_NAME
+                + " FOR VALUES FROM (MINVALUE) TO (" + literal(legacyUpperBound) + ")");
+    }
+
+    /**
+     * Creates the query indexes on the partitioned parent, which cascades them to every partition.
+     * They mirror the indexes declared on {@code LogEntity}, which Hibernate only creates on the plain table.
+     */
+    public void ensureIndexes() {
+        QUERY_INDEXES.forEach((name, columns) -> jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS " + name + " ON " + TABLE_NAME + " (" + columns + ")"
+        ));
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_logs_time");
+    }
+
+    public List<LogPartition> findPartitions() {
+        return jdbcTemplate.query(
+                """
+                        SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = to_regclass(?)
+                        """,
+                (resultSet, rowNumber) -> toPartition(resultSet.getString(1), resultSet.getString(2)),
+                TABLE_NAME
+        );
+    }
+
+    public void createPartition(final String name, final LocalDateTime from, final LocalDateTime to) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + TABLE_NAME
+                + " FOR VALUES FROM (" + literal(from) + ") TO (" + literal(to) + ")");
+    }
+
+    /**
+     * Detaches a partition from the {@code logs} table; its rows stay in a plain table of the same name.
+     */
+    public void detachPartition(final String name) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DETACH PARTITION " + name);
+    }
+
+    /**
+     * Returns the partitions that were detached for archiving but not dropped yet, oldest first.
+     */
+    public List<String> findDetachedPartitions() {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT relname
+                        FROM pg_class
+                        WHERE relkind = 'r'
+                          AND NOT relispartition
+                          AND relnamespace = current_schema()::regnamespace
+                          AND (relname = ? OR relname ~ '^logs_p[0-9]{8}$')
+                        ORDER BY relname
+                        """,
+                String.class,
+                LEGACY_TABLE_NAME
+        );
+    }
+
+    public void dropPartition(final String name) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+    }
+
+    private static LogPartition toPartition(final String name, final String bound) {
+        final Matcher matcher = BOUND_PATTERN.matcher(bound == null ? "" : bound);
+        if (!matcher.find()) {
+            // DEFAULT partition or one we cannot read: treat it as unbounded so it is never dropped
+            return new LogPartition(name, null, null);
+        }
+        return new LogPartition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)));
+    }
+
+    private static LocalDateTime parseBound(final String bound) {
+        if (!bound.startsWith("'")) {
+            return null;
+        }
+        return LocalDateTime.parse(bound.substring(1, 20), TIMESTAMP_FORMAT);
+    }
+
+    private static String literal(final LocalDateTime timestamp) {
+        return "'" + TIMESTAMP_FORMAT.format(timestamp) + "'";
+    }
+
+}
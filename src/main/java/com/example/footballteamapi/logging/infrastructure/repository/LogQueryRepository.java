@@ -0,0 +1,100 @@
+package com.example.footballteamapi.logging.infrastructure.repository;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads logs newest first with keyset pagination on {@code (time, id)}.
+ * Only the filters that are set end up in the SQL, so each query can use the matching
+ * {@code (column, time, id)} index and stop after {@code limit} rows instead of counting or skipping.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogQueryRepository {
+
+    private static final String SELECT = """
+            SELECT id, time, endpoint, method, status, operation, user_info, error_type, message, response
+            FROM logs
+            WHERE 1 = 1""";
+
+    private static final RowMapper<LogEntity> LOG_ROW_MAPPER = (resultSet, rowNumber) -> LogEntity.builder()
+            .id(resultSet.getString("id"))
+            .time(Optional.ofNullable(resultSet.getTimestamp("time")).map(Timestamp::toLocalDateTime).orElse(null))
+            .endpoint(resultSet.getString("endpoint"))
+            .method(resultSet.getString("method"))
+            .status(Optional.ofNullable(resultSet.getString("status")).map(HttpStatus::valueOf).orElse(null))
+            .operation(resultSet.getString("operation"))
+            .userInfo(resultSet.getString("user_info"))
+            .errorType(resultSet.getString("error_type"))
+            .message(resultSet.getString("message"))
+            .response(resultSet.getString("response"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} logs matching the filter, newest first, that lie before {@code after}
+     * and not before {@code notBefore}; either bound may be {@code null}.
+     */
+    public List<LogEntity> findPage(final LogSearchRequest filter,
+                                    final LocalDateTime notBefore,
+                                    final LogCursor after,
+                                    final int limit) {
+
+        final StringBuilder sql = new StringBuilder(SELECT);
+        final List<Object> parameters = new ArrayList<>();
+
+        if (notBefore != null) {
+            sql.append(" AND time >= ?");
+            parameters.add(Timestamp.valueOf(notBefore));
+        }
+
+        if (filter.getFrom() != null) {
+            sql.append(" AND time >= ?");
+            parameters.add(Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND time < ?");
+            parameters.add(Timestamp.valueOf(filter.getTo()));
+        }
+        if (filter.getEndpoint() != null) {
+            sql.append(" AND endpoint = ?");
+            parameters.add(filter.getEndpoint());
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            parameters.add(filter.getStatus().name());
+        }
+        if (filter.getUserInfo() != null) {
+            sql.append(" AND user_info = ?");
+            parameters.add(filter.getUserInfo());
+        }
+        if (filter.getErrorType() != null) {
+            sql.append(" AND error_type = ?");
+            parameters.add(filter.getErrorType());
+        }
+        if (after != null) {
+            sql.append(" AND (time, id) < (?, ?)");
+            parameters.add(Timestamp.valueOf(after.time()));
+            parameters.add(after.id());
+        }
+
+        sql.append(" ORDER BY time DESC, id DESC LIMIT ?");
+        parameters.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), LOG_ROW_MAPPER, parameters.toArray());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.footballteamapi.logging.infrastructure.utils;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Writer;
+
+/**
+ * {@link Writer} that keeps at most {@code maxBytes} bytes of UTF-8 text and then refuses any more output.
+ * Once the limit is reached every write throws, which stops a serializer streaming into this writer,
+ * so a large payload is never built in memory just to be cut. The {@link #TRUNCATED_MARKER} counts towards
+ * the limit: text that fits is kept whole, otherwise it is cut early enough for the marker to fit as well.
+ */
+public class TruncatingWriter extends Writer {
+
+    public static final String TRUNCATED_MARKER = "...[truncated]";
+
+    private static final int TRUNCATED_MARKER_BYTES = TRUNCATED_MARKER.length();
+
+    private final StringBuilder content = new StringBuilder();
+
+    private final int maxBytes;
+
+    private int bytes;
+
+    /**
+     * Length of the longest prefix, ending on a whole character, that still leaves room for the marker.
+     */
+    private int truncatedLength;
+
+    private boolean truncated;
+
+    public TruncatingWriter(final int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            this.appendCharacter(buffer[i]);
+        }
+    }
+
+    @Override
+    public void write(final String text, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            this.appendCharacter(text.charAt(i));
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void reset() {
+        content.setLength(0);
+        bytes = 0;
+        truncatedLength = 0;
+        truncated = false;
+    }
+
+    @Override
+    public String toString() {
+        if (!truncated) {
+            return content.toString();
+        }
+        if (maxBytes < TRUNCATED_MARKER_BYTES) {
+            return TRUNCATED_MARKER.substring(0, Math.max(maxBytes, 0));
+        }
+        return content.substring(0, truncatedLength) + TRUNCATED_MARKER;
+    }
+
+    private void appendCharacter(final char character) throws IOException {
+
+        final int characterBytes = utf8Length(character);
+
+        if (truncated || bytes + characterBytes > maxBytes) {
+            truncated = true;
+            throw new LimitReachedException();
+        }
+
+        content.append(character);
+        bytes += characterBytes;
+
+        // A high surrogate only ends a whole character once its low surrogate follows
+        if (!Character.isHighSurrogate(character) && bytes + TRUNCATED_MARKER_BYTES <= maxBytes) {
+            truncatedLength = content.length();
+        }
+    }
+
+    private static int utf8Length(final char character) {
+        if (character < 0x80) {
+            return 1;
+        }
+        if (character < 0x800) {
+            return 2;
+        }
+        if (Character.isHighSurrogate(character)) {
+            return 4;
+        }
+        if (Character.isLowSurrogate(character)) {
+            return 0;
+        }
+        return 3;
+    }
+
+    /**
+     * Signals that the limit was reached; stackless because it is thrown for every large payload.
+     */
+    public static final class LimitReachedException extends IOException {
+
+        @Serial
+        private static final long serialVersionUID = 6470212740281145386L;
+
+        LimitReachedException() {
+            super("Payload limit reached", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+    }
+
+}
@@ -2,23 +2,35 @@ package com.example.footballteamapi.auth.application.service.impl;
 
 import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
 import com.example.footballteamapi.auth.domain.exception.TokenAlreadyInvalidatedException;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.RevokedTokenIndex;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
+import com.example.footballteamapi.auth.infrastructure.config.InvalidTokenPurgeProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.InvalidTokenWriter;
 import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit test class for {@link InvalidTokenServiceImpl}.
  * This test class verifies the functionality of the service responsible for managing invalid tokens.
- * It mocks the {@link InvalidTokenRepository} to simulate interactions with the data layer.
+ * It mocks the {@link InvalidTokenRepository} and {@link RevokedTokenIndex} to simulate interactions with the data layer.
  */
 class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
 
@@ -28,20 +40,89 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenRepository invalidTokenRepository;
 
+    @Mock
+    private RevokedTokenIndex revokedTokenIndex;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private InvalidTokenWriter invalidTokenWriter;
+
+    @Mock
+    private InvalidTokenPurgeProperties invalidTokenPurgeProperties;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Captor
+    private ArgumentCaptor<Set<InvalidTokenEntity>> invalidTokenEntitiesCaptor;
+
+    @Test
+    void invalidateTokens_ShouldRevokeLocallyAndQueueInvalidTokensWithExpiry() {
+
+        // Given
+        final Instant expiresAt = Instant.now().plusSeconds(60);
+        final VerifiedToken accessToken = VerifiedToken.builder().id("token-id-1").expiresAt(expiresAt).build();
+        final VerifiedToken refreshToken = VerifiedToken.builder().id("token-id-2").expiresAt(expiresAt).build();
+        final Set<String> tokenIds = Set.of("token-id-1", "token-id-2");
+
+        // When
+        invalidTokenService.invalidateTokens(Set.of(accessToken, refreshToken));
+
+        // Then
+        verify(invalidTokenWriter, times(1)).write(invalidTokenEntitiesCaptor.capture());
+
+        final LocalDateTime expectedExpiresAt = LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+        assertEquals(2, invalidTokenEntitiesCaptor.getValue().size());
+        invalidTokenEntitiesCaptor.getValue()
+                .forEach(entity -> assertEquals(expectedExpiresAt, entity.getExpiresAt()));
+
+        // Verify
+        verify(revokedTokenIndex, times(1)).addAll(invalidTokenEntitiesCaptor.getValue());
+        verify(verifiedTokenCache, times(1)).evictByTokenIds(tokenIds);
+        verify(invalidTokenRepository, never()).saveAll(any());
+
+    }
+
+    @Test
+    void purgeExpiredTokens_ShouldDeleteInBatchesUntilPartialBatch() {
+
+        // Given
+        when(invalidTokenPurgeProperties.getBatchSize()).thenReturn(100);
+        when(invalidTokenPurgeProperties.getMaxBatchesPerRun()).thenReturn(10);
+
+        // When
+        when(invalidTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 40);
+
+        // Then
+        final int purgedCount = invalidTokenService.purgeExpiredTokens();
+
+        // Verify
+        assertEquals(240, purgedCount);
+        verify(invalidTokenRepository, times(3)).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
+        assertEquals(240, meterRegistry.counter("auth.invalid.token.purge.deleted").count());
+        assertEquals(1, meterRegistry.timer("auth.invalid.token.purge.duration").count());
+
+    }
+
     @Test
-    void invalidateTokens_ShouldSaveAllInvalidTokens() {
+    void purgeExpiredTokens_ShouldStopAfterMaxBatchesPerRun() {
 
         // Given
-        Set<String> tokenIds = Set.of("token-id-1", "token-id-2");
+        when(invalidTokenPurgeProperties.getBatchSize()).thenReturn(100);
+        when(invalidTokenPurgeProperties.getMaxBatchesPerRun()).thenReturn(2);
 
         // When
-        when(invalidTokenRepository.saveAll(any(Set.class))).thenReturn(Collections.emptyList());
+        when(invalidTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100))).thenReturn(100);
 
         // Then
-        invalidTokenService.invalidateTokens(tokenIds);
+        final int purgedCount = invalidTokenService.purgeExpiredTokens();
 
         // Verify
-        verify(invalidTokenRepository, times(1)).saveAll(any(Set.class));
+        assertEquals(200, purgedCount);
+        verify(invalidTokenRepository, times(2)).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
 
     }
 
@@ -52,7 +133,7 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         String tokenId = "test-token-id";
 
         // When
-        when(invalidTokenRepository.findByTokenId(tokenId)).thenReturn(Optional.of(new InvalidTokenEntity()));
+        when(revokedTokenIndex.isRevoked(tokenId)).thenReturn(true);
 
         // Then
         assertThrows(TokenAlreadyInvalidatedException.class, () -> {
@@ -60,7 +141,8 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         });
 
         // Verify
-        verify(invalidTokenRepository, times(1)).findByTokenId(tokenId);
+        verify(revokedTokenIndex, times(1)).isRevoked(tokenId);
+        verify(invalidTokenRepository, never()).findByTokenId(tokenId);
 
     }
 
@@ -71,13 +153,14 @@ class InvalidTokenServiceImplTest extends AbstractBaseServiceTest {
         String tokenId = "test-token-id";
 
         // When
-        when(invalidTokenRepository.findByTokenId(tokenId)).thenReturn(Optional.empty());
+        when(revokedTokenIndex.isRevoked(tokenId)).thenReturn(false);
 
         // Then
         invalidTokenService.checkForInvalidityOfToken(tokenId);
 
         // Verify
-        verify(invalidTokenRepository, times(1)).findByTokenId(tokenId);
+        verify(revokedTokenIndex, times(1)).isRevoked(tokenId);
+        verify(invalidTokenRepository, never()).findByTokenId(tokenId);
 
     }
 
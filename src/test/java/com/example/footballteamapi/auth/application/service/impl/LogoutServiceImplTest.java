@@ -3,16 +3,16 @@ package com.example.footballteamapi.auth.application.service.impl;
 import com.example.footballteamapi.auth.application.dto.request.TokenInvalidateRequest;
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.application.service.TokenService;
-import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import com.example.footballteamapi.auth.domain.exception.TokenAlreadyInvalidatedException;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
-import com.example.footballteamapi.builder.TokenBuilder;
-import com.example.footballteamapi.builder.UserBuilder;
-import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.Instant;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,47 +39,71 @@ class LogoutServiceImplTest extends AbstractBaseServiceTest {
     void givenAccessTokenAndRefreshToken_whenLogoutForAdmin_thenReturnLogout() {
 
         // Given
-        final UserEntity mockUserEntity = new UserBuilder().withValidFields().build();
+        final String accessToken = "validAccessToken";
+        final String refreshToken = "validRefreshToken";
 
-        final Claims mockAccessTokenClaims = TokenBuilder.getValidClaims(
-                mockUserEntity.getId(),
-                mockUserEntity.getFirstName()
-        );
+        final VerifiedToken mockAccessToken = verifiedToken();
+        final VerifiedToken mockRefreshToken = verifiedToken();
 
-        final Claims mockRefreshTokenClaims = TokenBuilder.getValidClaims(
-                mockUserEntity.getId(),
-                mockUserEntity.getFirstName()
-        );
+        final TokenInvalidateRequest tokenInvalidateRequest = TokenInvalidateRequest.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .build();
 
-        final String mockAccessTokenId = mockAccessTokenClaims.getId();
-        final String mockRefreshTokenId = mockRefreshTokenClaims.getId();
+        // When
+        when(tokenService.verify(accessToken)).thenReturn(mockAccessToken);
+        when(tokenService.verify(refreshToken)).thenReturn(mockRefreshToken);
+        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockAccessToken.getId());
+        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockRefreshToken.getId());
+        doNothing().when(invalidTokenService).invalidateTokens(Set.of(mockAccessToken, mockRefreshToken));
 
+        // Then
+        logoutService.logout(tokenInvalidateRequest);
 
-        final String accessToken = "validAccessToken";
+        // Verify
+        verify(tokenService, times(1)).verify(accessToken);
+        verify(tokenService, times(1)).verify(refreshToken);
+        verify(tokenService, never()).verifyAndValidate(anySet());
+        verify(tokenService, never()).getPayload(anyString());
+        verify(invalidTokenService, times(2)).checkForInvalidityOfToken(anyString());
+        verify(invalidTokenService).invalidateTokens(Set.of(mockAccessToken, mockRefreshToken));
+
+    }
+
+    @Test
+    void givenAlreadyInvalidatedAccessToken_whenLogout_thenThrowTokenAlreadyInvalidatedException() {
+
+        // Given
+        final String accessToken = "invalidatedAccessToken";
         final String refreshToken = "validRefreshToken";
 
+        final VerifiedToken mockAccessToken = verifiedToken();
+        final VerifiedToken mockRefreshToken = verifiedToken();
+
         final TokenInvalidateRequest tokenInvalidateRequest = TokenInvalidateRequest.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .build();
 
         // When
-        doNothing().when(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        when(tokenService.getPayload(accessToken)).thenReturn(mockAccessTokenClaims);
-        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockAccessTokenId);
-        when(tokenService.getPayload(refreshToken)).thenReturn(mockRefreshTokenClaims);
-        doNothing().when(invalidTokenService).checkForInvalidityOfToken(mockRefreshTokenId);
-        doNothing().when(invalidTokenService).invalidateTokens(Set.of(mockAccessTokenId, mockRefreshTokenId));
+        when(tokenService.verify(accessToken)).thenReturn(mockAccessToken);
+        when(tokenService.verify(refreshToken)).thenReturn(mockRefreshToken);
+        doThrow(new TokenAlreadyInvalidatedException(mockAccessToken.getId()))
+                .when(invalidTokenService).checkForInvalidityOfToken(mockAccessToken.getId());
 
         // Then
-        logoutService.logout(tokenInvalidateRequest);
+        assertThrows(TokenAlreadyInvalidatedException.class, () -> logoutService.logout(tokenInvalidateRequest));
 
         // Verify
-        verify(tokenService).verifyAndValidate(Set.of(accessToken, refreshToken));
-        verify(tokenService, times(2)).getPayload(anyString());
-        verify(invalidTokenService, times(2)).checkForInvalidityOfToken(anyString());
-        verify(invalidTokenService).invalidateTokens(anySet());
+        verify(invalidTokenService, never()).invalidateTokens(anySet());
 
     }
 
-}
\ No newline at end of file
+    private VerifiedToken verifiedToken() {
+        return VerifiedToken.builder()
+                .id(UUID.randomUUID().toString())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+}
@@ -1,12 +1,13 @@
 package com.example.footballteamapi.auth.application.service.impl;
 
 import com.example.footballteamapi.auth.application.dto.request.TokenRefreshRequest;
-import com.example.footballteamapi.auth.application.port.out.UserRepository;
 import com.example.footballteamapi.auth.application.service.TokenService;
 import com.example.footballteamapi.auth.domain.enums.UserStatus;
 import com.example.footballteamapi.auth.domain.exception.UserNotFoundException;
 import com.example.footballteamapi.auth.domain.exception.UserStatusNotValidException;
 import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
 import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
 import com.example.footballteamapi.builder.AdminUserBuilder;
@@ -26,7 +27,7 @@ import static org.mockito.Mockito.*;
  * Unit test class for {@link RefreshTokenServiceImpl}.
  * This test class ensures the correct functionality of the refresh token service,
  * which manages the generation of new tokens when a valid refresh token is provided.
- * It mocks the {@link UserRepository} and {@link TokenService} to isolate the refresh token logic.
+ * It mocks the {@link UserSnapshotCache} and {@link TokenService} to isolate the refresh token logic.
  */
 class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
 
@@ -34,7 +35,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
     private RefreshTokenServiceImpl refreshTokenService;
 
     @Mock
-    private UserRepository userRepository;
+    private UserSnapshotCache userSnapshotCache;
 
     @Mock
     private TokenService tokenService;
@@ -63,8 +64,10 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
 
         doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
         when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
-        when(userRepository.findById(anyString())).thenReturn(Optional.of(mockAdminUserEntity));
-        when(tokenService.generateToken(mockAdminUserEntity.getClaims(), refreshTokenString)).thenReturn(expectedToken);
+        final UserSnapshot mockAdminUserSnapshot = toSnapshot(mockAdminUserEntity);
+
+        when(userSnapshotCache.find(anyString())).thenReturn(Optional.of(mockAdminUserSnapshot));
+        when(tokenService.generateToken(mockAdminUserSnapshot.getClaims(), refreshTokenString)).thenReturn(expectedToken);
 
         // When
         Token actualToken = refreshTokenService.refreshToken(tokenRefreshRequest);
@@ -78,8 +81,8 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(tokenService).verifyAndValidate(refreshTokenString);
         verify(tokenService).getPayload(refreshTokenString);
-        verify(userRepository).findById(anyString());
-        verify(tokenService).generateToken(mockAdminUserEntity.getClaims(), refreshTokenString);
+        verify(userSnapshotCache).find(anyString());
+        verify(tokenService).generateToken(mockAdminUserSnapshot.getClaims(), refreshTokenString);
 
     }
 
@@ -101,7 +104,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
 
         // Verify
         verify(tokenService).verifyAndValidate(refreshTokenString);
-        verifyNoInteractions(userRepository);
+        verifyNoInteractions(userSnapshotCache);
 
     }
 
@@ -119,7 +122,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         // When
         doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
         when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
-        when(userRepository.findById("nonExistentAdminId")).thenReturn(Optional.empty());
+        when(userSnapshotCache.find("nonExistentAdminId")).thenReturn(Optional.empty());
 
         // Then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -132,7 +135,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(tokenService).verifyAndValidate(refreshTokenString);
         verify(tokenService).getPayload(refreshTokenString);
-        verify(userRepository).findById("nonExistentAdminId");
+        verify(userSnapshotCache).find("nonExistentAdminId");
 
     }
 
@@ -152,7 +155,7 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         // When
         doNothing().when(tokenService).verifyAndValidate(refreshTokenString);
         when(tokenService.getPayload(refreshTokenString)).thenReturn(mockClaims);
-        when(userRepository.findById(inactiveAdmin.getId())).thenReturn(Optional.of(inactiveAdmin));
+        when(userSnapshotCache.find(inactiveAdmin.getId())).thenReturn(Optional.of(toSnapshot(inactiveAdmin)));
 
         // Then
         UserStatusNotValidException exception = assertThrows(UserStatusNotValidException.class,
@@ -163,8 +166,17 @@ class RefreshTokenServiceImplTest extends AbstractBaseServiceTest {
         // Verify
         verify(tokenService).verifyAndValidate(refreshTokenString);
         verify(tokenService).getPayload(refreshTokenString);
-        verify(userRepository).findById(inactiveAdmin.getId());
+        verify(userSnapshotCache).find(inactiveAdmin.getId());
+
+    }
 
+    private UserSnapshot toSnapshot(final UserEntity userEntity) {
+        return UserSnapshot.builder()
+                .id(userEntity.getId())
+                .userType(userEntity.getUserType())
+                .userStatus(userEntity.getUserStatus())
+                .claims(userEntity.getClaims())
+                .build();
     }
 
-}
\ No newline at end of file
+}
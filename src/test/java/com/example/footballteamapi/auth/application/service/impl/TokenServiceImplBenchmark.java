@@ -0,0 +1,118 @@
+package com.example.footballteamapi.auth.application.service.impl;
+
+import com.example.footballteamapi.auth.application.port.out.UserRepository;
+import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
+import com.example.footballteamapi.auth.infrastructure.config.TokenConfigurationParameter;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
+import com.example.footballteamapi.auth.infrastructure.config.VerifiedTokenCacheProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import com.example.footballteamapi.builder.UserBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of signing and verifying tokens for each signing algorithm and token profile.
+ * {@code generateToken} signs an access and a refresh token, as done on every login;
+ * {@code verifyAccessToken} parses and verifies one access token;
+ * {@code verify} is the full per-request path without the verified-token cache, including the
+ * user snapshot cache lookup that completes a compact token.
+ * The size of the resulting {@code Authorization} header is reported next to {@code verify} as the
+ * {@code authorizationHeaderBytes} secondary result.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=TokenServiceImplBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceImplBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private String signingAlgorithm;
+
+    @Param({"FULL", "COMPACT"})
+    private String tokenProfile;
+
+    private TokenServiceImpl tokenService;
+
+    private Map<String, Object> claims;
+
+    private String accessToken;
+
+    private int authorizationHeaderBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final UserEntity userEntity = new UserBuilder().withValidFields().build();
+
+        final UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findById(userEntity.getId())).thenReturn(Optional.of(userEntity));
+
+        final VerifiedTokenCacheProperties disabledCacheProperties = new VerifiedTokenCacheProperties();
+        disabledCacheProperties.setMaximumSize(0);
+
+        tokenService = new TokenServiceImpl(
+                new TokenConfigurationParameter(signingAlgorithm, tokenProfile),
+                null,
+                new VerifiedTokenCache(disabledCacheProperties, new SimpleMeterRegistry()),
+                new UserSnapshotCache(userRepository, new UserSnapshotCacheProperties(), new SimpleMeterRegistry())
+        );
+
+        claims = userEntity.getClaims();
+        accessToken = tokenService.generateToken(claims).getAccessToken();
+        authorizationHeaderBytes = ("Bearer " + accessToken).getBytes(StandardCharsets.US_ASCII).length;
+    }
+
+    @Benchmark
+    public Token generateToken() {
+        return tokenService.generateToken(claims);
+    }
+
+    @Benchmark
+    public Jws<Claims> verifyAccessToken() {
+        return tokenService.getClaims(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verify(final HeaderSize headerSize) {
+        headerSize.authorizationHeaderBytes = authorizationHeaderBytes;
+        return tokenService.verify(accessToken);
+    }
+
+    /**
+     * Reports the {@code Authorization} header size of the current trial as a secondary benchmark result.
+     * JMH zeroes the counter before each iteration, so {@code verify} sets it on every call.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeaderSize {
+
+        public long authorizationHeaderBytes;
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(TokenServiceImplBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
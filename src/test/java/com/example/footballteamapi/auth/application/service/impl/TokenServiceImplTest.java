@@ -1,18 +1,30 @@
 package com.example.footballteamapi.auth.application.service.impl;
 
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
+import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import com.example.footballteamapi.auth.domain.enums.TokenProfile;
+import com.example.footballteamapi.auth.domain.enums.TokenType;
+import com.example.footballteamapi.auth.domain.enums.UserType;
 import com.example.footballteamapi.auth.domain.model.Token;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
 import com.example.footballteamapi.auth.infrastructure.config.TokenConfigurationParameter;
+import com.example.footballteamapi.auth.infrastructure.config.VerifiedTokenCacheProperties;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import java.security.*;
 import java.util.*;
@@ -39,6 +51,15 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Spy
+    private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+            new VerifiedTokenCacheProperties(),
+            new SimpleMeterRegistry()
+    );
+
     @Test
     void testGenerateTokenWithoutRefreshToken() throws Exception {
 
@@ -222,5 +243,149 @@ class TokenServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    void givenValidJwt_whenVerify_thenReturnVerifiedTokenWithAuthorities() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        PrivateKey privateKey = keyPair.getPrivate();
+        PublicKey publicKey = keyPair.getPublic();
+
+        String tokenId = UUID.randomUUID().toString();
+
+        String jwt = Jwts.builder()
+                .header()
+                .type(TokenType.BEARER.getValue())
+                .and()
+                .id(tokenId)
+                .issuer("issuer")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .claim(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN.name())
+                .signWith(privateKey)
+                .compact();
+
+        // When
+        when(tokenConfigurationParameter.getPublicKey()).thenReturn(publicKey);
+
+        // Then
+        VerifiedToken verifiedToken = tokenService.verify(jwt);
+        UsernamePasswordAuthenticationToken authentication = tokenService.getAuthentication(verifiedToken);
+
+        assertEquals(tokenId, verifiedToken.getId());
+        assertEquals(jwt, verifiedToken.getJwt().getTokenValue());
+        assertNotNull(verifiedToken.getExpiresAt());
+        assertEquals(verifiedToken.getJwt(), authentication.getPrincipal());
+        assertTrue(authentication.isAuthenticated());
+        assertEquals(1, authentication.getAuthorities().size());
+        assertEquals(UserType.ADMIN.name(), authentication.getAuthorities().iterator().next().getAuthority());
+        assertSame(verifiedToken, tokenService.verify(jwt), "Second verification should be served from the cache");
+
+        // Verify
+        verify(tokenConfigurationParameter, Mockito.times(1)).getPublicKey();
+
+    }
+
+    @Test
+    void givenTamperedJwt_whenVerify_thenThrowSignatureException() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        PrivateKey privateKey = keyPairGenerator.generateKeyPair().getPrivate();
+        PublicKey otherPublicKey = keyPairGenerator.generateKeyPair().getPublic();
+
+        String jwt = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .signWith(privateKey)
+                .compact();
+
+        // When
+        when(tokenConfigurationParameter.getPublicKey()).thenReturn(otherPublicKey);
+
+        // Then
+        assertThrows(SignatureException.class, () -> tokenService.verify(jwt));
+
+    }
+
+    @Test
+    void givenCompactTokenProfile_whenGenerateToken_thenAccessTokenCarriesOnlyUserIdAndType() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.USER_ID.getValue(), "12345");
+        claims.put(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN);
+        claims.put(TokenClaims.USER_EMAIL.getValue(), "admin@example.com");
+        claims.put(TokenClaims.USER_FIRST_NAME.getValue(), "First");
+
+        // When
+        when(tokenConfigurationParameter.getAccessTokenExpireMinute()).thenReturn(60);
+        when(tokenConfigurationParameter.getRefreshTokenExpireDay()).thenReturn(7);
+        when(tokenConfigurationParameter.getPrivateKey()).thenReturn(keyPair.getPrivate());
+        when(tokenConfigurationParameter.getTokenProfile()).thenReturn(TokenProfile.COMPACT);
+
+        // Then
+        Token token = tokenService.generateToken(claims);
+
+        Claims accessTokenClaims = Jwts.parser()
+                .verifyWith(keyPair.getPublic())
+                .build()
+                .parseSignedClaims(token.getAccessToken())
+                .getPayload();
+
+        assertEquals("12345", accessTokenClaims.get(TokenClaims.USER_ID.getValue()));
+        assertEquals(UserType.ADMIN.name(), accessTokenClaims.get(TokenClaims.USER_TYPE.getValue()));
+        assertFalse(accessTokenClaims.containsKey(TokenClaims.USER_EMAIL.getValue()));
+        assertFalse(accessTokenClaims.containsKey(TokenClaims.USER_FIRST_NAME.getValue()));
+
+    }
+
+    @Test
+    void givenCompactAccessToken_whenVerify_thenResolveRemainingClaimsFromUserSnapshotCache() throws NoSuchAlgorithmException {
+
+        // Given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        String jwt = Jwts.builder()
+                .header()
+                .type(TokenType.BEARER.getValue())
+                .and()
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)) // 1 hour
+                .claim(TokenClaims.USER_ID.getValue(), "12345")
+                .claim(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN.name())
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        // When
+        when(tokenConfigurationParameter.getPublicKey()).thenReturn(keyPair.getPublic());
+        when(userSnapshotCache.getClaims("12345")).thenReturn(Map.of(
+                TokenClaims.USER_ID.getValue(), "12345",
+                TokenClaims.USER_TYPE.getValue(), UserType.ADMIN.name(),
+                TokenClaims.USER_EMAIL.getValue(), "admin@example.com"
+        ));
+
+        // Then
+        VerifiedToken verifiedToken = tokenService.verify(jwt);
+
+        assertEquals("admin@example.com", verifiedToken.getJwt().getClaimAsString(TokenClaims.USER_EMAIL.getValue()));
+        assertEquals("12345", verifiedToken.getJwt().getClaimAsString(TokenClaims.USER_ID.getValue()));
+        assertEquals(UserType.ADMIN.name(), verifiedToken.getAuthorities().get(0).getAuthority());
+
+        // Verify
+        verify(userSnapshotCache, times(1)).getClaims("12345");
+
+    }
 
-}
\ No newline at end of file
+}
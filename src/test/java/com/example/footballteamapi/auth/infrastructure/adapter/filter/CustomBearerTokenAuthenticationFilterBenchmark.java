@@ -0,0 +1,136 @@
+package com.example.footballteamapi.auth.infrastructure.adapter.filter;
+
+import com.example.footballteamapi.auth.application.service.InvalidTokenService;
+import com.example.footballteamapi.auth.application.service.impl.TokenServiceImpl;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.VerifiedTokenCache;
+import com.example.footballteamapi.auth.infrastructure.config.TokenConfigurationParameter;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
+import com.example.footballteamapi.auth.infrastructure.config.VerifiedTokenCacheProperties;
+import com.example.footballteamapi.builder.UserBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for {@link CustomBearerTokenAuthenticationFilter}.
+ * It compares the former flow, which verified the bearer token three times per request
+ * ({@code verifyAndValidate}, {@code getId}, {@code getAuthentication}), with the current
+ * flow that verifies it once and reuses the resulting verified token, both without and with
+ * the {@link VerifiedTokenCache} in front of the signature check.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=CustomBearerTokenAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomBearerTokenAuthenticationFilterBenchmark {
+
+    private static final InvalidTokenService NO_OP_INVALID_TOKEN_SERVICE = new InvalidTokenService() {
+
+        @Override
+        public void invalidateTokens(final Set<VerifiedToken> verifiedTokens) {
+        }
+
+        @Override
+        public void checkForInvalidityOfToken(final String tokenId) {
+        }
+
+        @Override
+        public int purgeExpiredTokens() {
+            return 0;
+        }
+
+    };
+
+    private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> {
+    };
+
+    private TokenServiceImpl tokenService;
+
+    private CustomBearerTokenAuthenticationFilter filter;
+
+    private CustomBearerTokenAuthenticationFilter cachingFilter;
+
+    private String accessToken;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter();
+
+        final VerifiedTokenCacheProperties disabledCacheProperties = new VerifiedTokenCacheProperties();
+        disabledCacheProperties.setMaximumSize(0);
+
+        this.tokenService = new TokenServiceImpl(
+                tokenConfigurationParameter,
+                NO_OP_INVALID_TOKEN_SERVICE,
+                new VerifiedTokenCache(disabledCacheProperties, new SimpleMeterRegistry()),
+                null
+        );
+        this.filter = new CustomBearerTokenAuthenticationFilter(
+                tokenService, NO_OP_INVALID_TOKEN_SERVICE, null, new UserSnapshotCacheProperties()
+        );
+
+        final TokenServiceImpl cachingTokenService = new TokenServiceImpl(
+                tokenConfigurationParameter,
+                NO_OP_INVALID_TOKEN_SERVICE,
+                new VerifiedTokenCache(new VerifiedTokenCacheProperties(), new SimpleMeterRegistry()),
+                null
+        );
+        this.cachingFilter = new CustomBearerTokenAuthenticationFilter(
+                cachingTokenService, NO_OP_INVALID_TOKEN_SERVICE, null, new UserSnapshotCacheProperties()
+        );
+
+        this.accessToken = tokenService
+                .generateToken(new UserBuilder().withValidFields().build().getClaims())
+                .getAccessToken();
+        this.request = new MockHttpServletRequest();
+        this.request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void tripleVerificationPerRequest(final Blackhole blackhole) {
+        tokenService.verifyAndValidate(accessToken);
+        final String tokenId = tokenService.getId(accessToken);
+        NO_OP_INVALID_TOKEN_SERVICE.checkForInvalidityOfToken(tokenId);
+        blackhole.consume(tokenService.getAuthentication(accessToken));
+    }
+
+    @Benchmark
+    public void filterWithSingleVerificationPerRequest() throws Exception {
+        filter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_FILTER_CHAIN);
+    }
+
+    @Benchmark
+    public void filterWithVerifiedTokenCache() throws Exception {
+        cachingFilter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_FILTER_CHAIN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CustomBearerTokenAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+}
@@ -2,7 +2,16 @@ package com.example.footballteamapi.auth.infrastructure.adapter.filter;
 
 import com.example.footballteamapi.auth.application.service.InvalidTokenService;
 import com.example.footballteamapi.auth.application.service.TokenService;
+import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import com.example.footballteamapi.auth.domain.enums.UserStatus;
+import com.example.footballteamapi.auth.domain.enums.UserType;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.cache.UserSnapshotCache;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.common.domain.model.RequestPrincipal;
+import com.example.footballteamapi.common.infrastructure.context.RequestPrincipalHolder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,6 +23,10 @@ import org.mockito.Mock;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +42,12 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
     @Mock
     private InvalidTokenService invalidTokenService;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Mock
+    private UserSnapshotCacheProperties userSnapshotCacheProperties;
+
     @BeforeEach
     void setup() {
         SecurityContextHolder.clearContext();
@@ -48,11 +67,19 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain filterChain = mock(FilterChain.class);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .id(tokenId)
+                .jwt(Jwt.withTokenValue(validJwt)
+                        .header("alg", "RS256")
+                        .claim(TokenClaims.USER_ID.getValue(), "user-id")
+                        .claim(TokenClaims.USER_TYPE.getValue(), UserType.USER.name())
+                        .build())
+                .build();
 
         // When
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validJwt);
-        when(tokenService.getId(validJwt)).thenReturn(tokenId);
-        when(tokenService.getAuthentication(validJwt)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
+        when(tokenService.verify(validJwt)).thenReturn(verifiedToken);
+        when(tokenService.getAuthentication(verifiedToken)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
 
         // Then
         customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -61,9 +88,125 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         assertEquals("user", SecurityContextHolder.getContext().getAuthentication().getName());
 
         // Verify
-        verify(tokenService).verifyAndValidate(validJwt);
+        verify(tokenService, times(1)).verify(validJwt);
         verify(invalidTokenService).checkForInvalidityOfToken(tokenId);
-        verify(tokenService).getAuthentication(validJwt);
+        verify(tokenService).getAuthentication(verifiedToken);
+        verify(tokenService, never()).verifyAndValidate(anyString());
+        verify(tokenService, never()).getId(anyString());
+        verifyNoInteractions(userSnapshotCache);
+        verify(filterChain).doFilter(request, response);
+
+    }
+
+    @Test
+    void shouldNotAuthenticateInactiveUserWhenUserStatusCheckIsEnabled() throws Exception {
+
+        // Given
+        String validJwt = "valid-jwt-token";
+        String tokenId = "valid-token-id";
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .id(tokenId)
+                .jwt(Jwt.withTokenValue(validJwt)
+                        .header("alg", "RS256")
+                        .claim(TokenClaims.USER_ID.getValue(), "user-id")
+                        .claim(TokenClaims.USER_TYPE.getValue(), UserType.USER.name())
+                        .build())
+                .build();
+        UserSnapshot userSnapshot = UserSnapshot.builder()
+                .id("user-id")
+                .userStatus(UserStatus.SUSPENDED)
+                .build();
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validJwt);
+        when(tokenService.verify(validJwt)).thenReturn(verifiedToken);
+        when(userSnapshotCacheProperties.isCheckUserStatusOnRequest()).thenReturn(true);
+        when(userSnapshotCache.find("user-id")).thenReturn(Optional.of(userSnapshot));
+
+        // Then
+        customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // Verify
+        verify(invalidTokenService).checkForInvalidityOfToken(tokenId);
+        verify(userSnapshotCache).find("user-id");
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
+        verify(filterChain).doFilter(request, response);
+
+    }
+
+    @Test
+    void shouldNotAuthenticateRefreshTokenSentAsBearerToken() throws Exception {
+
+        // Given
+        String refreshJwt = "refresh-jwt-token";
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .id("refresh-token-id")
+                .jwt(Jwt.withTokenValue(refreshJwt)
+                        .header("alg", "RS256")
+                        .claim(TokenClaims.USER_ID.getValue(), "user-id")
+                        .build())
+                .build();
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refreshJwt);
+        when(tokenService.verify(refreshJwt)).thenReturn(verifiedToken);
+
+        // Then
+        customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // Verify
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
+        verifyNoInteractions(invalidTokenService, userSnapshotCache);
+        verify(filterChain).doFilter(request, response);
+
+    }
+
+    @Test
+    void shouldExposeRequestPrincipalDuringRequestAndClearItAfterwards() throws Exception {
+
+        // Given
+        String validJwt = "valid-jwt-token";
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+                .id("valid-token-id")
+                .jwt(Jwt.withTokenValue(validJwt)
+                        .header("alg", "RS256")
+                        .claim(TokenClaims.USER_ID.getValue(), "user-id")
+                        .claim(TokenClaims.USER_EMAIL.getValue(), "admin@example.com")
+                        .claim(TokenClaims.USER_TYPE.getValue(), UserType.ADMIN.name())
+                        .build())
+                .build();
+        AtomicReference<RequestPrincipal> principalDuringRequest = new AtomicReference<>();
+
+        // When
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validJwt);
+        when(tokenService.verify(validJwt)).thenReturn(verifiedToken);
+        when(tokenService.getAuthentication(verifiedToken)).thenReturn(new UsernamePasswordAuthenticationToken("user", null));
+        doAnswer(invocation -> {
+            principalDuringRequest.set(RequestPrincipalHolder.find().orElse(null));
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // Then
+        customBearerTokenAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(new RequestPrincipal("user-id", "admin@example.com"), principalDuringRequest.get());
+        assertTrue(RequestPrincipalHolder.find().isEmpty());
+        assertEquals(RequestPrincipalHolder.ANONYMOUS_USER, RequestPrincipalHolder.currentAuditor());
+
+        // Verify
         verify(filterChain).doFilter(request, response);
 
     }
@@ -85,9 +228,9 @@ class CustomBearerTokenAuthenticationFilterTest extends AbstractBaseServiceTest
         assertNull(SecurityContextHolder.getContext().getAuthentication());
 
         // Verify
-        verify(tokenService, never()).verifyAndValidate(anyString());
+        verify(tokenService, never()).verify(anyString());
         verify(invalidTokenService, never()).checkForInvalidityOfToken(any());
-        verify(tokenService, never()).getAuthentication(any());
+        verify(tokenService, never()).getAuthentication(any(VerifiedToken.class));
         verify(filterChain).doFilter(request, response);
 
     }
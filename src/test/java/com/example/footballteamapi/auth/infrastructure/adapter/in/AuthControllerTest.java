@@ -9,24 +9,30 @@ import com.example.footballteamapi.auth.application.service.LoginService;
 import com.example.footballteamapi.auth.application.service.LogoutService;
 import com.example.footballteamapi.auth.application.service.RefreshTokenService;
 import com.example.footballteamapi.auth.application.service.RegisterService;
+import com.example.footballteamapi.auth.domain.exception.TooManyAuthenticationAttemptsException;
 import com.example.footballteamapi.auth.domain.model.Token;
 import com.example.footballteamapi.auth.domain.model.User;
 import com.example.footballteamapi.auth.infrastructure.mapper.TokenToTokenResponseMapper;
+import com.example.footballteamapi.auth.infrastructure.security.AuthRateLimiter;
 import com.example.footballteamapi.base.AbstractRestControllerTest;
 import com.example.footballteamapi.builder.RegisterRequestBuilder;
 import com.example.footballteamapi.common.application.dto.response.CustomResponse;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class AuthControllerTest extends AbstractRestControllerTest {
@@ -43,6 +49,9 @@ class AuthControllerTest extends AbstractRestControllerTest {
     @MockitoBean
     LogoutService logoutService;
 
+    @MockitoBean
+    AuthRateLimiter authRateLimiter;
+
     private final TokenToTokenResponseMapper tokenToTokenResponseMapper = TokenToTokenResponseMapper.initialize();
 
 
@@ -188,6 +197,34 @@ class AuthControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenRateLimitExceeded_WhenLogin_ThenReturnTooManyRequestsWithoutCallingLoginService() throws Exception {
+
+        // Given
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("user@example.com")
+                .password("password")
+                .build();
+
+        // When
+        doThrow(new TooManyAuthenticationAttemptsException(Duration.ofSeconds(30)))
+                .when(authRateLimiter).acquire(eq(AuthRateLimiter.LOGIN), anyString(), any());
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/authentication/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "30"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isSuccess").value(false));
+
+        // Verify
+        verify(authRateLimiter, times(1)).acquire(eq(AuthRateLimiter.LOGIN), eq("user@example.com"), any());
+        verify(loginService, never()).login(any(LoginRequest.class));
+
+    }
+
 
     @Test
     void givenTokenRefreshRequestWithAdminCreate_WhenRefreshTokenForAdmin_ThenReturnTokenResponse() throws Exception {
@@ -0,0 +1,233 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
+import com.example.footballteamapi.auth.domain.model.RevokedToken;
+import com.example.footballteamapi.auth.infrastructure.config.RevokedTokenIndexProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
+import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link RevokedTokenIndex}.
+ * It mocks the {@link InvalidTokenRepository} and {@link VerifiedTokenCache} to verify that revocation checks
+ * are answered in memory once the index is loaded, that delta synchronization picks up new revocations,
+ * and that the Bloom filter is rebuilt from the live ids once it is due or overfilled.
+ */
+class RevokedTokenIndexTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private RevokedTokenIndex revokedTokenIndex;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenIndex = new RevokedTokenIndex(
+                invalidTokenRepository,
+                verifiedTokenCache,
+                new RevokedTokenIndexProperties(),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void givenIndexNotLoaded_whenIsRevoked_thenFallBackToDatabase() {
+
+        // When
+        when(invalidTokenRepository.findByTokenId("token-id")).thenReturn(Optional.of(new InvalidTokenEntity()));
+
+        // Then
+        assertTrue(revokedTokenIndex.isRevoked("token-id"));
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findByTokenId("token-id");
+
+    }
+
+    @Test
+    void givenIndexNotLoaded_whenIsRevokedForLocalRevocation_thenAnswerWithoutDatabase() {
+
+        // Given
+        revokedTokenIndex.addAll(Set.of(invalidToken("token-id")));
+
+        // When
+        final boolean revoked = revokedTokenIndex.isRevoked("token-id");
+
+        // Then
+        assertTrue(revoked);
+
+        // Verify
+        verify(invalidTokenRepository, never()).findByTokenId(any());
+
+    }
+
+    @Test
+    void givenLoadedIndex_whenIsRevoked_thenAnswerWithoutDatabase() {
+
+        // Given
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class))).thenReturn(List.of(revokedToken("revoked-token-id")));
+
+        // When
+        revokedTokenIndex.load();
+
+        // Then
+        assertTrue(revokedTokenIndex.isRevoked("revoked-token-id"));
+        assertFalse(revokedTokenIndex.isRevoked("valid-token-id"));
+
+        // Verify
+        verify(invalidTokenRepository, never()).findByTokenId(any());
+
+    }
+
+    @Test
+    void givenLocalRevocation_whenIsRevoked_thenReturnTrue() {
+
+        // Given
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class))).thenReturn(List.of());
+        revokedTokenIndex.load();
+
+        // When
+        revokedTokenIndex.addAll(Set.of(invalidToken("token-id-1"), invalidToken("token-id-2")));
+
+        // Then
+        assertTrue(revokedTokenIndex.isRevoked("token-id-1"));
+        assertTrue(revokedTokenIndex.isRevoked("token-id-2"));
+
+    }
+
+    @Test
+    void givenRevocationOnAnotherReplica_whenSynchronize_thenPickUpDeltaAndEvictCache() {
+
+        // Given
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class))).thenReturn(List.of());
+        revokedTokenIndex.load();
+
+        // When
+        when(invalidTokenRepository.findRevokedTokensCreatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(revokedToken("remote-token-id")));
+        revokedTokenIndex.synchronize();
+
+        // Then
+        assertTrue(revokedTokenIndex.isRevoked("remote-token-id"));
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findRevokedTokensNotExpiredAt(any(LocalDateTime.class));
+        verify(invalidTokenRepository, times(1)).findRevokedTokensCreatedSince(any(LocalDateTime.class));
+        verify(verifiedTokenCache).evictByTokenIds(List.of("remote-token-id"));
+
+    }
+
+    @Test
+    void givenExpiredRevokedToken_whenSynchronize_thenDropItFromIndex() {
+
+        // Given
+        final RevokedToken expiredToken = new RevokedToken("expired-token-id", LocalDateTime.now().minusMinutes(1));
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class)))
+                .thenReturn(List.of(expiredToken, revokedToken("active-token-id")));
+
+        // When
+        revokedTokenIndex.load();
+
+        // Then
+        assertFalse(revokedTokenIndex.isRevoked("expired-token-id"));
+        assertTrue(revokedTokenIndex.isRevoked("active-token-id"));
+
+    }
+
+    @Test
+    void givenDatabaseFailureOnLoad_whenIsRevoked_thenKeepFallingBackToDatabase() {
+
+        // Given
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class))).thenThrow(new RuntimeException("Database connection error"));
+        when(invalidTokenRepository.findByTokenId("token-id")).thenReturn(Optional.empty());
+
+        // When
+        revokedTokenIndex.load();
+
+        // Then
+        assertFalse(revokedTokenIndex.isRevoked("token-id"));
+
+        // Verify
+        verify(invalidTokenRepository, times(1)).findByTokenId("token-id");
+
+    }
+
+    @Test
+    void givenExpiredIdStillInBloomFilter_whenSynchronize_thenRebuildFilterWithoutIt() {
+
+        // Given
+        final RevokedTokenIndexProperties revokedTokenIndexProperties = new RevokedTokenIndexProperties();
+        revokedTokenIndexProperties.setBloomFilterRebuildInterval(Duration.ZERO);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RevokedTokenIndex rebuildingIndex = new RevokedTokenIndex(
+                invalidTokenRepository, verifiedTokenCache, revokedTokenIndexProperties, meterRegistry
+        );
+        final RevokedToken expiredToken = new RevokedToken("expired-token-id", LocalDateTime.now().minusMinutes(1));
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class)))
+                .thenReturn(List.of(expiredToken, revokedToken("active-token-id")));
+
+        // When
+        rebuildingIndex.load();
+
+        // Then
+        assertFalse(rebuildingIndex.isRevoked("expired-token-id"));
+        assertTrue(rebuildingIndex.isRevoked("active-token-id"));
+        assertEquals(0, meterRegistry.counter("auth.revoked.token.index.false.positives").count());
+
+    }
+
+    @Test
+    void givenMoreIdsThanFilterWasSizedFor_whenSynchronize_thenRebuildLargerFilterWithEveryId() {
+
+        // Given
+        final RevokedTokenIndexProperties revokedTokenIndexProperties = new RevokedTokenIndexProperties();
+        revokedTokenIndexProperties.setExpectedInsertions(2);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RevokedTokenIndex smallIndex = new RevokedTokenIndex(
+                invalidTokenRepository, verifiedTokenCache, revokedTokenIndexProperties, meterRegistry
+        );
+        final List<RevokedToken> revokedTokens = IntStream.range(0, 100)
+                .mapToObj(i -> revokedToken("token-id-" + i))
+                .toList();
+        when(invalidTokenRepository.findRevokedTokensNotExpiredAt(any(LocalDateTime.class))).thenReturn(revokedTokens);
+
+        // When
+        smallIndex.load();
+
+        // Then
+        revokedTokens.forEach(revokedToken -> assertTrue(smallIndex.isRevoked(revokedToken.tokenId())));
+        assertFalse(smallIndex.isRevoked("valid-token-id"));
+        assertEquals(0, meterRegistry.counter("auth.revoked.token.index.false.positives").count());
+
+    }
+
+    private RevokedToken revokedToken(final String tokenId) {
+        return new RevokedToken(tokenId, LocalDateTime.now().plusHours(1));
+    }
+
+    private InvalidTokenEntity invalidToken(final String tokenId) {
+        return InvalidTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
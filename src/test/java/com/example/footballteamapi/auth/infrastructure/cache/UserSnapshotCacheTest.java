@@ -0,0 +1,103 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.application.port.out.UserRepository;
+import com.example.footballteamapi.auth.domain.enums.TokenClaims;
+import com.example.footballteamapi.auth.domain.enums.UserStatus;
+import com.example.footballteamapi.auth.domain.model.UserSnapshot;
+import com.example.footballteamapi.auth.infrastructure.config.UserSnapshotCacheProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.UserSnapshotInvalidationListener;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.UserEntity;
+import com.example.footballteamapi.builder.UserBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link UserSnapshotCache}.
+ * It checks that repeated lookups hit the database once, that unknown users are not cached,
+ * and that a user row change evicts the snapshot through {@link UserSnapshotInvalidationListener}.
+ */
+class UserSnapshotCacheTest {
+
+    private UserRepository userRepository;
+
+    private UserSnapshotCache userSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userSnapshotCache = new UserSnapshotCache(
+                userRepository, new UserSnapshotCacheProperties(), new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void givenExistingUser_whenFindTwice_thenLoadFromRepositoryOnlyOnce() {
+
+        // Given
+        final UserEntity userEntity = new UserBuilder().withValidFields().build();
+
+        // When
+        when(userRepository.findById(userEntity.getId())).thenReturn(Optional.of(userEntity));
+
+        // Then
+        final UserSnapshot first = userSnapshotCache.find(userEntity.getId()).orElseThrow();
+        final UserSnapshot second = userSnapshotCache.find(userEntity.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(userEntity.getUserStatus(), first.getUserStatus());
+        assertEquals(userEntity.getUserType().name(), first.getClaims().get(TokenClaims.USER_TYPE.getValue()));
+        assertEquals(userEntity.getEmail(), userSnapshotCache.getClaims(userEntity.getId()).get(TokenClaims.USER_EMAIL.getValue()));
+
+        // Verify
+        verify(userRepository, times(1)).findById(userEntity.getId());
+
+    }
+
+    @Test
+    void givenUnknownUser_whenFind_thenReturnEmptyAndDoNotCache() {
+
+        // When
+        when(userRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        // Then
+        assertTrue(userSnapshotCache.find("unknown").isEmpty());
+        assertTrue(userSnapshotCache.getClaims("unknown").isEmpty());
+
+        // Verify
+        verify(userRepository, times(2)).findById("unknown");
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenCachedUser_whenUserRowIsUpdated_thenNextFindReloadsSnapshot() {
+
+        // Given
+        final UserEntity userEntity = new UserBuilder().withValidFields().build();
+        final ObjectProvider<UserSnapshotCache> userSnapshotCacheProvider = mock(ObjectProvider.class);
+        final UserSnapshotInvalidationListener listener = new UserSnapshotInvalidationListener(userSnapshotCacheProvider);
+
+        when(userSnapshotCacheProvider.getIfAvailable()).thenReturn(userSnapshotCache);
+        when(userRepository.findById(userEntity.getId())).thenReturn(Optional.of(userEntity));
+        assertTrue(userSnapshotCache.find(userEntity.getId()).orElseThrow().isActive());
+
+        // When
+        userEntity.setUserStatus(UserStatus.SUSPENDED);
+        listener.invalidate(userEntity);
+
+        // Then
+        assertEquals(UserStatus.SUSPENDED, userSnapshotCache.find(userEntity.getId()).orElseThrow().getUserStatus());
+
+        // Verify
+        verify(userRepository, times(2)).findById(userEntity.getId());
+
+    }
+
+}
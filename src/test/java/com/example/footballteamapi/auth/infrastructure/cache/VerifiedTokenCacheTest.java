@@ -0,0 +1,98 @@
+package com.example.footballteamapi.auth.infrastructure.cache;
+
+import com.example.footballteamapi.auth.domain.model.VerifiedToken;
+import com.example.footballteamapi.auth.infrastructure.config.VerifiedTokenCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link VerifiedTokenCache}.
+ * It checks that repeated lookups skip the verifier, that expired and revoked tokens are
+ * verified again, and that hits, misses and revocations are exported as metrics.
+ */
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(), meterRegistry);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void givenSameToken_whenGetTwice_thenVerifyOnlyOnce() {
+
+        // Given
+        final Function<String, VerifiedToken> verifier = verifier("token-id", Instant.now().plusSeconds(60));
+
+        // When
+        final VerifiedToken first = verifiedTokenCache.get("raw-token", verifier);
+        final VerifiedToken second = verifiedTokenCache.get("raw-token", verifier);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+
+    }
+
+    @Test
+    void givenExpiredToken_whenGetTwice_thenVerifyEachTime() {
+
+        // Given
+        final Function<String, VerifiedToken> verifier = verifier("token-id", Instant.now().minusSeconds(1));
+
+        // When
+        verifiedTokenCache.get("raw-token", verifier);
+        verifiedTokenCache.get("raw-token", verifier);
+
+        // Then
+        assertEquals(2, verifications.get());
+
+    }
+
+    @Test
+    void givenRevokedTokenId_whenEvictByTokenIds_thenVerifyAgain() {
+
+        // Given
+        final Function<String, VerifiedToken> verifier = verifier("token-id", Instant.now().plusSeconds(60));
+        verifiedTokenCache.get("raw-token", verifier);
+
+        // When
+        verifiedTokenCache.evictByTokenIds(Set.of("token-id", "unknown-token-id"));
+        verifiedTokenCache.get("raw-token", verifier);
+
+        // Then
+        assertEquals(2, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.revocations").counter().count());
+
+    }
+
+    private Function<String, VerifiedToken> verifier(final String tokenId, final Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return VerifiedToken.builder()
+                    .id(tokenId)
+                    .expiresAt(expiresAt)
+                    .authorities(List.of())
+                    .build();
+        };
+    }
+
+}
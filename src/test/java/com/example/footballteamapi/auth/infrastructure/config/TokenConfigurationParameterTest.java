@@ -0,0 +1,87 @@
+package com.example.footballteamapi.auth.infrastructure.config;
+
+import com.example.footballteamapi.auth.domain.enums.TokenProfile;
+import com.example.footballteamapi.auth.domain.enums.TokenSigningAlgorithm;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link TokenConfigurationParameter}.
+ * It verifies that each supported {@link TokenSigningAlgorithm} loads a matching key pair
+ * and that tokens signed with the private key are verified with the public key under the expected JWS algorithm.
+ */
+class TokenConfigurationParameterTest {
+
+    @Test
+    void givenNoSigningAlgorithm_whenCreate_thenUseRs256() {
+
+        // When
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter();
+
+        // Then
+        assertEquals(TokenSigningAlgorithm.RS256, tokenConfigurationParameter.getSigningAlgorithm());
+        assertEquals(TokenProfile.FULL, tokenConfigurationParameter.getTokenProfile());
+        assertEquals("RS256", signAndVerify(tokenConfigurationParameter).getHeader().getAlgorithm());
+
+    }
+
+    @Test
+    void givenEs256_whenCreate_thenSignAndVerifyWithEcdsaP256() {
+
+        // When
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter("ES256", "FULL");
+
+        // Then
+        assertEquals(TokenSigningAlgorithm.ES256, tokenConfigurationParameter.getSigningAlgorithm());
+        assertEquals("ES256", signAndVerify(tokenConfigurationParameter).getHeader().getAlgorithm());
+
+    }
+
+    @Test
+    void givenEdDsa_whenCreate_thenSignAndVerifyWithEd25519() {
+
+        // When
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter("EdDSA", "FULL");
+
+        // Then
+        assertEquals(TokenSigningAlgorithm.EdDSA, tokenConfigurationParameter.getSigningAlgorithm());
+        assertEquals("EdDSA", signAndVerify(tokenConfigurationParameter).getHeader().getAlgorithm());
+
+    }
+
+    @Test
+    void givenCompactTokenProfile_whenCreate_thenUseCompactTokenProfile() {
+
+        // When
+        final TokenConfigurationParameter tokenConfigurationParameter = new TokenConfigurationParameter("RS256", "COMPACT");
+
+        // Then
+        assertEquals(TokenProfile.COMPACT, tokenConfigurationParameter.getTokenProfile());
+
+    }
+
+    @Test
+    void givenUnknownSigningAlgorithm_whenCreate_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenConfigurationParameter("HS256", "FULL"));
+    }
+
+    private Jws<Claims> signAndVerify(final TokenConfigurationParameter tokenConfigurationParameter) {
+
+        final String jwt = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .signWith(tokenConfigurationParameter.getPrivateKey())
+                .compact();
+
+        return Jwts.parser()
+                .verifyWith(tokenConfigurationParameter.getPublicKey())
+                .build()
+                .parseSignedClaims(jwt);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.example.footballteamapi.auth.infrastructure.persistence;
+
+import com.example.footballteamapi.auth.application.port.out.InvalidTokenRepository;
+import com.example.footballteamapi.auth.infrastructure.config.InvalidTokenWriterProperties;
+import com.example.footballteamapi.auth.infrastructure.persistence.entity.InvalidTokenEntity;
+import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link InvalidTokenWriter}.
+ * It mocks the {@link InvalidTokenRepository} to verify that revocations queued for the background writer
+ * still reach the database when a batch insert fails.
+ */
+class InvalidTokenWriterTest extends AbstractBaseServiceTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    @Test
+    void givenFailingBatchInsert_whenWrite_thenRowsAreStillPersisted() {
+
+        // Given
+        final List<String> persistedTokenIds = new ArrayList<>();
+        final AtomicInteger failuresLeft = new AtomicInteger(1);
+
+        final InvalidTokenWriterProperties properties = new InvalidTokenWriterProperties();
+        properties.setRetryBackoff(Duration.ofMillis(1));
+
+        // When
+        doAnswer(invocation -> {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("Database connection error");
+            }
+            final List<InvalidTokenEntity> invalidTokenEntities = invocation.getArgument(0);
+            synchronized (persistedTokenIds) {
+                invalidTokenEntities.forEach(invalidTokenEntity -> persistedTokenIds.add(invalidTokenEntity.getTokenId()));
+            }
+            return invalidTokenEntities;
+        }).when(invalidTokenRepository).saveAll(anyList());
+
+        final InvalidTokenWriter invalidTokenWriter =
+                new InvalidTokenWriter(invalidTokenRepository, properties, new SimpleMeterRegistry());
+
+        invalidTokenWriter.write(List.of(invalidToken("access-token-id"), invalidToken("refresh-token-id")));
+        invalidTokenWriter.close();
+
+        // Then
+        assertEquals(List.of("access-token-id", "refresh-token-id"), persistedTokenIds.stream().sorted().toList());
+
+        // Verify
+        verify(invalidTokenRepository, atLeast(2)).saveAll(anyList());
+
+    }
+
+    @Test
+    void givenRowRejectedByTheDatabase_whenWrite_thenOtherRowsOfTheBatchArePersisted() {
+
+        // Given
+        final List<String> persistedTokenIds = new ArrayList<>();
+
+        final InvalidTokenWriterProperties properties = new InvalidTokenWriterProperties();
+        properties.setRetryAttempts(2);
+        properties.setRetryBackoff(Duration.ZERO);
+
+        // When
+        doAnswer(invocation -> {
+            final List<InvalidTokenEntity> invalidTokenEntities = invocation.getArgument(0);
+            if (invalidTokenEntities.stream().anyMatch(invalidTokenEntity -> invalidTokenEntity.getTokenId() == null)) {
+                throw new IllegalArgumentException("Token id must not be null");
+            }
+            synchronized (persistedTokenIds) {
+                invalidTokenEntities.forEach(invalidTokenEntity -> persistedTokenIds.add(invalidTokenEntity.getTokenId()));
+            }
+            return invalidTokenEntities;
+        }).when(invalidTokenRepository).saveAll(anyList());
+
+        final InvalidTokenWriter invalidTokenWriter =
+                new InvalidTokenWriter(invalidTokenRepository, properties, new SimpleMeterRegistry());
+
+        invalidTokenWriter.write(List.of(invalidToken("access-token-id"), invalidToken(null), invalidToken("refresh-token-id")));
+        invalidTokenWriter.close();
+
+        // Then
+        assertEquals(List.of("access-token-id", "refresh-token-id"), persistedTokenIds.stream().sorted().toList());
+
+    }
+
+    private InvalidTokenEntity invalidToken(final String tokenId) {
+        return InvalidTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
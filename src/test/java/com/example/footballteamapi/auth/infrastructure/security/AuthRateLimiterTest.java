@@ -0,0 +1,91 @@
+package com.example.footballteamapi.auth.infrastructure.security;
+
+import com.example.footballteamapi.auth.domain.exception.TooManyAuthenticationAttemptsException;
+import com.example.footballteamapi.auth.infrastructure.config.AuthRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link AuthRateLimiter}.
+ * It verifies that attempts are limited per email and per client IP, that endpoints have separate budgets,
+ * and that rejections are counted.
+ */
+class AuthRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthRateLimitProperties authRateLimitProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authRateLimitProperties = new AuthRateLimitProperties();
+        authRateLimitProperties.setEmail(new AuthRateLimitProperties.Rate(2, Duration.ofMinutes(1)));
+        authRateLimitProperties.setClientIp(new AuthRateLimitProperties.Rate(3, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void givenSameEmail_whenAttemptsExceedEmailRate_thenThrowTooManyAuthenticationAttemptsException() {
+
+        // Given
+        final AuthRateLimiter authRateLimiter = new AuthRateLimiter(authRateLimitProperties, meterRegistry);
+
+        // When
+        authRateLimiter.acquire("login", "user@example.com", "10.0.0.1");
+        authRateLimiter.acquire("login", " USER@example.com", "10.0.0.2");
+
+        // Then
+        final TooManyAuthenticationAttemptsException exception = assertThrows(
+                TooManyAuthenticationAttemptsException.class,
+                () -> authRateLimiter.acquire("login", "user@example.com", "10.0.0.3")
+        );
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertDoesNotThrow(() -> authRateLimiter.acquire("register", "user@example.com", "10.0.0.3"));
+
+        // Verify
+        assertEquals(1, meterRegistry.counter("auth.rate.limit.rejected", "endpoint", "login", "key", "email").count());
+
+    }
+
+    @Test
+    void givenSameClientIp_whenAttemptsExceedClientIpRate_thenThrowTooManyAuthenticationAttemptsException() {
+
+        // Given
+        final AuthRateLimiter authRateLimiter = new AuthRateLimiter(authRateLimitProperties, meterRegistry);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            authRateLimiter.acquire("login", "user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // Then
+        assertThrows(
+                TooManyAuthenticationAttemptsException.class,
+                () -> authRateLimiter.acquire("login", "other@example.com", "10.0.0.1")
+        );
+
+        // Verify
+        assertEquals(1, meterRegistry.counter("auth.rate.limit.rejected", "endpoint", "login", "key", "client-ip").count());
+
+    }
+
+    @Test
+    void givenDisabledRateLimit_whenAttemptsExceedRate_thenAllowAll() {
+
+        // Given
+        authRateLimitProperties.setEnabled(false);
+        final AuthRateLimiter authRateLimiter = new AuthRateLimiter(authRateLimitProperties, meterRegistry);
+
+        // Then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> authRateLimiter.acquire("login", "user@example.com", "10.0.0.1"));
+        }
+
+    }
+
+}
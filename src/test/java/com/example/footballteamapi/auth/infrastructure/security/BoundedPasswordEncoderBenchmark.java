@@ -0,0 +1,128 @@
+package com.example.footballteamapi.auth.infrastructure.security;
+
+import com.example.footballteamapi.auth.domain.exception.PasswordHashingUnavailableException;
+import com.example.footballteamapi.auth.infrastructure.config.PasswordHashingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test for read latency during a login storm.
+ * A fixed pool stands in for the servlet container's worker threads. Sixteen clients keep sending logins and one
+ * client sends reads, here the JSON serialization of a small page of teams; every request runs on the worker pool
+ * and the client waits for its response. {@code requestThread} hashes on the worker thread like before;
+ * {@code boundedPool} goes through {@link BoundedPasswordEncoder} with one hashing thread, and rejected logins
+ * back off for the Retry-After interval the way a client would.
+ * Compare the {@code p0.99} of {@code loginStorm:read} between the two.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=BoundedPasswordEncoderBenchmark}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BoundedPasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "password";
+
+    private static final Duration RETRY_AFTER = Duration.ofMillis(10);
+
+    private static final int WORKER_THREADS = 8;
+
+    @Param({"requestThread", "boundedPool"})
+    private String hashing;
+
+    private PasswordEncoder passwordEncoder;
+
+    private String encodedPassword;
+
+    private ObjectMapper objectMapper;
+
+    private Map<String, Object> readResponse;
+
+    private ExecutorService workerPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = bCryptPasswordEncoder.encode(RAW_PASSWORD);
+
+        if ("boundedPool".equals(hashing)) {
+            final PasswordHashingProperties passwordHashingProperties = new PasswordHashingProperties();
+            passwordHashingProperties.setPoolSize(1);
+            passwordHashingProperties.setQueueCapacity(2);
+            passwordHashingProperties.setRetryAfter(RETRY_AFTER);
+            passwordEncoder = new BoundedPasswordEncoder(
+                    bCryptPasswordEncoder, passwordHashingProperties, new SimpleMeterRegistry()
+            );
+        } else {
+            passwordEncoder = bCryptPasswordEncoder;
+        }
+
+        workerPool = Executors.newFixedThreadPool(WORKER_THREADS);
+        objectMapper = new ObjectMapper();
+        readResponse = Map.of(
+                "pageNumber", 1,
+                "pageSize", 10,
+                "content", List.of(
+                        Map.of("id", "team-1", "name", "Team 1", "players", List.of("Player 1", "Player 2")),
+                        Map.of("id", "team-2", "name", "Team 2", "players", List.of("Player 3", "Player 4"))
+                )
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workerPool.shutdownNow();
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            boundedPasswordEncoder.close();
+        }
+    }
+
+    @Benchmark
+    @Group("loginStorm")
+    @GroupThreads(16)
+    public boolean login() throws InterruptedException {
+        try {
+            return workerPool.submit(() -> passwordEncoder.matches(RAW_PASSWORD, encodedPassword)).get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof PasswordHashingUnavailableException unavailableException) {
+                LockSupport.parkNanos(unavailableException.getRetryAfter().toNanos());
+                return false;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    @Benchmark
+    @Group("loginStorm")
+    @GroupThreads(1)
+    public byte[] read() throws InterruptedException, ExecutionException {
+        return workerPool.submit(() -> objectMapper.writeValueAsBytes(readResponse)).get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(BoundedPasswordEncoderBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.footballteamapi.auth.infrastructure.security;
+
+import com.example.footballteamapi.auth.domain.exception.PasswordHashingUnavailableException;
+import com.example.footballteamapi.auth.infrastructure.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link BoundedPasswordEncoder}.
+ * It verifies that password hashing is delegated to the dedicated pool, that latency is recorded,
+ * and that a full queue fails fast with {@link PasswordHashingUnavailableException}.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        boundedPasswordEncoder.close();
+    }
+
+    @Test
+    void givenRawPassword_whenEncodeAndMatches_thenDelegateOnHashingPool() {
+
+        // Given
+        final PasswordEncoder delegate = mock(PasswordEncoder.class);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, properties(1, 1), meterRegistry);
+
+        // When
+        when(delegate.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(delegate.matches("password", "encoded")).thenReturn(true);
+
+        // Then
+        assertTrue(boundedPasswordEncoder.encode("password").startsWith("password-hashing-"));
+        assertTrue(boundedPasswordEncoder.matches("password", "encoded"));
+
+        // Verify
+        assertEquals(1, meterRegistry.timer("auth.password.hashing", "operation", "encode").count());
+        assertEquals(1, meterRegistry.timer("auth.password.hashing", "operation", "matches").count());
+
+    }
+
+    @Test
+    void givenFullQueue_whenMatches_thenThrowPasswordHashingUnavailableException() throws Exception {
+
+        // Given
+        final CountDownLatch hashingStarted = new CountDownLatch(1);
+        final CountDownLatch releaseHashing = new CountDownLatch(1);
+        final PasswordEncoder delegate = mock(PasswordEncoder.class);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, properties(1, 1), meterRegistry);
+
+        when(delegate.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            hashingStarted.countDown();
+            releaseHashing.await();
+            return true;
+        });
+
+        // When
+        final CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+                () -> boundedPasswordEncoder.matches("password", "encoded")
+        );
+        assertTrue(hashingStarted.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+                () -> boundedPasswordEncoder.matches("password", "encoded")
+        );
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Then
+        final PasswordHashingUnavailableException exception = assertThrows(
+                PasswordHashingUnavailableException.class,
+                () -> boundedPasswordEncoder.matches("password", "encoded")
+        );
+        assertEquals(Duration.ofSeconds(1), exception.getRetryAfter());
+
+        releaseHashing.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+
+    }
+
+    @Test
+    void givenFailingDelegate_whenEncode_thenPropagateOriginalException() {
+
+        // Given
+        final PasswordEncoder delegate = mock(PasswordEncoder.class);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, properties(1, 1), meterRegistry);
+
+        // When
+        when(delegate.encode("password")).thenThrow(new IllegalArgumentException("rawPassword cannot be null"));
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> boundedPasswordEncoder.encode("password"));
+
+    }
+
+    private PasswordHashingProperties properties(final int poolSize, final int queueCapacity) {
+        final PasswordHashingProperties passwordHashingProperties = new PasswordHashingProperties();
+        passwordHashingProperties.setPoolSize(poolSize);
+        passwordHashingProperties.setQueueCapacity(queueCapacity);
+        return passwordHashingProperties;
+    }
+
+}
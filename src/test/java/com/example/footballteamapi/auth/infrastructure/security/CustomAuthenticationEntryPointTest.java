@@ -1,18 +1,27 @@
 package com.example.footballteamapi.auth.infrastructure.security;
 
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.common.domain.model.CustomError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 class CustomAuthenticationEntryPointTest extends AbstractBaseServiceTest {
@@ -54,4 +63,48 @@ class CustomAuthenticationEntryPointTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldWriteSameBodyAsSerializedCustomErrorWithCurrentTime() throws IOException {
+
+        // Given
+        CustomAuthenticationEntryPoint customAuthenticationEntryPoint = new CustomAuthenticationEntryPoint();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ServletOutputStream mockOutputStream = mock(ServletOutputStream.class);
+        when(httpServletResponse.getOutputStream()).thenReturn(mockOutputStream);
+
+        CustomError expectedError = CustomError.builder()
+                .header(CustomError.Header.AUTH_ERROR.getName())
+                .httpStatus(HttpStatus.UNAUTHORIZED)
+                .isSuccess(false)
+                .build();
+        ObjectNode expectedBody = objectMapper.valueToTree(expectedError);
+        List<String> expectedFields = new ArrayList<>();
+        expectedBody.fieldNames().forEachRemaining(expectedFields::add);
+        expectedBody.remove("time");
+
+        // When
+        customAuthenticationEntryPoint.commence(httpServletRequest, httpServletResponse, authenticationException);
+        customAuthenticationEntryPoint.commence(httpServletRequest, httpServletResponse, authenticationException);
+
+        // Then
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(mockOutputStream, times(2)).write(bodyCaptor.capture());
+
+        for (byte[] body : bodyCaptor.getAllValues()) {
+            ObjectNode actualBody = (ObjectNode) objectMapper.readTree(body);
+            List<String> actualFields = new ArrayList<>();
+            actualBody.fieldNames().forEachRemaining(actualFields::add);
+
+            assertEquals(expectedFields, actualFields);
+            assertEquals(expectedError.getTime().getYear(), actualBody.get("time").get(0).asInt());
+
+            actualBody.remove("time");
+            assertEquals(expectedBody, actualBody);
+        }
+
+        // Verify
+        verify(httpServletResponse, times(2)).setContentLength(anyInt());
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.footballteamapi.auth.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void givenInsertedValues_whenMightContain_thenReturnTrue() {
+
+        // Given
+        final BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+
+        // When
+        values.forEach(bloomFilter::put);
+
+        // Then
+        values.forEach(value -> assertTrue(bloomFilter.mightContain(value)));
+
+    }
+
+    @Test
+    void givenUnknownValues_whenMightContain_thenFalsePositiveRateStaysNearConfiguredProbability() {
+
+        // Given
+        final BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 300, "False positive count was " + falsePositives);
+
+    }
+
+}
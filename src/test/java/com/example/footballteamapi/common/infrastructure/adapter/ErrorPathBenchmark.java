@@ -0,0 +1,126 @@
+package com.example.footballteamapi.common.infrastructure.adapter;
+
+import com.example.footballteamapi.auth.infrastructure.security.CustomAuthenticationEntryPoint;
+import com.example.footballteamapi.common.domain.model.CustomError;
+import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the error path under load.
+ * {@code notFoundWithStackTrace} throws an exception that fills in its stack trace, the way the domain exceptions
+ * did before, and {@code notFoundStackless} throws the current {@link FootballTeamNotFoundException}; both are
+ * thrown {@code depth} frames below the catch to stand in for the controller, proxy and service frames.
+ * {@code unauthorizedRebuilt} builds and serializes the 401 body on every call like the former entry point,
+ * {@code unauthorizedCached} goes through {@link CustomAuthenticationEntryPoint} with its pre-serialized body.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=ErrorPathBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"16", "128"})
+    private int depth;
+
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    private ObjectMapper objectMapper;
+
+    private MockHttpServletRequest request;
+
+    private InsufficientAuthenticationException authenticationException;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customAuthenticationEntryPoint = new CustomAuthenticationEntryPoint();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        request = new MockHttpServletRequest("GET", "/api/v1/football-teams");
+        authenticationException = new InsufficientAuthenticationException("Full authentication is required");
+    }
+
+    @Benchmark
+    public HttpStatus notFoundWithStackTrace() {
+        try {
+            throwAtDepth(depth, true);
+            return HttpStatus.OK;
+        } catch (RuntimeException exception) {
+            return FootballTeamNotFoundException.STATUS;
+        }
+    }
+
+    @Benchmark
+    public HttpStatus notFoundStackless() {
+        try {
+            throwAtDepth(depth, false);
+            return HttpStatus.OK;
+        } catch (FootballTeamNotFoundException exception) {
+            return FootballTeamNotFoundException.STATUS;
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unauthorizedRebuilt() throws IOException {
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+
+        final CustomError customError = CustomError.builder()
+                .header(CustomError.Header.AUTH_ERROR.getName())
+                .httpStatus(HttpStatus.UNAUTHORIZED)
+                .isSuccess(false)
+                .build();
+
+        final String responseBody = objectMapper
+                .writer(DateFormat.getDateInstance())
+                .writeValueAsString(customError);
+
+        response.getOutputStream().write(responseBody.getBytes());
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unauthorizedCached() throws IOException {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        customAuthenticationEntryPoint.commence(request, response, authenticationException);
+        return response;
+    }
+
+    private static void throwAtDepth(final int remaining, final boolean withStackTrace) {
+        if (remaining > 0) {
+            throwAtDepth(remaining - 1, withStackTrace);
+            return;
+        }
+        if (withStackTrace) {
+            throw new IllegalStateException("Football team not found!");
+        }
+        throw new FootballTeamNotFoundException();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(ErrorPathBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
@@ -13,6 +13,7 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -22,6 +23,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -203,6 +205,54 @@ class GlobalExceptionHandlerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenPasswordHashingUnavailableException_whenHandlePasswordHashingUnavailableException_thenRespondWithServiceUnavailable() {
+
+        // Given
+        PasswordHashingUnavailableException ex = new PasswordHashingUnavailableException(Duration.ofSeconds(2));
+
+        CustomError expectedError = CustomError.builder()
+                .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(CustomError.Header.PROCESS_ERROR.getName())
+                .message("Authentication is busy, please retry later!\n")
+                .isSuccess(false)
+                .build();
+
+        // When
+        ResponseEntity<CustomError> responseEntity = globalExceptionHandler.handlePasswordHashingUnavailableException(ex);
+
+        // Then
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        CustomError actualError = responseEntity.getBody();
+        checkCustomError(expectedError, actualError);
+
+    }
+
+    @Test
+    void givenTooManyAuthenticationAttemptsException_whenHandleTooManyAuthenticationAttemptsException_thenRespondWithTooManyRequests() {
+
+        // Given
+        TooManyAuthenticationAttemptsException ex = new TooManyAuthenticationAttemptsException(Duration.ofMillis(1500));
+
+        CustomError expectedError = CustomError.builder()
+                .httpStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .header(CustomError.Header.AUTH_ERROR.getName())
+                .message("Too many authentication attempts, please retry later!\n")
+                .isSuccess(false)
+                .build();
+
+        // When
+        ResponseEntity<CustomError> responseEntity = globalExceptionHandler.handleTooManyAuthenticationAttemptsException(ex);
+
+        // Then
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        CustomError actualError = responseEntity.getBody();
+        checkCustomError(expectedError, actualError);
+
+    }
+
     @Test
     void givenRoleNotFoundException_whenHandleRoleNotFoundException_thenRespondWithNotFound() {
 
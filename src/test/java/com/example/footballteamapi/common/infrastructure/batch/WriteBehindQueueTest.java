@@ -0,0 +1,290 @@
+package com.example.footballteamapi.common.infrastructure.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link WriteBehindQueue}.
+ * It verifies that queued items are written in bounded batches, that a full queue rejects new items,
+ * that failed batches are retried and split into single items, and that closing the queue drains what is left
+ * without waiting past the shutdown timeout.
+ */
+class WriteBehindQueueTest {
+
+    @Test
+    void givenQueuedItems_whenClose_thenAllItemsAreWrittenInBoundedBatches() {
+
+        // Given
+        final List<List<Integer>> writtenBatches = new CopyOnWriteArrayList<>();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 1_000, 10, Duration.ofSeconds(5), writtenBatches::add, meterRegistry
+        );
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+        }
+        writeBehindQueue.close();
+
+        // Then
+        assertEquals(100, writtenBatches.stream().mapToInt(List::size).sum());
+        assertTrue(writtenBatches.stream().allMatch(batch -> batch.size() <= 10));
+        assertEquals(100, meterRegistry.counter("write.behind.queue.written", "queue", "test").count());
+
+    }
+
+    @Test
+    void givenFullQueue_whenOffer_thenRejectItem() throws InterruptedException {
+
+        // Given
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 1, 1, Duration.ofSeconds(5),
+                batch -> {
+                    writerBlocked.countDown();
+                    try {
+                        releaseWriter.await();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                meterRegistry
+        );
+
+        // When
+        assertTrue(writeBehindQueue.offer(1));
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+        assertTrue(writeBehindQueue.offer(2));
+
+        // Then
+        assertFalse(writeBehindQueue.offer(3));
+        assertEquals(1, meterRegistry.counter("write.behind.queue.rejected", "queue", "test").count());
+
+        releaseWriter.countDown();
+        writeBehindQueue.close();
+
+    }
+
+    @Test
+    void givenFailingWriter_whenItemsAreWritten_thenCountFailuresAndKeepRunning() {
+
+        // Given
+        final List<Integer> writtenItems = new CopyOnWriteArrayList<>();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 1, Duration.ofSeconds(5),
+                batch -> {
+                    if (batch.contains(1)) {
+                        throw new IllegalStateException("Database connection error");
+                    }
+                    writtenItems.addAll(batch);
+                },
+                meterRegistry
+        );
+
+        // When
+        writeBehindQueue.offer(1);
+        writeBehindQueue.offer(2);
+        writeBehindQueue.close();
+
+        // Then
+        assertEquals(List.of(2), writtenItems);
+        assertEquals(1, meterRegistry.counter("write.behind.queue.failed", "queue", "test").count());
+
+    }
+
+    @Test
+    void givenWriterFailingTwice_whenItemsAreWrittenWithRetry_thenAllItemsArePersisted() {
+
+        // Given
+        final List<Integer> writtenItems = new CopyOnWriteArrayList<>();
+        final AtomicInteger failuresLeft = new AtomicInteger(2);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 10, Duration.ZERO, Duration.ofSeconds(5),
+                new WriteBehindQueue.Retry(3, Duration.ofMillis(1), true),
+                batch -> {
+                    if (failuresLeft.getAndDecrement() > 0) {
+                        throw new IllegalStateException("Database connection error");
+                    }
+                    writtenItems.addAll(batch);
+                },
+                meterRegistry
+        );
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+        }
+        writeBehindQueue.close();
+
+        // Then
+        assertEquals(List.of(0, 1, 2, 3, 4), writtenItems.stream().sorted().toList());
+        assertEquals(5, meterRegistry.counter("write.behind.queue.written", "queue", "test").count());
+        assertEquals(0, meterRegistry.counter("write.behind.queue.failed", "queue", "test").count());
+
+    }
+
+    @Test
+    void givenBatchWithOneBadItem_whenAllAttemptsFail_thenWriteTheOtherItemsOneByOne() {
+
+        // Given
+        final List<Integer> writtenItems = new CopyOnWriteArrayList<>();
+        final CountDownLatch queued = new CountDownLatch(1);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 10, Duration.ZERO, Duration.ofSeconds(5),
+                new WriteBehindQueue.Retry(2, Duration.ZERO, true),
+                batch -> {
+                    awaitQuietly(queued);
+                    if (batch.contains(3)) {
+                        throw new IllegalArgumentException("Value too long for column");
+                    }
+                    writtenItems.addAll(batch);
+                },
+                meterRegistry
+        );
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+        }
+        queued.countDown();
+        writeBehindQueue.close();
+
+        // Then
+        assertEquals(List.of(0, 1, 2, 4), writtenItems.stream().sorted().toList());
+        assertEquals(4, meterRegistry.counter("write.behind.queue.written", "queue", "test").count());
+        assertEquals(1, meterRegistry.counter("write.behind.queue.failed", "queue", "test").count());
+
+    }
+
+    @Test
+    void givenWriterSlowerThanShutdownTimeout_whenClose_thenReturnWithinTimeoutAndCountUnwrittenItems() {
+
+        // Given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 1, Duration.ofMillis(100),
+                batch -> {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                meterRegistry
+        );
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+        }
+        final long startedAt = System.nanoTime();
+        writeBehindQueue.close();
+        final Duration closeDuration = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        assertTrue(closeDuration.compareTo(Duration.ofSeconds(2)) < 0, "close took " + closeDuration);
+        final double written = meterRegistry.counter("write.behind.queue.written", "queue", "test").count();
+        final double failed = meterRegistry.counter("write.behind.queue.failed", "queue", "test").count();
+        assertTrue(failed > 0);
+        assertTrue(written + failed <= 20);
+
+    }
+
+    @Test
+    void givenFailingWriterWithLongBackoff_whenClose_thenStopRetryingAtShutdownTimeout() {
+
+        // Given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 10, Duration.ZERO, Duration.ofMillis(200),
+                new WriteBehindQueue.Retry(5, Duration.ofSeconds(10), true),
+                batch -> {
+                    throw new IllegalStateException("Database is down");
+                },
+                meterRegistry
+        );
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+        }
+        final long startedAt = System.nanoTime();
+        writeBehindQueue.close();
+        final Duration closeDuration = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        assertTrue(closeDuration.compareTo(Duration.ofSeconds(2)) < 0, "close took " + closeDuration);
+        assertEquals(5, meterRegistry.counter("write.behind.queue.failed", "queue", "test").count());
+        assertEquals(0, meterRegistry.counter("write.behind.queue.written", "queue", "test").count());
+
+    }
+
+    @Test
+    void givenFlushInterval_whenItemsArriveWithinInterval_thenWriteThemInOneBatch() throws InterruptedException {
+
+        // Given
+        final List<List<Integer>> writtenBatches = new CopyOnWriteArrayList<>();
+        final CountDownLatch written = new CountDownLatch(1);
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 10, Duration.ofSeconds(5), Duration.ofSeconds(5),
+                batch -> {
+                    writtenBatches.add(batch);
+                    written.countDown();
+                },
+                new SimpleMeterRegistry()
+        );
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertTrue(writeBehindQueue.offer(i));
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)), writtenBatches);
+
+        writeBehindQueue.close();
+
+    }
+
+    @Test
+    void givenClosedQueue_whenOffer_thenRejectItem() {
+
+        // Given
+        final WriteBehindQueue<Integer> writeBehindQueue = new WriteBehindQueue<>(
+                "test", 100, 10, Duration.ofSeconds(5), batch -> { }, new SimpleMeterRegistry()
+        );
+
+        // When
+        writeBehindQueue.close();
+
+        // Then
+        assertFalse(writeBehindQueue.offer(1));
+
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
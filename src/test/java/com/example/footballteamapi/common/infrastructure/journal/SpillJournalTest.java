@@ -0,0 +1,205 @@
+package com.example.footballteamapi.common.infrastructure.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link SpillJournal}.
+ * It verifies that records survive segment rotation and reopening, that a segment is deleted only after
+ * all of its records were handled, that a segment still being appended to is never replayed, and that a torn
+ * record ends its segment.
+ */
+class SpillJournalTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenRecordsAcrossSegments_whenReplay_thenHandleAllInOrderAndDeleteSegments() throws IOException {
+
+        // Given
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+        for (int i = 0; i < 10; i++) {
+            spillJournal.append(bytes("record-" + i));
+        }
+
+        // When
+        final List<String> replayed = new ArrayList<>();
+        final int count = spillJournal.replay(3, batch -> {
+            assertTrue(batch.size() <= 3);
+            batch.forEach(record -> replayed.add(new String(record, StandardCharsets.UTF_8)));
+        });
+
+        // Then
+        assertEquals(10, count);
+        assertEquals("record-0", replayed.getFirst());
+        assertEquals("record-9", replayed.getLast());
+        assertEquals(0, segmentCount());
+
+        spillJournal.close();
+
+    }
+
+    @Test
+    void givenConcurrentAppends_whenReplayRepeatedly_thenEveryRecordIsHandledExactlyOnce() throws Exception {
+
+        // Given
+        final int appenders = 4;
+        final int recordsPerAppender = 2_000;
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+        final List<String> replayed = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executorService = Executors.newFixedThreadPool(appenders);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        final List<Future<?>> appends = new ArrayList<>();
+        for (int appender = 0; appender < appenders; appender++) {
+            final int appenderId = appender;
+            appends.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < recordsPerAppender; i++) {
+                    spillJournal.append(bytes(appenderId + "-" + i));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (appends.stream().anyMatch(append -> !append.isDone())) {
+            spillJournal.replay(10, batch -> batch.forEach(record -> replayed.add(new String(record, StandardCharsets.UTF_8))));
+        }
+        for (final Future<?> append : appends) {
+            append.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        spillJournal.replay(10, batch -> batch.forEach(record -> replayed.add(new String(record, StandardCharsets.UTF_8))));
+
+        // Then
+        assertEquals(appenders * recordsPerAppender, replayed.size(), "No record should be lost or handled twice");
+        assertEquals(appenders * recordsPerAppender, new HashSet<>(replayed).size());
+        assertEquals(0, segmentCount());
+
+        spillJournal.close();
+
+    }
+
+    @Test
+    void givenFailingHandler_whenReplay_thenKeepSegmentAndDeliverAgain() throws IOException {
+
+        // Given
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+        spillJournal.append(bytes("record-0"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> spillJournal.replay(10, batch -> {
+            throw new IllegalStateException("database is down");
+        }));
+
+        // Then
+        assertEquals(1, spillJournal.countSealedSegments());
+
+        final List<byte[]> replayed = new ArrayList<>();
+        assertEquals(1, spillJournal.replay(10, replayed::addAll));
+        assertEquals("record-0", new String(replayed.getFirst(), StandardCharsets.UTF_8));
+        assertEquals(0, spillJournal.countSealedSegments());
+
+        spillJournal.close();
+
+    }
+
+    @Test
+    void givenJournalFromPreviousRun_whenReopen_thenReplayOldRecordsAndAppendToNewSegment() throws IOException {
+
+        // Given
+        final SpillJournal previousRun = new SpillJournal(directory, SEGMENT_SIZE);
+        previousRun.append(bytes("old"));
+        previousRun.close();
+
+        // When
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+        spillJournal.append(bytes("new"));
+
+        // Then
+        final List<String> replayed = new ArrayList<>();
+        spillJournal.replay(10, batch -> batch.forEach(record -> replayed.add(new String(record, StandardCharsets.UTF_8))));
+        assertEquals(List.of("old", "new"), replayed);
+
+        spillJournal.close();
+
+    }
+
+    @Test
+    void givenTornRecord_whenReplay_thenKeepRecordsBeforeIt() throws IOException {
+
+        // Given
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+        spillJournal.append(bytes("kept"));
+        spillJournal.append(bytes("torn"));
+        spillJournal.close();
+
+        final Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Flip a byte in the payload of the second record so its checksum no longer matches
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), 8 + 4 + 8);
+        }
+
+        // When
+        final List<byte[]> replayed = new ArrayList<>();
+        final int count = new SpillJournal(directory, SEGMENT_SIZE).replay(10, replayed::addAll);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals("kept", new String(replayed.getFirst(), StandardCharsets.UTF_8));
+
+    }
+
+    @Test
+    void givenRecordLargerThanSegment_whenAppend_thenThrowIOException() throws IOException {
+
+        // Given
+        final SpillJournal spillJournal = new SpillJournal(directory, SEGMENT_SIZE);
+
+        // When & Then
+        assertThrows(IOException.class, () -> spillJournal.append(new byte[SEGMENT_SIZE]));
+
+        spillJournal.close();
+
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
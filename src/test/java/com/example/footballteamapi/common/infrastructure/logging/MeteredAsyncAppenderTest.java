@@ -0,0 +1,171 @@
+package com.example.footballteamapi.common.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link MeteredAsyncAppender}.
+ * It verifies that a full queue never blocks the logging thread, that dropped events are counted,
+ * and that threads racing for the last free slot neither block nor count an event twice.
+ */
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    private final CountDownLatch delegateBlocked = new CountDownLatch(1);
+
+    private final CountDownLatch releaseDelegate = new CountDownLatch(1);
+
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        final AppenderBase<ILoggingEvent> slowDelegate = new AppenderBase<>() {
+            @Override
+            protected void append(final ILoggingEvent event) {
+                delegateBlocked.countDown();
+                try {
+                    releaseDelegate.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slowDelegate.setContext(loggerContext);
+        slowDelegate.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("ASYNC_TEST");
+        appender.setQueueSize(2);
+        appender.setDiscardingThreshold(0);
+        appender.setNeverBlock(true);
+        appender.addAppender(slowDelegate);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseDelegate.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void givenFullQueue_whenAppend_thenDropWithoutBlockingAndCount() throws InterruptedException {
+
+        // Given
+        appender.doAppend(event());
+        assertTrue(delegateBlocked.await(5, TimeUnit.SECONDS));
+        appender.doAppend(event());
+        appender.doAppend(event());
+
+        // When
+        final long startedAt = System.nanoTime();
+        appender.doAppend(event());
+        appender.doAppend(event());
+
+        // Then
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1_000);
+        assertEquals(2, appender.getDroppedEvents());
+        assertEquals(2, appender.getNumberOfElementsInQueue());
+
+    }
+
+    @Test
+    void givenFreeQueue_whenAppend_thenNothingIsDropped() {
+
+        // When
+        appender.doAppend(event());
+
+        // Then
+        assertEquals(0, appender.getDroppedEvents());
+
+    }
+
+    @Test
+    void givenManyThreadsRacingForOneSlot_whenAppend_thenCountDropsWithoutOvercounting() throws Exception {
+
+        // Given
+        final int threads = 8;
+        final int eventsPerThread = 20_000;
+        final LongAdder delivered = new LongAdder();
+
+        final AppenderBase<ILoggingEvent> countingDelegate = new AppenderBase<>() {
+            @Override
+            protected void append(final ILoggingEvent event) {
+                delivered.increment();
+            }
+        };
+        countingDelegate.setContext(loggerContext);
+        countingDelegate.start();
+
+        final MeteredAsyncAppender racedAppender = new MeteredAsyncAppender();
+        racedAppender.setContext(loggerContext);
+        racedAppender.setName("ASYNC_RACE_TEST");
+        racedAppender.setQueueSize(1);
+        racedAppender.setDiscardingThreshold(0);
+        racedAppender.setNeverBlock(true);
+        racedAppender.addAppender(countingDelegate);
+        racedAppender.start();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        final List<Future<?>> producers = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            producers.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerThread; i++) {
+                    racedAppender.doAppend(event());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (final Future<?> producer : producers) {
+            producer.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        racedAppender.stop();
+
+        // Then
+        // Lost races are dropped uncounted, so the count may fall short but never exceeds what was not delivered
+        assertTrue(racedAppender.getDroppedEvents() > 0);
+        assertTrue(delivered.sum() + racedAppender.getDroppedEvents() <= (long) threads * eventsPerThread);
+
+    }
+
+    private LoggingEvent event() {
+        return new LoggingEvent(
+                MeteredAsyncAppenderTest.class.getName(),
+                loggerContext.getLogger("test"),
+                Level.INFO,
+                "message",
+                null,
+                null
+        );
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.footballteamapi.common.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link TokenBucket}.
+ * It verifies that a full bucket allows a burst of {@code capacity} tokens, that it refills over time,
+ * and that concurrent callers never take more tokens than the bucket holds.
+ */
+class TokenBucketTest {
+
+    @Test
+    void givenFullBucket_whenConsumeBeyondCapacity_thenRejectWithTimeUntilNextToken() {
+
+        // Given
+        final AtomicLong now = new AtomicLong();
+        final TokenBucket tokenBucket = new TokenBucket(3, Duration.ofSeconds(3), now::get);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, tokenBucket.tryConsume());
+        }
+
+        // Then
+        assertEquals(Duration.ofSeconds(1), tokenBucket.tryConsume());
+
+    }
+
+    @Test
+    void givenEmptyBucket_whenRefillPeriodPasses_thenAllowConsumeAgain() {
+
+        // Given
+        final AtomicLong now = new AtomicLong();
+        final TokenBucket tokenBucket = new TokenBucket(2, Duration.ofSeconds(2), now::get);
+        tokenBucket.tryConsume();
+        tokenBucket.tryConsume();
+        assertFalse(tokenBucket.tryConsume().isZero());
+
+        // When
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertEquals(Duration.ZERO, tokenBucket.tryConsume());
+        assertFalse(tokenBucket.tryConsume().isZero());
+
+    }
+
+    @Test
+    void givenConcurrentCallers_whenConsume_thenNeverExceedCapacity() throws InterruptedException {
+
+        // Given
+        final TokenBucket tokenBucket = new TokenBucket(100, Duration.ofHours(1));
+        final AtomicInteger consumed = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (tokenBucket.tryConsume().isZero()) {
+                        consumed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+
+        // Then
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(100, consumed.get());
+
+    }
+
+}
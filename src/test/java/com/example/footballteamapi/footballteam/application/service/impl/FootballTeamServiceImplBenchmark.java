@@ -0,0 +1,116 @@
+package com.example.footballteamapi.footballteam.application.service.impl;
+
+import com.example.footballteamapi.FootballTeamApiApplication;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
+import com.example.footballteamapi.footballteam.application.service.FootballTeamService;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teams per second when seeding a season, against the application running on PostgreSQL in a Testcontainer.
+ * Every invocation creates {@value #TEAM_COUNT} teams with fresh names, either one
+ * {@link FootballTeamService#createTeam} call per team, as the single-item endpoint does, or one
+ * {@link FootballTeamService#createTeamsInBulk} call for all of them. Both go through the service beans,
+ * so the HTTP layer, which costs the same per request, is left out.
+ * Needs Docker. Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=FootballTeamServiceImplBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FootballTeamServiceImplBenchmark {
+
+    private static final int TEAM_COUNT = 1000;
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private FootballTeamService footballTeamService;
+
+    private List<CreateFootballTeamRequest> season;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withDatabaseName("footballteamdatabase");
+        postgresContainer.start();
+
+        applicationContext = new SpringApplicationBuilder(FootballTeamApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgresContainer.getJdbcUrl(),
+                        "spring.datasource.username=" + postgresContainer.getUsername(),
+                        "spring.datasource.password=" + postgresContainer.getPassword()
+                )
+                .run();
+
+        footballTeamService = applicationContext.getBean(FootballTeamService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+        postgresContainer.stop();
+    }
+
+    @Setup(Level.Invocation)
+    public void nameTeams() {
+        season = new ArrayList<>(TEAM_COUNT);
+        for (int teamIndex = 0; teamIndex < TEAM_COUNT; teamIndex++) {
+            season.add(CreateFootballTeamRequest.builder()
+                    .teamName("Team " + UUID.randomUUID())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TEAM_COUNT)
+    public int singleItem() {
+        for (final CreateFootballTeamRequest request : season) {
+            footballTeamService.createTeam(request);
+        }
+        return season.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TEAM_COUNT)
+    public int bulk() {
+
+        final List<FootballTeamCreationResult> results = footballTeamService.createTeamsInBulk(
+                BulkCreateFootballTeamRequest.builder()
+                        .teams(season)
+                        .build()
+        );
+
+        if (!results.stream().allMatch(FootballTeamCreationResult::isCreated)) {
+            throw new IllegalStateException("Every team with a fresh name should be created");
+        }
+        return results.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(FootballTeamServiceImplBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
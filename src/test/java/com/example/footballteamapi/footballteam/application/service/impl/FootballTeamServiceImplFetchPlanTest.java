@@ -0,0 +1,136 @@
+package com.example.footballteamapi.footballteam.application.service.impl;
+
+import com.example.footballteamapi.base.AbstractTestContainerConfiguration;
+import com.example.footballteamapi.common.application.dto.request.CustomPagingRequest;
+import com.example.footballteamapi.common.domain.model.CustomPage;
+import com.example.footballteamapi.common.domain.model.CustomPaging;
+import com.example.footballteamapi.footballteam.domain.enums.Position;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import com.example.footballteamapi.footballteam.infrastructure.repository.FootballTeamNameRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the fetch plan of {@link FootballTeamServiceImpl} against PostgreSQL: listing a page of teams
+ * and reading a single team run a fixed number of SQL statements, whatever the page size and however many
+ * players each team has.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FootballTeamServiceImpl.class, FootballTeamNameRepository.class})
+class FootballTeamServiceImplFetchPlanTest extends AbstractTestContainerConfiguration {
+
+    private static final int TEAM_COUNT = 60;
+
+    private static final int PLAYERS_PER_TEAM = 3;
+
+    @Autowired
+    private FootballTeamServiceImpl footballTeamService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    private final List<String> teamIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+
+        for (int teamIndex = 0; teamIndex < TEAM_COUNT; teamIndex++) {
+            FootballTeamEntity team = FootballTeamEntity.builder()
+                    .teamName("Team " + teamIndex)
+                    .players(new ArrayList<>())
+                    .build();
+            testEntityManager.persist(team);
+            teamIds.add(team.getId());
+
+            for (int playerIndex = 0; playerIndex < PLAYERS_PER_TEAM; playerIndex++) {
+                PlayerEntity player = PlayerEntity.builder()
+                        .name("Player " + teamIndex + "-" + playerIndex)
+                        .position(Position.MIDFIELDER)
+                        .footballTeam(team)
+                        .build();
+                testEntityManager.persist(player);
+            }
+        }
+
+        // Start every read from the database rather than the persistence context
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void givenPagesOfDifferentSizes_whenGetAllTeamsWithPageable_thenStatementCountStaysConstant() {
+
+        // Given
+        CustomPagingRequest smallPageRequest = pagingRequest(5);
+        CustomPagingRequest largePageRequest = pagingRequest(50);
+
+        // When
+        statistics.clear();
+        CustomPage<FootballTeam> smallPage = footballTeamService.getAllTeamsWithPageable(smallPageRequest);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        testEntityManager.clear();
+
+        statistics.clear();
+        CustomPage<FootballTeam> largePage = footballTeamService.getAllTeamsWithPageable(largePageRequest);
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Then: one query for the id page, one for its count and one for the teams with their players
+        assertEquals(5, smallPage.getContent().size());
+        assertEquals(50, largePage.getContent().size());
+        largePage.getContent().forEach(team -> assertEquals(PLAYERS_PER_TEAM, team.getPlayers().size()));
+        assertEquals((long) TEAM_COUNT, largePage.getTotalElementCount());
+
+        assertEquals(3, smallPageStatements);
+        assertEquals(smallPageStatements, largePageStatements);
+
+    }
+
+    @Test
+    void givenExistingTeam_whenGetTeamById_thenTeamAndPlayersComeFromOneStatement() {
+
+        // Given
+        String teamId = teamIds.get(0);
+
+        // When
+        statistics.clear();
+        FootballTeam team = footballTeamService.getTeamById(teamId);
+
+        // Then
+        assertEquals(PLAYERS_PER_TEAM, team.getPlayers().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+    }
+
+    private static CustomPagingRequest pagingRequest(final int pageSize) {
+        return CustomPagingRequest.builder()
+                .pagination(CustomPaging.builder()
+                        .pageNumber(1)
+                        .pageSize(pageSize)
+                        .build())
+                .build();
+    }
+
+}
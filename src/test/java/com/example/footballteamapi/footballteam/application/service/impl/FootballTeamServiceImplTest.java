@@ -4,30 +4,40 @@ import com.example.footballteamapi.base.AbstractBaseServiceTest;
 import com.example.footballteamapi.common.application.dto.request.CustomPagingRequest;
 import com.example.footballteamapi.common.domain.model.CustomPage;
 import com.example.footballteamapi.common.domain.model.CustomPaging;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.port.out.FootballTeamRepository;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamAlreadyExistException;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamNotFoundException;
 import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.FootballTeamEntityToFootballTeamMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.UpdateFootballTeamRequestToFootballTeamEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import com.example.footballteamapi.footballteam.infrastructure.repository.FootballTeamNameRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
@@ -38,6 +48,9 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private FootballTeamRepository footballTeamRepository;
 
+    @Mock
+    private FootballTeamNameRepository footballTeamNameRepository;
+
     private final UpdateFootballTeamRequestToFootballTeamEntityMapper updateFootballTeamRequestToFootballTeamEntityMapper =
             UpdateFootballTeamRequestToFootballTeamEntityMapper.initialize();
 
@@ -48,7 +61,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
     void givenUniqueTeamName_whenCreateTeam_thenReturnTeam() {
 
         // Given
-        String teamName = "Unique FC";
+        String teamName = "Unique  FC ";
         CreateFootballTeamRequest request = CreateFootballTeamRequest.builder()
                 .teamName(teamName)
                 .build();
@@ -60,9 +73,9 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         FootballTeam expected = footballTeamEntityToFootballTeamMapper.map(savedEntity);
 
         // When
-        when(footballTeamRepository.existsByTeamName(teamName))
+        when(footballTeamRepository.existsByNormalizedTeamName("unique fc"))
                 .thenReturn(false);
-        when(footballTeamRepository.save(any(FootballTeamEntity.class)))
+        when(footballTeamRepository.saveAndFlush(any(FootballTeamEntity.class)))
                 .thenReturn(savedEntity);
 
         // Then
@@ -72,8 +85,8 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getTeamName(),team.getTeamName());
 
         // Verify
-        verify(footballTeamRepository).existsByTeamName(teamName);
-        verify(footballTeamRepository).save(any(FootballTeamEntity.class));
+        verify(footballTeamRepository).existsByNormalizedTeamName("unique fc");
+        verify(footballTeamRepository).saveAndFlush(any(FootballTeamEntity.class));
         
     }
 
@@ -87,7 +100,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(footballTeamRepository.existsByTeamName(teamName))
+        when(footballTeamRepository.existsByNormalizedTeamName("existing fc"))
                 .thenReturn(true);
 
         // Then
@@ -99,11 +112,137 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().contains(teamName));
 
         // Verify
-        verify(footballTeamRepository).existsByTeamName(teamName);
+        verify(footballTeamRepository).existsByNormalizedTeamName("existing fc");
+        verify(footballTeamRepository, never()).saveAndFlush(any(FootballTeamEntity.class));
+
+    }
+
+    @Test
+    void givenNameTakenConcurrently_whenCreateTeam_thenThrowsException() {
+
+        // Given
+        String teamName = "Racing FC";
+        CreateFootballTeamRequest request = CreateFootballTeamRequest.builder()
+                .teamName(teamName)
+                .build();
+
+        DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException(
+                "duplicate key",
+                new ConstraintViolationException(
+                        "duplicate key", null, FootballTeamEntity.NORMALIZED_TEAM_NAME_INDEX.toLowerCase()
+                )
+        );
+
+        // When
+        when(footballTeamRepository.existsByNormalizedTeamName("racing fc"))
+                .thenReturn(false);
+        when(footballTeamRepository.saveAndFlush(any(FootballTeamEntity.class)))
+                .thenThrow(uniqueViolation);
+
+        // Then
+        FootballTeamAlreadyExistException exception = assertThrows(
+                FootballTeamAlreadyExistException.class,
+                () -> footballTeamService.createTeam(request)
+        );
+
+        assertTrue(exception.getMessage().contains(teamName));
+
+        // Verify
+        verify(footballTeamRepository).saveAndFlush(any(FootballTeamEntity.class));
+
+    }
+
+    @Test
+    void givenNewTakenRepeatedAndRacingNames_whenCreateTeamsInBulk_thenCreateFreeNamesAndReportConflicts() {
+
+        // Given
+        BulkCreateFootballTeamRequest request = BulkCreateFootballTeamRequest.builder()
+                .teams(List.of(
+                        createRequest("Alpha FC"),
+                        createRequest("Existing FC"),
+                        createRequest(" alpha  fc"),
+                        createRequest("Racing FC"),
+                        createRequest("Beta FC")
+                ))
+                .build();
+
+        // When
+        when(footballTeamRepository.findNormalizedTeamNamesIn(any()))
+                .thenReturn(Set.of("existing fc"));
+        when(footballTeamNameRepository.insertIfNameFree(anyList()))
+                .thenReturn(new boolean[]{true, false, true});
+
+        // Then
+        List<FootballTeamCreationResult> results = footballTeamService.createTeamsInBulk(request);
+
+        assertEquals(5, results.size());
+        for (int index = 0; index < results.size(); index++) {
+            assertEquals(index, results.get(index).index(), "Results should follow the request order");
+        }
+
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Alpha FC", results.get(0).team().getTeamName());
+        assertNotNull(results.get(0).team().getId());
+
+        assertFalse(results.get(1).isCreated());
+        assertTrue(results.get(1).error().contains("Existing FC"));
+
+        assertFalse(results.get(2).isCreated());
+        assertEquals("Team name is the same as the team at index 0", results.get(2).error());
+
+        assertFalse(results.get(3).isCreated(), "A name taken after the check should be reported as a conflict");
+        assertTrue(results.get(3).error().contains("Racing FC"));
+
+        assertTrue(results.get(4).isCreated());
+
+        // Verify
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(footballTeamRepository).findNormalizedTeamNamesIn(namesCaptor.capture());
+        assertEquals(
+                Set.of("alpha fc", "existing fc", "racing fc", "beta fc"),
+                Set.copyOf(namesCaptor.getValue())
+        );
+
+        ArgumentCaptor<List<FootballTeamEntity>> insertedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(footballTeamNameRepository).insertIfNameFree(insertedCaptor.capture());
+        List<FootballTeamEntity> inserted = insertedCaptor.getValue();
+        assertEquals(
+                List.of("alpha fc", "racing fc", "beta fc"),
+                inserted.stream().map(FootballTeamEntity::getNormalizedTeamName).toList()
+        );
+        inserted.forEach(entity -> {
+            assertNotNull(entity.getId(), "Ids should be assigned before the batch insert");
+            assertNotNull(entity.getCreatedAt(), "Creation time should be set before the batch insert");
+        });
+
+        verify(footballTeamRepository, never()).existsByNormalizedTeamName(any());
         verify(footballTeamRepository, never()).save(any(FootballTeamEntity.class));
 
     }
 
+    @Test
+    void givenOnlyTakenNames_whenCreateTeamsInBulk_thenNothingIsInserted() {
+
+        // Given
+        BulkCreateFootballTeamRequest request = BulkCreateFootballTeamRequest.builder()
+                .teams(List.of(createRequest("Existing FC")))
+                .build();
+
+        // When
+        when(footballTeamRepository.findNormalizedTeamNamesIn(any()))
+                .thenReturn(Set.of("existing fc"));
+
+        // Then
+        List<FootballTeamCreationResult> results = footballTeamService.createTeamsInBulk(request);
+
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isCreated());
+
+        // Verify
+        verify(footballTeamNameRepository, never()).insertIfNameFree(anyList());
+
+    }
+
     @Test
     void givenExistingTeam_whenUpdateTeam_thenReturnUpdatedTeam() {
 
@@ -130,9 +269,9 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         FootballTeam expected = footballTeamEntityToFootballTeamMapper.map(updatedEntity);
 
         // When
-        when(footballTeamRepository.findById(teamId))
+        when(footballTeamRepository.findWithPlayersById(teamId))
                 .thenReturn(Optional.of(existingEntity));
-        when(footballTeamRepository.save(any(FootballTeamEntity.class)))
+        when(footballTeamRepository.saveAndFlush(any(FootballTeamEntity.class)))
                 .thenReturn(footballTeamEntityToBeUpdated);
 
         // Then
@@ -142,8 +281,52 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getTeamName(), updatedTeam.getTeamName());
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
-        verify(footballTeamRepository).save(existingEntity);
+        verify(footballTeamRepository).findWithPlayersById(teamId);
+        verify(footballTeamRepository).saveAndFlush(existingEntity);
+
+    }
+
+    @Test
+    void givenNameTakenConcurrently_whenUpdateTeam_thenThrowsException() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        String newTeamName = "Racing FC";
+        UpdateFootballTeamRequest request = UpdateFootballTeamRequest.builder()
+                .teamName(newTeamName)
+                .build();
+
+        FootballTeamEntity existingEntity = FootballTeamEntity.builder()
+                .id(teamId)
+                .teamName("Old FC")
+                .normalizedTeamName("old fc")
+                .build();
+
+        DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException(
+                "duplicate key",
+                new ConstraintViolationException(
+                        "duplicate key", null, FootballTeamEntity.NORMALIZED_TEAM_NAME_INDEX.toLowerCase()
+                )
+        );
+
+        // When
+        when(footballTeamRepository.findWithPlayersById(teamId))
+                .thenReturn(Optional.of(existingEntity));
+        when(footballTeamRepository.existsByNormalizedTeamName("racing fc"))
+                .thenReturn(false);
+        when(footballTeamRepository.saveAndFlush(any(FootballTeamEntity.class)))
+                .thenThrow(uniqueViolation);
+
+        // Then
+        FootballTeamAlreadyExistException exception = assertThrows(
+                FootballTeamAlreadyExistException.class,
+                () -> footballTeamService.updateTeam(teamId, request)
+        );
+
+        assertTrue(exception.getMessage().contains(newTeamName));
+
+        // Verify
+        verify(footballTeamRepository).saveAndFlush(existingEntity);
 
     }
 
@@ -156,7 +339,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(footballTeamRepository.findById(teamId))
+        when(footballTeamRepository.findWithPlayersById(teamId))
                 .thenReturn(Optional.empty());
 
         // Then
@@ -168,8 +351,8 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().contains(teamId));
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
-        verify(footballTeamRepository, never()).save(any(FootballTeamEntity.class));
+        verify(footballTeamRepository).findWithPlayersById(teamId);
+        verify(footballTeamRepository, never()).saveAndFlush(any(FootballTeamEntity.class));
 
     }
 
@@ -186,7 +369,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         FootballTeam expected = footballTeamEntityToFootballTeamMapper.map(entity);
 
         // When
-        when(footballTeamRepository.findById(teamId))
+        when(footballTeamRepository.findWithPlayersById(teamId))
                 .thenReturn(Optional.of(entity));
 
         // Then
@@ -196,7 +379,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertEquals(expected.getTeamName(),team.getTeamName());
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(footballTeamRepository).findWithPlayersById(teamId);
 
     }
 
@@ -207,7 +390,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         String teamId = UUID.randomUUID().toString();
 
         // When
-        when(footballTeamRepository.findById(teamId))
+        when(footballTeamRepository.findWithPlayersById(teamId))
                 .thenReturn(Optional.empty());
 
         // Then
@@ -219,7 +402,7 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().contains(teamId));
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(footballTeamRepository).findWithPlayersById(teamId);
 
     }
 
@@ -283,30 +466,51 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
                 .pagination(customPaging)
                 .build();
 
-        // Given: a list with one team entity and a corresponding Page instance
-        FootballTeamEntity entity = FootballTeamEntity.builder()
+        // Given: two team ids on the page and the teams loaded with their players in a different order
+        String firstTeamId = UUID.randomUUID().toString();
+        String secondTeamId = UUID.randomUUID().toString();
+
+        PlayerEntity player = PlayerEntity.builder()
                 .id(UUID.randomUUID().toString())
+                .name("Player One")
+                .build();
+
+        FootballTeamEntity firstTeam = FootballTeamEntity.builder()
+                .id(firstTeamId)
                 .teamName("Team FC")
+                .players(List.of(player))
+                .build();
+
+        FootballTeamEntity secondTeam = FootballTeamEntity.builder()
+                .id(secondTeamId)
+                .teamName("Team United")
+                .players(new ArrayList<>())
                 .build();
 
-        List<FootballTeamEntity> entities = new ArrayList<>();
-        entities.add(entity);
+        List<String> teamIds = List.of(firstTeamId, secondTeamId);
         Pageable pageable = PageRequest.of(customPaging.getPageNumber(), customPaging.getPageSize());
-        Page<FootballTeamEntity> page = new PageImpl<>(entities, pageable, entities.size());
+        Page<String> page = new PageImpl<>(teamIds, pageable, 12);
 
         // When
-        when(footballTeamRepository.findAll(any(Pageable.class)))
+        when(footballTeamRepository.findAllIds(any(Pageable.class)))
                 .thenReturn(page);
+        when(footballTeamRepository.findAllWithPlayersByIdIn(teamIds))
+                .thenReturn(List.of(secondTeam, firstTeam));
 
         // Then
         CustomPage<FootballTeam> resultPage = footballTeamService.getAllTeamsWithPageable(pagingRequest);
 
-        // Then: the returned page is not null, contains content, and the repository was queried
+        // Then: the teams keep the order of the id page and carry their players
         assertNotNull(resultPage, "Returned page should not be null");
-        assertFalse(resultPage.getContent().isEmpty(), "Content should not be empty");
+        assertEquals(List.of(firstTeamId, secondTeamId),
+                resultPage.getContent().stream().map(FootballTeam::getId).toList());
+        assertEquals("Player One", resultPage.getContent().get(0).getPlayers().get(0).getName());
+        assertEquals(12L, resultPage.getTotalElementCount());
 
         // Verify
-        verify(footballTeamRepository).findAll(any(Pageable.class));
+        verify(footballTeamRepository).findAllIds(any(Pageable.class));
+        verify(footballTeamRepository).findAllWithPlayersByIdIn(teamIds);
+        verify(footballTeamRepository, never()).findAll(any(Pageable.class));
 
     }
 
@@ -323,12 +527,12 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
                 .pagination(customPaging)
                 .build();
 
-        List<FootballTeamEntity> emptyList = new ArrayList<>();
+        List<String> emptyList = new ArrayList<>();
         Pageable pageable = PageRequest.of(customPaging.getPageNumber(), customPaging.getPageSize());
-        Page<FootballTeamEntity> emptyPage = new PageImpl<>(emptyList, pageable, 0);
+        Page<String> emptyPage = new PageImpl<>(emptyList, pageable, 0);
 
         // When
-        when(footballTeamRepository.findAll(any(Pageable.class)))
+        when(footballTeamRepository.findAllIds(any(Pageable.class)))
                 .thenReturn(emptyPage);
 
         // Then
@@ -340,8 +544,15 @@ class FootballTeamServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().toLowerCase().contains("football team"));
 
         // Verify
-        verify(footballTeamRepository).findAll(any(Pageable.class));
+        verify(footballTeamRepository).findAllIds(any(Pageable.class));
+        verify(footballTeamRepository, never()).findAllWithPlayersByIdIn(anyCollection());
 
     }
 
+    private static CreateFootballTeamRequest createRequest(String teamName) {
+        return CreateFootballTeamRequest.builder()
+                .teamName(teamName)
+                .build();
+    }
+
 }
\ No newline at end of file
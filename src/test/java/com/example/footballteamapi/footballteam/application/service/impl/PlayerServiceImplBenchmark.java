@@ -0,0 +1,141 @@
+package com.example.footballteamapi.footballteam.application.service.impl;
+
+import com.example.footballteamapi.FootballTeamApiApplication;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.AddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.BulkAddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.service.FootballTeamService;
+import com.example.footballteamapi.footballteam.application.service.PlayerService;
+import com.example.footballteamapi.footballteam.domain.enums.Position;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Players per second when onboarding whole rosters, against the application running on PostgreSQL in a
+ * Testcontainer. Every invocation gets {@value #TEAM_COUNT} fresh teams and fills each of them with 18 players
+ * (2 goalkeepers, 6 foreign players), either one {@link PlayerService#addPlayerToTeam} call per player, as the
+ * single-item endpoint does, or one {@link PlayerService#addPlayersInBulk} call for all of them. Both go through
+ * the service beans, so the HTTP layer, which costs the same per request, is left out.
+ * Needs Docker. Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=PlayerServiceImplBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PlayerServiceImplBenchmark {
+
+    private static final int TEAM_COUNT = 20;
+
+    private static final int PLAYERS_PER_TEAM = 18;
+
+    private static final int PLAYER_COUNT = TEAM_COUNT * PLAYERS_PER_TEAM;
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private FootballTeamService footballTeamService;
+
+    private PlayerService playerService;
+
+    private List<BulkAddPlayerRequest.Item> roster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withDatabaseName("footballteamdatabase");
+        postgresContainer.start();
+
+        applicationContext = new SpringApplicationBuilder(FootballTeamApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgresContainer.getJdbcUrl(),
+                        "spring.datasource.username=" + postgresContainer.getUsername(),
+                        "spring.datasource.password=" + postgresContainer.getPassword()
+                )
+                .run();
+
+        footballTeamService = applicationContext.getBean(FootballTeamService.class);
+        playerService = applicationContext.getBean(PlayerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+        postgresContainer.stop();
+    }
+
+    @Setup(Level.Invocation)
+    public void createTeams() {
+
+        roster = new ArrayList<>(PLAYER_COUNT);
+
+        for (int teamIndex = 0; teamIndex < TEAM_COUNT; teamIndex++) {
+            final String teamId = footballTeamService.createTeam(
+                    CreateFootballTeamRequest.builder()
+                            .teamName("Team " + UUID.randomUUID())
+                            .build()
+            ).getId();
+
+            for (int playerIndex = 0; playerIndex < PLAYERS_PER_TEAM; playerIndex++) {
+                roster.add(BulkAddPlayerRequest.Item.builder()
+                        .teamId(teamId)
+                        .player(AddPlayerRequest.builder()
+                                .name("Player " + playerIndex)
+                                .foreignPlayer(playerIndex >= 2 && playerIndex < 8)
+                                .position(playerIndex < 2 ? Position.GOALKEEPER : Position.MIDFIELDER)
+                                .build())
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYER_COUNT)
+    public int singleItem() {
+        for (final BulkAddPlayerRequest.Item item : roster) {
+            playerService.addPlayerToTeam(item.teamId(), item.player());
+        }
+        return roster.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYER_COUNT)
+    public int bulk() {
+
+        final List<PlayerAdditionResult> results = playerService.addPlayersInBulk(
+                BulkAddPlayerRequest.builder()
+                        .players(roster)
+                        .build()
+        );
+
+        if (!results.stream().allMatch(PlayerAdditionResult::isAdded)) {
+            throw new IllegalStateException("Every player of a fresh team should be added");
+        }
+        return results.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PlayerServiceImplBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
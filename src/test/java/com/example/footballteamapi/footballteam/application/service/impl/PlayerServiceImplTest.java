@@ -5,6 +5,7 @@ import com.example.footballteamapi.common.application.dto.request.CustomPagingRe
 import com.example.footballteamapi.common.domain.model.CustomPage;
 import com.example.footballteamapi.common.domain.model.CustomPaging;
 import com.example.footballteamapi.footballteam.application.dto.request.player.AddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.BulkAddPlayerRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.player.UpdatePlayerRequest;
 import com.example.footballteamapi.footballteam.application.port.out.FootballTeamRepository;
 import com.example.footballteamapi.footballteam.application.port.out.PlayerRepository;
@@ -13,29 +14,52 @@ import com.example.footballteamapi.footballteam.domain.exception.footballteam.Fo
 import com.example.footballteamapi.footballteam.domain.exception.player.MaxPlayersExceededException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerTeamMismatchException;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
 import com.example.footballteamapi.footballteam.domain.model.Player;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import com.example.footballteamapi.footballteam.domain.model.RosterCounts;
+import com.example.footballteamapi.footballteam.infrastructure.concurrency.RosterMutationRetry;
+import com.example.footballteamapi.footballteam.infrastructure.config.RosterRetryProperties;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.AddPlayerRequestToPlayerEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.PlayerEntityToPlayerMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.player.UpdatePlayerRequestToPlayerEntityMapper;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.FootballTeamEntity;
 import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import com.example.footballteamapi.footballteam.infrastructure.repository.PlayerRosterRepository;
+import com.example.footballteamapi.footballteam.infrastructure.repository.PlayerRosterRepository.RosterReconciliation;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class PlayerServiceImplTest extends AbstractBaseServiceTest {
@@ -49,6 +73,18 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerRosterRepository playerRosterRepository;
+
+    private final RosterRetryProperties rosterRetryProperties = rosterRetryProperties();
+
+    @Spy
+    private RosterMutationRetry rosterMutationRetry =
+            new RosterMutationRetry(mock(PlatformTransactionManager.class), rosterRetryProperties);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     private final AddPlayerRequestToPlayerEntityMapper addPlayerRequestToPlayerEntityMapper =
             AddPlayerRequestToPlayerEntityMapper.initialize();
 
@@ -70,44 +106,26 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .position(Position.MIDFIELDER)
                 .build();
 
-        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
-                .id(teamId)
-                .players(new ArrayList<>())
-                .build();
-
-        PlayerEntity savedPlayerEntity = PlayerEntity.builder()
-                .id(UUID.randomUUID().toString())
-                .name(playerName)
-                .foreignPlayer(false)
-                .position(Position.MIDFIELDER)
-                .footballTeam(teamEntity)
-                .build();
-
-        Player expected = playerEntityToPlayerMapper.map(savedPlayerEntity);
-
         // When
-        when(footballTeamRepository.findById(teamId))
-                .thenReturn(Optional.of(teamEntity));
-        when(playerRepository.save(any(PlayerEntity.class)))
-                .thenReturn(savedPlayerEntity);
-        when(footballTeamRepository.save(teamEntity))
-                .thenReturn(teamEntity);
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), eq(18), eq(6), eq(2)))
+                .thenReturn(true);
 
         // Then
         Player result = playerService.addPlayerToTeam(teamId, request);
 
         assertNotNull(result, "Returned player should not be null");
-        assertEquals(expected.getName(), result.getName());
+        assertNotNull(result.getId(), "Player id should be assigned before the insert");
         assertEquals(playerName, result.getName(), "Player name should match");
         assertFalse(result.isForeignPlayer(), "Player should not be foreign");
         assertEquals(Position.MIDFIELDER, result.getPosition(), "Player position should be MIDFIELDER");
-        assertTrue(teamEntity.getPlayers().contains(savedPlayerEntity), "Team should contain the saved player");
-        assertEquals(1, teamEntity.getPlayers().size(), "Team should have exactly 1 player");
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
-        verify(playerRepository).save(any(PlayerEntity.class));
-        verify(footballTeamRepository).save(teamEntity);
+        ArgumentCaptor<PlayerEntity> playerEntityCaptor = ArgumentCaptor.forClass(PlayerEntity.class);
+        verify(playerRosterRepository).insertIfRosterAllows(eq(teamId), playerEntityCaptor.capture(), eq(18), eq(6), eq(2));
+        assertEquals(result.getId(), playerEntityCaptor.getValue().getId());
+        assertNotNull(playerEntityCaptor.getValue().getCreatedAt(), "Creation time should be set before the insert");
+        verify(playerRosterRepository, never()).findRosterCounts(anyString());
+        verifyNoInteractions(footballTeamRepository, playerRepository);
 
     }
 
@@ -123,7 +141,9 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(footballTeamRepository.findById(teamId))
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+        when(playerRosterRepository.findRosterCounts(teamId))
                 .thenReturn(Optional.empty());
 
         // Then
@@ -135,7 +155,7 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().contains(teamId));
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(playerRosterRepository).findRosterCounts(teamId);
 
     }
 
@@ -150,29 +170,19 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .position(Position.MIDFIELDER)
                 .build();
 
-        // Create a team with exactly 18 players
-        List<PlayerEntity> players = new ArrayList<>();
-        for (int i = 0; i < 18; i++) {
-            players.add(PlayerEntity.builder().id("p" + i).build());
-        }
-
-        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
-                .id(teamId)
-                .players(players)
-                .build();
-
-        // When
-        when(footballTeamRepository.findById(teamId))
-                .thenReturn(Optional.of(teamEntity));
+        // When: the team already has exactly 18 players
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+        when(playerRosterRepository.findRosterCounts(teamId))
+                .thenReturn(Optional.of(new RosterCounts(18, 0, 0)));
 
         //Then
         assertThrows(MaxPlayersExceededException.class,
                 () -> playerService.addPlayerToTeam(teamId, request));
-        assertEquals(18, teamEntity.getPlayers().size(), "Team should still have 18 players");
-
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(playerRosterRepository).insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt());
+        verify(playerRosterRepository).findRosterCounts(teamId);
 
     }
 
@@ -187,24 +197,11 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .position(Position.FORWARD)
                 .build();
 
-        // Create a team with 6 foreign players already
-        List<PlayerEntity> players = new ArrayList<>();
-        for (int i = 0; i < 6; i++) {
-            players.add(PlayerEntity.builder()
-                    .id("fp" + i)
-                    .foreignPlayer(true)
-                    .position(Position.FORWARD)
-                    .build());
-        }
-
-        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
-                .id(teamId)
-                .players(players)
-                .build();
-
-        // When
-        when(footballTeamRepository.findById(teamId))
-                .thenReturn(Optional.of(teamEntity));
+        // When: the team already has 6 foreign players
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+        when(playerRosterRepository.findRosterCounts(teamId))
+                .thenReturn(Optional.of(new RosterCounts(6, 6, 0)));
 
         // Then
         IllegalStateException exception = assertThrows(
@@ -215,7 +212,7 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
         assertTrue(exception.getMessage().contains("A team can have at most 6 foreign players"));
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(playerRosterRepository).findRosterCounts(teamId);
 
     }
 
@@ -230,40 +227,187 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .position(Position.GOALKEEPER)
                 .build();
 
-        // Create a team with 2 goalkeepers already
-        List<PlayerEntity> players = new ArrayList<>();
+        // When: the team already has 2 goalkeepers
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+        when(playerRosterRepository.findRosterCounts(teamId))
+                .thenReturn(Optional.of(new RosterCounts(2, 0, 2)));
 
-        players.add(PlayerEntity.builder()
-                .id("gk1")
+        // Then
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> playerService.addPlayerToTeam(teamId, request)
+        );
+
+        assertTrue(exception.getMessage().contains("A team can have at most 2 goalkeepers"));
+
+        // Verify
+        verify(playerRosterRepository).findRosterCounts(teamId);
+
+    }
+
+    @Test
+    void givenSlotFreedAfterRejectedInsert_whenAddPlayerToTeam_thenRetriesInsert() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        AddPlayerRequest request = AddPlayerRequest.builder()
+                .name("Player Name")
                 .foreignPlayer(false)
-                .position(Position.GOALKEEPER)
-                .build());
+                .position(Position.DEFENDER)
+                .build();
+
+        // When: the first insert is rejected but a player has left the team by the time the counters are read
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false, true);
+        when(playerRosterRepository.findRosterCounts(teamId))
+                .thenReturn(Optional.of(new RosterCounts(17, 0, 0)));
+
+        // Then
+        Player result = playerService.addPlayerToTeam(teamId, request);
+
+        assertEquals("Player Name", result.getName());
+
+        // Verify
+        verify(playerRosterRepository, times(2))
+                .insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt());
+        verify(playerRosterRepository).findRosterCounts(teamId);
 
-        players.add(PlayerEntity.builder()
-                .id("gk2")
+    }
+
+    @Test
+    void givenSlotKeptBeingTakenAfterRejectedInsert_whenAddPlayerToTeam_thenThrowsRosterConflictException() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        AddPlayerRequest request = AddPlayerRequest.builder()
+                .name("Player Name")
                 .foreignPlayer(false)
-                .position(Position.GOALKEEPER)
-                .build());
+                .position(Position.DEFENDER)
+                .build();
 
-        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
-                .id(teamId)
-                .players(players)
+        // When: every insert is rejected although the counters read afterwards show a free slot
+        when(playerRosterRepository.insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+        when(playerRosterRepository.findRosterCounts(teamId))
+                .thenReturn(Optional.of(new RosterCounts(17, 0, 0)));
+
+        // Then
+        assertThrows(RosterConflictException.class, () -> playerService.addPlayerToTeam(teamId, request));
+
+        // Verify
+        verify(playerRosterRepository, times(rosterRetryProperties.getMaxAttempts()))
+                .insertIfRosterAllows(eq(teamId), any(PlayerEntity.class), anyInt(), anyInt(), anyInt());
+        verify(playerRepository, never()).save(any(PlayerEntity.class));
+
+    }
+
+    @Test
+    void givenPlayersForSeveralTeams_whenAddPlayersInBulk_thenAddWithinLimitsAndRejectTheRest() {
+
+        // Given
+        String fullTeamId = UUID.randomUUID().toString();
+        String openTeamId = UUID.randomUUID().toString();
+        String missingTeamId = UUID.randomUUID().toString();
+
+        BulkAddPlayerRequest request = BulkAddPlayerRequest.builder()
+                .players(List.of(
+                        bulkItem(openTeamId, "Keeper One", false, Position.GOALKEEPER),
+                        bulkItem(fullTeamId, "Striker", false, Position.FORWARD),
+                        bulkItem(openTeamId, "Keeper Two", true, Position.GOALKEEPER),
+                        bulkItem(missingTeamId, "Winger", false, Position.FORWARD),
+                        bulkItem(openTeamId, "Keeper Three", false, Position.GOALKEEPER),
+                        bulkItem(openTeamId, "Foreign Defender", true, Position.DEFENDER)
+                ))
                 .build();
 
+        Map<String, RosterCounts> lockedCounts = new HashMap<>();
+        lockedCounts.put(fullTeamId, new RosterCounts(18, 0, 0));
+        lockedCounts.put(openTeamId, new RosterCounts(10, 4, 1));
+
         // When
-        when(footballTeamRepository.findById(teamId))
-                .thenReturn(Optional.of(teamEntity));
+        when(playerRosterRepository.lockRosterCounts(any()))
+                .thenReturn(lockedCounts);
+        when(playerRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<PlayerEntity> playerEntities = invocation.getArgument(0);
+                    playerEntities.forEach(playerEntity -> playerEntity.setId(UUID.randomUUID().toString()));
+                    return playerEntities;
+                });
 
         // Then
-        IllegalStateException exception = assertThrows(
-                IllegalStateException.class,
-                () -> playerService.addPlayerToTeam(teamId, request)
+        List<PlayerAdditionResult> results = playerService.addPlayersInBulk(request);
+
+        assertEquals(6, results.size());
+        for (int index = 0; index < results.size(); index++) {
+            assertEquals(index, results.get(index).index(), "Results should follow the request order");
+        }
+
+        assertTrue(results.get(0).isAdded());
+        assertEquals("Keeper One", results.get(0).player().getName());
+        assertNotNull(results.get(0).player().getId());
+
+        assertFalse(results.get(1).isAdded());
+        assertEquals(new MaxPlayersExceededException().getMessage(), results.get(1).error());
+
+        assertFalse(results.get(2).isAdded(), "The first keeper should have taken the last goalkeeper slot");
+        assertEquals("A team can have at most 2 goalkeepers", results.get(2).error());
+
+        assertFalse(results.get(3).isAdded());
+        assertEquals("Team with id " + missingTeamId + " does not exist", results.get(3).error());
+
+        assertFalse(results.get(4).isAdded());
+
+        assertTrue(results.get(5).isAdded(), "A rejected foreign keeper should not take a foreign slot");
+        assertEquals("Foreign Defender", results.get(5).player().getName());
+
+        // Verify
+        ArgumentCaptor<Collection<String>> lockedTeamIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(playerRosterRepository).lockRosterCounts(lockedTeamIdsCaptor.capture());
+        assertEquals(
+                List.of(fullTeamId, missingTeamId, openTeamId).stream().sorted().toList(),
+                List.copyOf(lockedTeamIdsCaptor.getValue()),
+                "Each team should be locked once, in id order"
         );
 
-        assertTrue(exception.getMessage().contains("A team can have at most 2 goalkeepers"));
+        ArgumentCaptor<List<PlayerEntity>> savedEntitiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(playerRepository).saveAll(savedEntitiesCaptor.capture());
+        assertEquals(
+                List.of("Keeper One", "Foreign Defender"),
+                savedEntitiesCaptor.getValue().stream().map(PlayerEntity::getName).toList()
+        );
+
+        verify(playerRosterRepository).addToRosterCounts(Map.of(openTeamId, new RosterCounts(2, 1, 1)));
+        verify(playerRosterRepository, never()).insertIfRosterAllows(anyString(), any(), anyInt(), anyInt(), anyInt());
+
+    }
+
+    @Test
+    void givenOnlyRejectedPlayers_whenAddPlayersInBulk_thenNothingIsSaved() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        BulkAddPlayerRequest request = BulkAddPlayerRequest.builder()
+                .players(List.of(bulkItem(teamId, "Striker", true, Position.FORWARD)))
+                .build();
+
+        Map<String, RosterCounts> lockedCounts = new HashMap<>();
+        lockedCounts.put(teamId, new RosterCounts(10, 6, 0));
+
+        // When
+        when(playerRosterRepository.lockRosterCounts(any()))
+                .thenReturn(lockedCounts);
+
+        // Then
+        List<PlayerAdditionResult> results = playerService.addPlayersInBulk(request);
+
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isAdded());
+        assertEquals("A team can have at most 6 foreign players", results.get(0).error());
 
         // Verify
-        verify(footballTeamRepository).findById(teamId);
+        verify(playerRepository, never()).saveAll(anyList());
+        verify(playerRosterRepository, never()).addToRosterCounts(any());
 
     }
 
@@ -293,6 +437,9 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
         when(playerRepository.findById(playerId))
                 .thenReturn(Optional.of(playerEntity));
 
+        when(playerRosterRepository.adjustRosterCounts(anyString(), anyLong(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(true);
+
         // Then
         playerService.deletePlayer(teamId, playerId);
 
@@ -303,6 +450,7 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
         verify(footballTeamRepository).findById(teamId);
         verify(playerRepository).findById(playerId);
         verify(playerRepository).delete(playerEntity);
+        verify(playerRosterRepository).adjustRosterCounts(teamId, 0L, -1, 0, 0);
 
     }
 
@@ -441,6 +589,8 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
                 .thenReturn(Optional.of(playerEntity));
         when(playerRepository.save(playerEntity))
                 .thenReturn(playerEntity);
+        when(playerRosterRepository.adjustRosterCounts(anyString(), anyLong(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(true);
 
         // Then
         Player result = playerService.updatePlayer(teamId, playerId, updateRequest);
@@ -455,6 +605,150 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
         verify(footballTeamRepository).findById(teamId);
         verify(playerRepository).findById(playerId);
         verify(playerRepository).save(playerEntity);
+        verify(playerRosterRepository).adjustRosterCounts(teamId, 0L, 0, 0, 0);
+
+    }
+
+    @Test
+    void givenPlayerBecomingForeignGoalkeeper_whenUpdatePlayer_thenAdjustRosterCounts() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        String playerId = UUID.randomUUID().toString();
+
+        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
+                .id(teamId)
+                .players(new ArrayList<>())
+                .build();
+
+        PlayerEntity playerEntity = PlayerEntity.builder()
+                .id(playerId)
+                .name("Player Name")
+                .foreignPlayer(false)
+                .position(Position.DEFENDER)
+                .footballTeam(teamEntity)
+                .build();
+
+        UpdatePlayerRequest updateRequest = UpdatePlayerRequest.builder()
+                .name("Player Name")
+                .foreignPlayer(true)
+                .position(Position.GOALKEEPER)
+                .build();
+
+        // When
+        when(footballTeamRepository.findById(teamId))
+                .thenReturn(Optional.of(teamEntity));
+        when(playerRepository.findById(playerId))
+                .thenReturn(Optional.of(playerEntity));
+        when(playerRepository.save(playerEntity))
+                .thenReturn(playerEntity);
+        when(playerRosterRepository.adjustRosterCounts(anyString(), anyLong(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(true);
+
+        // Then
+        Player result = playerService.updatePlayer(teamId, playerId, updateRequest);
+
+        assertTrue(result.isForeignPlayer());
+        assertEquals(Position.GOALKEEPER, result.getPosition());
+
+        // Verify
+        verify(playerRosterRepository).adjustRosterCounts(teamId, 0L, 0, 1, 1);
+
+    }
+
+    @Test
+    void givenConcurrentRosterChange_whenUpdatePlayer_thenRetryWithFreshRead() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        String playerId = UUID.randomUUID().toString();
+
+        FootballTeamEntity staleTeamEntity = FootballTeamEntity.builder()
+                .id(teamId)
+                .rosterVersion(3L)
+                .players(new ArrayList<>())
+                .build();
+
+        FootballTeamEntity freshTeamEntity = FootballTeamEntity.builder()
+                .id(teamId)
+                .rosterVersion(4L)
+                .players(new ArrayList<>())
+                .build();
+
+        PlayerEntity playerEntity = PlayerEntity.builder()
+                .id(playerId)
+                .name("Player Name")
+                .position(Position.DEFENDER)
+                .footballTeam(freshTeamEntity)
+                .build();
+
+        UpdatePlayerRequest updateRequest = UpdatePlayerRequest.builder()
+                .name("Player Name Updated")
+                .foreignPlayer(false)
+                .position(Position.DEFENDER)
+                .build();
+
+        // When: the roster moves on between the first read and the counter update
+        when(footballTeamRepository.findById(teamId))
+                .thenReturn(Optional.of(staleTeamEntity), Optional.of(freshTeamEntity));
+        when(playerRepository.findById(playerId))
+                .thenAnswer(invocation -> Optional.of(playerEntity));
+        when(playerRepository.save(playerEntity))
+                .thenReturn(playerEntity);
+        when(playerRosterRepository.adjustRosterCounts(teamId, 3L, 0, 0, 0))
+                .thenReturn(false);
+        when(playerRosterRepository.adjustRosterCounts(teamId, 4L, 0, 0, 0))
+                .thenReturn(true);
+
+        // Then
+        Player result = playerService.updatePlayer(teamId, playerId, updateRequest);
+
+        assertEquals("Player Name Updated", result.getName());
+
+        // Verify
+        verify(footballTeamRepository, times(2)).findById(teamId);
+        verify(playerRosterRepository).adjustRosterCounts(teamId, 3L, 0, 0, 0);
+        verify(playerRosterRepository).adjustRosterCounts(teamId, 4L, 0, 0, 0);
+        verify(playerRepository, times(1)).save(playerEntity);
+
+    }
+
+    @Test
+    void givenRosterAlwaysChanging_whenDeletePlayer_thenThrowsRosterConflictException() {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        String playerId = UUID.randomUUID().toString();
+
+        FootballTeamEntity teamEntity = FootballTeamEntity.builder()
+                .id(teamId)
+                .players(new ArrayList<>())
+                .build();
+
+        PlayerEntity playerEntity = PlayerEntity.builder()
+                .id(playerId)
+                .footballTeam(teamEntity)
+                .build();
+
+        // When
+        when(footballTeamRepository.findById(teamId))
+                .thenReturn(Optional.of(teamEntity));
+        when(playerRepository.findById(playerId))
+                .thenReturn(Optional.of(playerEntity));
+        when(playerRosterRepository.adjustRosterCounts(anyString(), anyLong(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(false);
+
+        // Then
+        RosterConflictException exception = assertThrows(
+                RosterConflictException.class,
+                () -> playerService.deletePlayer(teamId, playerId)
+        );
+
+        assertTrue(exception.getMessage().contains(teamId));
+
+        // Verify
+        verify(playerRosterRepository, times(rosterRetryProperties.getMaxAttempts()))
+                .adjustRosterCounts(teamId, 0L, -1, 0, 0);
 
     }
 
@@ -691,4 +985,58 @@ class PlayerServiceImplTest extends AbstractBaseServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenReconciliationLockAcquired_whenReconcileRosterCounts_thenRecountRostersChunkByChunk() {
+
+        // When
+        when(playerRosterRepository.tryLockReconciliation()).thenReturn(true);
+        when(playerRosterRepository.reconcileRosterCounts(eq(""), anyInt()))
+                .thenReturn(new RosterReconciliation(2, "team-id-500"));
+        when(playerRosterRepository.reconcileRosterCounts(eq("team-id-500"), anyInt()))
+                .thenReturn(new RosterReconciliation(1, null));
+
+        // Then
+        playerService.reconcileRosterCounts();
+
+        // Verify
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(playerRosterRepository, times(2)).tryLockReconciliation();
+        verify(playerRosterRepository).reconcileRosterCounts(eq(""), anyInt());
+        verify(playerRosterRepository).reconcileRosterCounts(eq("team-id-500"), anyInt());
+
+    }
+
+    @Test
+    void givenReconciliationRunningElsewhere_whenReconcileRosterCounts_thenSkipRecount() {
+
+        // When
+        when(playerRosterRepository.tryLockReconciliation()).thenReturn(false);
+
+        // Then
+        playerService.reconcileRosterCounts();
+
+        // Verify
+        verify(playerRosterRepository).tryLockReconciliation();
+        verify(playerRosterRepository, never()).reconcileRosterCounts(anyString(), anyInt());
+
+    }
+
+    private static RosterRetryProperties rosterRetryProperties() {
+        RosterRetryProperties properties = new RosterRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setBackoff(Duration.ZERO);
+        return properties;
+    }
+
+    private static BulkAddPlayerRequest.Item bulkItem(String teamId, String name, boolean foreignPlayer, Position position) {
+        return BulkAddPlayerRequest.Item.builder()
+                .teamId(teamId)
+                .player(AddPlayerRequest.builder()
+                        .name(name)
+                        .foreignPlayer(foreignPlayer)
+                        .position(position)
+                        .build())
+                .build();
+    }
+
+}
@@ -4,12 +4,14 @@ import com.example.footballteamapi.base.AbstractRestControllerTest;
 import com.example.footballteamapi.common.application.dto.response.CustomPagingResponse;
 import com.example.footballteamapi.common.domain.model.CustomPage;
 import com.example.footballteamapi.common.domain.model.CustomPaging;
+import com.example.footballteamapi.footballteam.application.dto.request.footballteam.BulkCreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.CreateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.FootballTeamPagingRequest;
 import com.example.footballteamapi.footballteam.application.dto.request.footballteam.UpdateFootballTeamRequest;
 import com.example.footballteamapi.footballteam.application.dto.response.FootballTeamResponse;
 import com.example.footballteamapi.footballteam.application.service.FootballTeamService;
 import com.example.footballteamapi.footballteam.domain.model.FootballTeam;
+import com.example.footballteamapi.footballteam.domain.model.FootballTeamCreationResult;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.CustomPageFootballTeamToCustomPagingFootballTeamResponseMapper;
 import com.example.footballteamapi.footballteam.infrastructure.mapper.footballteam.FootballTeamToFootballTeamResponseMapper;
 import org.junit.jupiter.api.Test;
@@ -122,6 +124,75 @@ class FootballTeamControllerTest extends AbstractRestControllerTest {
 
     }
 
+    @Test
+    void givenValidBulkCreateTeamRequest_whenCreateTeamsInBulkForAdmin_thenReturnResultPerTeam() throws Exception {
+
+        // Given
+        BulkCreateFootballTeamRequest bulkRequest = BulkCreateFootballTeamRequest.builder()
+                .teams(List.of(
+                        CreateFootballTeamRequest.builder().teamName("Team A").build(),
+                        CreateFootballTeamRequest.builder().teamName("Team B").build()
+                ))
+                .build();
+
+        FootballTeam team = FootballTeam.builder()
+                .id(UUID.randomUUID().toString())
+                .teamName("Team A")
+                .build();
+
+        List<FootballTeamCreationResult> results = List.of(
+                FootballTeamCreationResult.created(0, team),
+                FootballTeamCreationResult.conflict(1, "Team B", "A team with the given name already exists.")
+        );
+
+        // When
+        when(footballTeamService.createTeamsInBulk(any(BulkCreateFootballTeamRequest.class)))
+                .thenReturn(results);
+
+        // Then
+        mockMvc.perform(post("/api/v1/football-teams/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.httpStatus").value("OK"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.createdCount").value(1))
+                .andExpect(jsonPath("$.response.conflictCount").value(1))
+                .andExpect(jsonPath("$.response.results[0].created").value(true))
+                .andExpect(jsonPath("$.response.results[0].team.id").value(team.getId()))
+                .andExpect(jsonPath("$.response.results[1].created").value(false))
+                .andExpect(jsonPath("$.response.results[1].teamName").value("Team B"))
+                .andExpect(jsonPath("$.response.results[1].team").doesNotExist())
+                .andExpect(jsonPath("$.response.results[1].error").value("A team with the given name already exists."));
+
+        // Verify
+        verify(footballTeamService).createTeamsInBulk(any(BulkCreateFootballTeamRequest.class));
+
+    }
+
+    @Test
+    void givenValidBulkCreateTeamRequest_whenCreateTeamsInBulkForUser_thenReturnForbidden() throws Exception {
+
+        // Given
+        BulkCreateFootballTeamRequest bulkRequest = BulkCreateFootballTeamRequest.builder()
+                .teams(List.of(CreateFootballTeamRequest.builder().teamName("Team A").build()))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/football-teams/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        // Verify
+        verify(footballTeamService, never()).createTeamsInBulk(any(BulkCreateFootballTeamRequest.class));
+
+    }
+
     @Test
     void givenValidUpdateTeamRequest_whenUpdateTeamForAdmin_thenReturnFootballTeamResponse() throws Exception {
 
@@ -0,0 +1,140 @@
+package com.example.footballteamapi.footballteam.infrastructure.adapter.in;
+
+import com.example.footballteamapi.base.AbstractRestControllerTest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.AddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.dto.request.player.BulkAddPlayerRequest;
+import com.example.footballteamapi.footballteam.application.service.PlayerService;
+import com.example.footballteamapi.footballteam.domain.enums.Position;
+import com.example.footballteamapi.footballteam.domain.model.Player;
+import com.example.footballteamapi.footballteam.domain.model.PlayerAdditionResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PlayerBulkControllerTest extends AbstractRestControllerTest {
+
+    @MockitoBean
+    private PlayerService playerService;
+
+    @Test
+    void givenValidBulkAddPlayerRequest_whenAddPlayersInBulkForAdmin_thenReturnResultPerPlayer() throws Exception {
+
+        // Given
+        String teamId = UUID.randomUUID().toString();
+        BulkAddPlayerRequest request = bulkRequest(teamId);
+
+        Player player = Player.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Player One")
+                .foreignPlayer(false)
+                .position(Position.FORWARD)
+                .build();
+
+        List<PlayerAdditionResult> results = List.of(
+                PlayerAdditionResult.added(0, teamId, player),
+                PlayerAdditionResult.rejected(1, teamId, "A team can have at most 2 goalkeepers")
+        );
+
+        // When
+        when(playerService.addPlayersInBulk(any(BulkAddPlayerRequest.class)))
+                .thenReturn(results);
+
+        // Then
+        mockMvc.perform(post("/api/v1/football-teams/players/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken())
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.httpStatus").value("OK"))
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.addedCount").value(1))
+                .andExpect(jsonPath("$.response.rejectedCount").value(1))
+                .andExpect(jsonPath("$.response.results[0].index").value(0))
+                .andExpect(jsonPath("$.response.results[0].added").value(true))
+                .andExpect(jsonPath("$.response.results[0].player.id").value(player.getId()))
+                .andExpect(jsonPath("$.response.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.response.results[1].index").value(1))
+                .andExpect(jsonPath("$.response.results[1].added").value(false))
+                .andExpect(jsonPath("$.response.results[1].player").doesNotExist())
+                .andExpect(jsonPath("$.response.results[1].error").value("A team can have at most 2 goalkeepers"));
+
+        // Verify
+        verify(playerService).addPlayersInBulk(any(BulkAddPlayerRequest.class));
+
+    }
+
+    @Test
+    void givenEmptyBulkAddPlayerRequest_whenAddPlayersInBulkForAdmin_thenReturnBadRequest() throws Exception {
+
+        // Given
+        BulkAddPlayerRequest request = BulkAddPlayerRequest.builder()
+                .players(List.of())
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/football-teams/players/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken())
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        // Verify
+        verify(playerService, never()).addPlayersInBulk(any(BulkAddPlayerRequest.class));
+
+    }
+
+    @Test
+    void givenValidBulkAddPlayerRequest_whenAddPlayersInBulkForUser_thenReturnForbidden() throws Exception {
+
+        // Given
+        BulkAddPlayerRequest request = bulkRequest(UUID.randomUUID().toString());
+
+        // When & Then: Use non-admin token to get Forbidden (403)
+        mockMvc.perform(post("/api/v1/football-teams/players/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken())
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        // Verify
+        verify(playerService, never()).addPlayersInBulk(any(BulkAddPlayerRequest.class));
+
+    }
+
+    private static BulkAddPlayerRequest bulkRequest(String teamId) {
+        return BulkAddPlayerRequest.builder()
+                .players(List.of(
+                        BulkAddPlayerRequest.Item.builder()
+                                .teamId(teamId)
+                                .player(AddPlayerRequest.builder()
+                                        .name("Player One")
+                                        .foreignPlayer(false)
+                                        .position(Position.FORWARD)
+                                        .build())
+                                .build(),
+                        BulkAddPlayerRequest.Item.builder()
+                                .teamId(teamId)
+                                .player(AddPlayerRequest.builder()
+                                        .name("Player Two")
+                                        .foreignPlayer(false)
+                                        .position(Position.GOALKEEPER)
+                                        .build())
+                                .build()
+                ))
+                .build();
+    }
+
+}
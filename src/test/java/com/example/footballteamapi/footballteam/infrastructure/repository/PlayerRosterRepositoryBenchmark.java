@@ -0,0 +1,214 @@
+package com.example.footballteamapi.footballteam.infrastructure.repository;
+
+import com.example.footballteamapi.footballteam.domain.enums.Position;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
+import com.example.footballteamapi.footballteam.domain.model.RosterCounts;
+import com.example.footballteamapi.footballteam.infrastructure.concurrency.RosterMutationRetry;
+import com.example.footballteamapi.footballteam.infrastructure.config.RosterRetryProperties;
+import com.example.footballteamapi.footballteam.infrastructure.persistence.entity.PlayerEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for roster changes on a single team, against PostgreSQL in a Testcontainer.
+ * Eight threads keep adding players through the guarded insert while eight others keep removing a random
+ * player of the same team the way {@code PlayerServiceImpl.deletePlayer} does: read the roster version,
+ * read the player, delete it and update the counters only if the version is unchanged, retried by
+ * {@link RosterMutationRetry}. The score is the throughput of each side; a remove that runs out of attempts
+ * counts as done. After the run the counters are checked against the players actually stored and the
+ * 18/6/2 limits, and the trial fails if either is off.
+ * Needs Docker. Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=PlayerRosterRepositoryBenchmark}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PlayerRosterRepositoryBenchmark {
+
+    private static final int MAX_PLAYERS = 18;
+
+    private static final int MAX_FOREIGN_PLAYERS = 6;
+
+    private static final int MAX_GOALKEEPERS = 2;
+
+    private static final String TEAM_ID = UUID.randomUUID().toString();
+
+    private static final String[] SCHEMA = {
+            """
+            CREATE TABLE football_teams (
+                id VARCHAR(255) PRIMARY KEY,
+                team_name VARCHAR(255),
+                player_count INTEGER DEFAULT 0 NOT NULL,
+                foreign_player_count INTEGER DEFAULT 0 NOT NULL,
+                goalkeeper_count INTEGER DEFAULT 0 NOT NULL,
+                roster_version BIGINT DEFAULT 0 NOT NULL,
+                created_at TIMESTAMP, created_by VARCHAR(255), updated_at TIMESTAMP, updated_by VARCHAR(255)
+            )""",
+            """
+            CREATE TABLE football_players (
+                id VARCHAR(255) PRIMARY KEY,
+                name VARCHAR(255),
+                foreign_player BOOLEAN NOT NULL,
+                position VARCHAR(255),
+                football_team_id VARCHAR(255) REFERENCES football_teams (id),
+                created_at TIMESTAMP, created_by VARCHAR(255), updated_at TIMESTAMP, updated_by VARCHAR(255)
+            )""",
+            "CREATE INDEX idx_football_players_team ON football_players (football_team_id)"
+    };
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    private HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private PlayerRosterRepository playerRosterRepository;
+
+    private RosterMutationRetry rosterMutationRetry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+        postgresContainer.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgresContainer.getJdbcUrl());
+        dataSource.setUsername(postgresContainer.getUsername());
+        dataSource.setPassword(postgresContainer.getPassword());
+        dataSource.setMaximumPoolSize(20);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (final String statement : SCHEMA) {
+            jdbcTemplate.execute(statement);
+        }
+        jdbcTemplate.update("INSERT INTO football_teams (id, team_name) VALUES (?, ?)", TEAM_ID, "Contended FC");
+
+        final RosterRetryProperties rosterRetryProperties = new RosterRetryProperties();
+        playerRosterRepository = new PlayerRosterRepository(jdbcTemplate);
+        rosterMutationRetry = new RosterMutationRetry(
+                new DataSourceTransactionManager(dataSource), rosterRetryProperties
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            this.verifyRoster();
+        } finally {
+            dataSource.close();
+            postgresContainer.stop();
+        }
+    }
+
+    @Benchmark
+    @Group("singleTeam")
+    @GroupThreads(8)
+    public boolean addPlayer() {
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final PlayerEntity playerEntity = PlayerEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Player")
+                .foreignPlayer(random.nextInt(3) == 0)
+                .position(Position.values()[random.nextInt(Position.values().length)])
+                .createdAt(LocalDateTime.now())
+                .createdBy("benchmark")
+                .build();
+
+        return playerRosterRepository.insertIfRosterAllows(
+                TEAM_ID, playerEntity, MAX_PLAYERS, MAX_FOREIGN_PLAYERS, MAX_GOALKEEPERS
+        );
+    }
+
+    @Benchmark
+    @Group("singleTeam")
+    @GroupThreads(8)
+    public boolean removePlayer() {
+        try {
+            return rosterMutationRetry.execute(TEAM_ID, this::removeRandomPlayer);
+        } catch (RosterConflictException exception) {
+            return false;
+        }
+    }
+
+    private boolean removeRandomPlayer() {
+
+        final long rosterVersion = jdbcTemplate.queryForObject(
+                "SELECT roster_version FROM football_teams WHERE id = ?", Long.class, TEAM_ID
+        );
+
+        final List<Map<String, Object>> players = jdbcTemplate.queryForList(
+                "SELECT id, foreign_player, position FROM football_players WHERE football_team_id = ?", TEAM_ID
+        );
+        if (players.isEmpty()) {
+            return false;
+        }
+
+        final Map<String, Object> player = players.get(ThreadLocalRandom.current().nextInt(players.size()));
+        if (jdbcTemplate.update("DELETE FROM football_players WHERE id = ?", player.get("id")) != 1) {
+            throw new OptimisticLockingFailureException("Player was removed concurrently");
+        }
+
+        final boolean applied = playerRosterRepository.adjustRosterCounts(
+                TEAM_ID,
+                rosterVersion,
+                -1,
+                Boolean.TRUE.equals(player.get("foreign_player")) ? -1 : 0,
+                Position.GOALKEEPER.name().equals(player.get("position")) ? -1 : 0
+        );
+        if (!applied) {
+            throw new OptimisticLockingFailureException("Roster changed concurrently");
+        }
+        return true;
+    }
+
+    private void verifyRoster() {
+
+        final RosterCounts counters = playerRosterRepository.findRosterCounts(TEAM_ID).orElseThrow();
+        final RosterCounts stored = jdbcTemplate.queryForObject("""
+                        SELECT count(*),
+                               count(*) FILTER (WHERE foreign_player),
+                               count(*) FILTER (WHERE position = 'GOALKEEPER')
+                        FROM football_players
+                        WHERE football_team_id = ?""",
+                (resultSet, rowNumber) -> new RosterCounts(resultSet.getInt(1), resultSet.getInt(2), resultSet.getInt(3)),
+                TEAM_ID
+        );
+
+        if (!counters.equals(stored)) {
+            throw new IllegalStateException("Roster counters " + counters + " do not match stored players " + stored);
+        }
+        if (stored.players() > MAX_PLAYERS
+                || stored.foreignPlayers() > MAX_FOREIGN_PLAYERS
+                || stored.goalkeepers() > MAX_GOALKEEPERS) {
+            throw new IllegalStateException("Roster limits exceeded: " + stored);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PlayerRosterRepositoryBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+}
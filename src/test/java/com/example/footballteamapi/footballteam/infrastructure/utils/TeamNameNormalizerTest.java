@@ -0,0 +1,32 @@
+package com.example.footballteamapi.footballteam.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamNameNormalizerTest {
+
+    @Test
+    void utilityClass_ShouldNotBeInstantiated() {
+        assertThrows(InvocationTargetException.class, () -> {
+            Constructor<TeamNameNormalizer> constructor = TeamNameNormalizer.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            constructor.newInstance();
+        });
+    }
+
+    @Test
+    void givenNamesDifferingInCaseAndSpacing_whenNormalize_thenReturnSameName() {
+        assertEquals("real madrid", TeamNameNormalizer.normalize("Real Madrid"));
+        assertEquals("real madrid", TeamNameNormalizer.normalize("  REAL \t Madrid\n"));
+    }
+
+    @Test
+    void givenNull_whenNormalize_thenReturnNull() {
+        assertNull(TeamNameNormalizer.normalize(null));
+    }
+
+}
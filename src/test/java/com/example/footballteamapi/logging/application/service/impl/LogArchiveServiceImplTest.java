@@ -0,0 +1,173 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchive;
+import com.example.footballteamapi.logging.infrastructure.config.LogArchiveProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogArchiveRepository;
+import com.example.footballteamapi.logging.infrastructure.repository.LogPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LogArchiveServiceImpl}.
+ * It verifies that every partition ending before the cutoff is detached, archived day by day in keyset pages
+ * re-sorted into the archive order, and dropped only after its segments were written, and that a partition
+ * left detached by an earlier run is finished first.
+ */
+class LogArchiveServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 15);
+
+    private static final String PARTITION = "logs_p20261006";
+
+    private LogArchiveServiceImpl logArchiveService;
+
+    @Mock
+    private LogArchiveRepository logArchiveRepository;
+
+    @Mock
+    private LogPartitionRepository logPartitionRepository;
+
+    @Mock
+    private LogArchive logArchive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LogArchiveProperties logArchiveProperties = new LogArchiveProperties();
+
+    @BeforeEach
+    void setUp() {
+        logArchiveProperties.setReadBatchSize(2);
+        logArchiveService = new LogArchiveServiceImpl(
+                logArchiveRepository, logPartitionRepository, logArchive, logArchiveProperties, transactionManager
+        );
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void givenPartitionBeforeCutoff_whenArchiveLogs_thenDetachArchiveEachDayAndDrop() throws IOException {
+
+        // Given
+        final LocalDate day = TODAY.minusDays(9);
+        final LogPartition expired = new LogPartition(PARTITION, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        final LogPartition current = new LogPartition("logs_p20261015", TODAY.atStartOfDay(), TODAY.plusDays(1).atStartOfDay());
+        final List<LogEntity> archived = new ArrayList<>();
+
+        // When
+        when(logPartitionRepository.findDetachedPartitions()).thenReturn(List.of());
+        when(logPartitionRepository.findPartitions()).thenReturn(List.of(current, expired), List.of(current));
+        when(logArchiveRepository.findOldestTime(PARTITION, null)).thenReturn(Optional.of(day.atTime(1, 0)));
+        when(logArchiveRepository.findOldestTime(PARTITION, day.plusDays(1).atStartOfDay())).thenReturn(Optional.empty());
+        when(logArchiveRepository.findRange(eq(PARTITION), eq(day.atStartOfDay()), eq(day.plusDays(1).atStartOfDay()), any(), eq(2)))
+                .thenReturn(List.of(log("a", day.atTime(1, 0))));
+        when(logArchive.archiveDay(any(), any())).thenAnswer(invocation -> {
+            final Iterator<LogEntity> logs = invocation.getArgument(1);
+            logs.forEachRemaining(archived::add);
+            return archived.size();
+        });
+
+        // Then
+        logArchiveService.archiveLogs(TODAY);
+
+        assertEquals(List.of("a"), archived.stream().map(LogEntity::getId).toList());
+
+        // Verify
+        final InOrder inOrder = inOrder(logPartitionRepository, logArchive);
+        inOrder.verify(logPartitionRepository).lock();
+        inOrder.verify(logPartitionRepository).detachPartition(PARTITION);
+        inOrder.verify(logArchive).archiveDay(eq(day), any());
+        inOrder.verify(logPartitionRepository).dropPartition(PARTITION);
+        verify(logPartitionRepository, never()).detachPartition(current.name());
+        verify(transactionManager, times(2)).commit(any(TransactionStatus.class));
+
+    }
+
+    @Test
+    void givenLogsOfOneTimeAcrossPages_whenArchiveLogs_thenSortIdsIntoArchiveOrder() throws IOException {
+
+        // Given
+        final LocalDate day = TODAY.minusDays(9);
+        final LocalDateTime from = day.atStartOfDay();
+        final LocalDateTime to = from.plusDays(1);
+        final LogEntity first = log("x", day.atTime(1, 0));
+        final LogEntity sameTimeB = log("b", day.atTime(2, 0));
+        final LogEntity sameTimeA = log("a", day.atTime(2, 0));
+        final LogEntity last = log("c", day.atTime(3, 0));
+        final List<LogEntity> archived = new ArrayList<>();
+
+        // When
+        when(logPartitionRepository.findDetachedPartitions()).thenReturn(List.of(PARTITION));
+        when(logPartitionRepository.findPartitions()).thenReturn(List.of());
+        when(logArchiveRepository.findOldestTime(PARTITION, null)).thenReturn(Optional.of(first.getTime()));
+        when(logArchiveRepository.findOldestTime(PARTITION, to)).thenReturn(Optional.empty());
+        when(logArchiveRepository.findRange(PARTITION, from, to, null, 2)).thenReturn(List.of(first, sameTimeB));
+        when(logArchiveRepository.findRange(PARTITION, from, to, LogCursor.of(sameTimeB), 2))
+                .thenReturn(List.of(sameTimeA, last));
+        when(logArchiveRepository.findRange(PARTITION, from, to, LogCursor.of(last), 2)).thenReturn(List.of());
+        when(logArchive.archiveDay(any(), any())).thenAnswer(invocation -> {
+            final Iterator<LogEntity> logs = invocation.getArgument(1);
+            logs.forEachRemaining(archived::add);
+            return archived.size();
+        });
+
+        // Then
+        logArchiveService.archiveLogs(TODAY);
+
+        assertEquals(List.of(first, sameTimeA, sameTimeB, last), archived);
+
+        // Verify
+        verify(logPartitionRepository, never()).detachPartition(any());
+        verify(logPartitionRepository).dropPartition(PARTITION);
+
+    }
+
+    @Test
+    void givenArchiveFailure_whenArchiveLogs_thenKeepDetachedPartition() throws IOException {
+
+        // Given
+        final LocalDate day = TODAY.minusDays(9);
+
+        // When
+        when(logPartitionRepository.findDetachedPartitions()).thenReturn(List.of(PARTITION));
+        when(logArchiveRepository.findOldestTime(PARTITION, null)).thenReturn(Optional.of(day.atTime(1, 0)));
+        when(logArchiveRepository.findRange(any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+        when(logArchive.archiveDay(any(), any())).thenThrow(new IOException("Disk full"));
+
+        // Then
+        assertThrows(UncheckedIOException.class, () -> logArchiveService.archiveLogs(TODAY));
+
+        // Verify
+        verify(logPartitionRepository, never()).dropPartition(any());
+
+    }
+
+    private static LogEntity log(final String id, final LocalDateTime time) {
+        return LogEntity.builder()
+                .id(id)
+                .time(time)
+                .build();
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.base.AbstractTestContainerConfiguration;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import com.example.footballteamapi.logging.infrastructure.config.LogPartitionProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogInsertRepository;
+import com.example.footballteamapi.logging.infrastructure.repository.LogPartitionRepository;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the partition DDL of {@link LogPartitionRepository} through {@link LogPartitionServiceImpl} against PostgreSQL:
+ * converting a populated plain {@code logs} table, a Hibernate {@code ddl-auto: update} on the next start,
+ * daily partition creation, the retention drop, and idempotent inserts through {@link LogInsertRepository}.
+ * Every test starts from the plain table Hibernate creates on a first start.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({LogPartitionRepository.class, LogInsertRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LogPartitionServiceImplPartitioningTest extends AbstractTestContainerConfiguration {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 15);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private LogPartitionRepository logPartitionRepository;
+
+    @Autowired
+    private LogInsertRepository logInsertRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LogPartitionServiceImpl logPartitionService;
+
+    private final LogPartitionProperties logPartitionProperties = new LogPartitionProperties();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS logs CASCADE");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS logs_legacy CASCADE");
+        this.runSchemaUpdate();
+        logPartitionService = new LogPartitionServiceImpl(logPartitionRepository, logPartitionProperties);
+    }
+
+    @Test
+    void givenPopulatedPlainTable_whenMaintainPartitions_thenKeepRowsInLegacyPartition() {
+
+        // Given
+        final LocalDateTime createdAt = TODAY.minusDays(3).atTime(9, 0);
+        logInsertRepository.insertIgnoringDuplicates(List.of(
+                log(TODAY.minusDays(2).atTime(10, 0)),
+                log(TODAY.atTime(8, 0)),
+                log(null, createdAt)
+        ));
+
+        // When
+        this.maintainPartitions(TODAY);
+
+        // Then
+        assertEquals("p", logPartitionRepository.findTableKind());
+        assertEquals(3, this.countLogs());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM logs_legacy", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM logs WHERE time = ?", Integer.class, createdAt));
+
+        final LogPartition legacy = this.findPartition("logs_legacy");
+        assertNull(legacy.from());
+        assertEquals(TODAY.plusDays(1).atStartOfDay(), legacy.to());
+
+        final List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'logs'", String.class);
+        assertTrue(indexes.containsAll(List.of(
+                "idx_logs_time_id", "idx_logs_endpoint_time_id", "idx_logs_status_time_id",
+                "idx_logs_user_info_time_id", "idx_logs_error_type_time_id"
+        )));
+
+    }
+
+    @Test
+    void givenPartitionedTable_whenSchemaUpdateRunsOnNextStart_thenKeepItPartitioned() {
+
+        // Given
+        this.maintainPartitions(TODAY);
+
+        // When
+        this.runSchemaUpdate();
+        this.maintainPartitions(TODAY);
+
+        // Then
+        assertEquals("p", logPartitionRepository.findTableKind());
+        // The legacy partition covers today, so only the days after it get their own partition
+        assertEquals(1 + logPartitionProperties.getPartitionsAhead(), logPartitionRepository.findPartitions().size());
+
+    }
+
+    @Test
+    void givenConvertedTable_whenMaintainPartitionsOnLaterDay_thenCreateDailyPartitionsAhead() {
+
+        // Given
+        this.maintainPartitions(TODAY);
+        final LocalDate later = TODAY.plusDays(3);
+
+        // When
+        this.maintainPartitions(later);
+
+        // Then
+        for (int i = 0; i <= logPartitionProperties.getPartitionsAhead(); i++) {
+            final LocalDate day = later.plusDays(i);
+            final LogPartition partition = this.findPartition("logs_p" + PARTITION_SUFFIX_FORMAT.format(day));
+            assertEquals(day.atStartOfDay(), partition.from());
+            assertEquals(day.plusDays(1).atStartOfDay(), partition.to());
+        }
+
+    }
+
+    @Test
+    void givenPartitionsOlderThanRetention_whenMaintainPartitions_thenDropThem() {
+
+        // Given
+        logInsertRepository.insertIgnoringDuplicates(List.of(log(TODAY.atTime(8, 0))));
+        this.maintainPartitions(TODAY);
+        final LocalDate later = TODAY.plusDays(logPartitionProperties.getRetention().toDays() + 10);
+
+        // When
+        this.maintainPartitions(later);
+
+        // Then
+        final List<String> partitionNames = logPartitionRepository.findPartitions().stream()
+                .map(LogPartition::name)
+                .toList();
+        assertFalse(partitionNames.contains("logs_legacy"));
+        assertFalse(partitionNames.contains("logs_p" + PARTITION_SUFFIX_FORMAT.format(TODAY.plusDays(1))));
+        assertTrue(partitionNames.contains("logs_p" + PARTITION_SUFFIX_FORMAT.format(later)));
+        assertEquals(0, this.countLogs());
+
+    }
+
+    @Test
+    void givenPartitionedTable_whenInsertSameLogsTwice_thenStoreThemOnceInTheirDailyPartition() {
+
+        // Given
+        this.maintainPartitions(TODAY);
+        final LogEntity logEntity = log(TODAY.plusDays(2).atTime(12, 0));
+
+        // When
+        logInsertRepository.insertIgnoringDuplicates(List.of(logEntity));
+        logInsertRepository.insertIgnoringDuplicates(List.of(logEntity));
+
+        // Then
+        assertEquals(1, this.countLogs());
+        assertEquals("logs_p" + PARTITION_SUFFIX_FORMAT.format(TODAY.plusDays(2)), jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM logs WHERE id = ?", String.class, logEntity.getId()));
+
+    }
+
+    private void maintainPartitions(final LocalDate today) {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> logPartitionService.maintainPartitions(today));
+    }
+
+    /**
+     * Applies the {@link LogEntity} mapping the way {@code ddl-auto: update} does on application start,
+     * failing on the first statement the database rejects.
+     */
+    private void runSchemaUpdate() {
+
+        final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "update")
+                .applySetting(AvailableSettings.HBM2DDL_HALT_ON_ERROR, true)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+                .build();
+
+        try {
+            new MetadataSources(serviceRegistry)
+                    .addAnnotatedClass(LogEntity.class)
+                    .buildMetadata()
+                    .buildSessionFactory()
+                    .close();
+        } finally {
+            StandardServiceRegistryBuilder.destroy(serviceRegistry);
+        }
+
+    }
+
+    private LogPartition findPartition(final String name) {
+        return logPartitionRepository.findPartitions().stream()
+                .filter(partition -> partition.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Missing partition " + name));
+    }
+
+    private int countLogs() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM logs", Integer.class);
+    }
+
+    private static LogEntity log(final LocalDateTime time) {
+        return log(time, LocalDateTime.now());
+    }
+
+    private static LogEntity log(final LocalDateTime time, final LocalDateTime createdAt) {
+        return LogEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .message("message")
+                .endpoint("/api/v1/teams")
+                .method("GET")
+                .time(time)
+                .createdAt(createdAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.logging.domain.enums.LogPartitionInterval;
+import com.example.footballteamapi.logging.domain.model.LogPartition;
+import com.example.footballteamapi.logging.infrastructure.config.LogPartitionProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogPartitionRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LogPartitionServiceImpl}.
+ * It verifies that the plain logs table is converted once, that only missing future partitions are created,
+ * and that partitions older than the retention window are dropped as a whole.
+ */
+class LogPartitionServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 15);
+
+    @InjectMocks
+    private LogPartitionServiceImpl logPartitionService;
+
+    @Mock
+    private LogPartitionRepository logPartitionRepository;
+
+    @Spy
+    private LogPartitionProperties logPartitionProperties = new LogPartitionProperties();
+
+    @Test
+    void givenPlainLogsTable_whenMaintainPartitions_thenConvertAndCreateUpcomingPartitions() {
+
+        // Given
+        logPartitionProperties.setPartitionsAhead(2);
+        final LocalDateTime legacyUpperBound = LocalDate.of(2026, 10, 16).atStartOfDay();
+
+        // When
+        when(logPartitionRepository.findTableKind()).thenReturn("r");
+        when(logPartitionRepository.findPartitions()).thenReturn(List.of(
+                new LogPartition("logs_legacy", null, legacyUpperBound)
+        ));
+
+        // Then
+        logPartitionService.maintainPartitions(TODAY);
+
+        // Verify
+        verify(logPartitionRepository).lock();
+        verify(logPartitionRepository).convertToPartitioned(legacyUpperBound);
+        verify(logPartitionRepository).ensureIndexes();
+        verify(logPartitionRepository).createPartition(
+                "logs_p20261016", legacyUpperBound, LocalDate.of(2026, 10, 17).atStartOfDay()
+        );
+        verify(logPartitionRepository).createPartition(
+                "logs_p20261017", LocalDate.of(2026, 10, 17).atStartOfDay(), LocalDate.of(2026, 10, 18).atStartOfDay()
+        );
+        verify(logPartitionRepository, times(2)).createPartition(anyString(), any(), any());
+        verify(logPartitionRepository, never()).dropPartition(anyString());
+
+    }
+
+    @Test
+    void givenPartitionsOlderThanRetention_whenMaintainPartitions_thenDropOnlyExpiredPartitions() {
+
+        // Given
+        logPartitionProperties.setPartitionsAhead(0);
+        logPartitionProperties.setRetention(Duration.ofDays(2));
+
+        // When
+        when(logPartitionRepository.findTableKind()).thenReturn("p");
+        when(logPartitionRepository.findPartitions()).thenReturn(List.of(
+                partition(LocalDate.of(2026, 10, 12)),
+                partition(LocalDate.of(2026, 10, 13)),
+                partition(LocalDate.of(2026, 10, 14)),
+                partition(TODAY)
+        ));
+
+        // Then
+        logPartitionService.maintainPartitions(TODAY);
+
+        // Verify
+        verify(logPartitionRepository).dropPartition("logs_p20261012");
+        verify(logPartitionRepository, times(1)).dropPartition(anyString());
+        verify(logPartitionRepository, never()).convertToPartitioned(any());
+        verify(logPartitionRepository, never()).createPartition(anyString(), any(), any());
+
+    }
+
+    @Test
+    void givenWeeklyInterval_whenMaintainPartitions_thenCreatePartitionStartingOnMonday() {
+
+        // Given
+        logPartitionProperties.setInterval(LogPartitionInterval.WEEKLY);
+        logPartitionProperties.setPartitionsAhead(0);
+
+        // When
+        when(logPartitionRepository.findTableKind()).thenReturn("p");
+        when(logPartitionRepository.findPartitions()).thenReturn(List.of());
+
+        // Then
+        logPartitionService.maintainPartitions(TODAY);
+
+        // Verify
+        verify(logPartitionRepository).createPartition(
+                "logs_p20261012", LocalDate.of(2026, 10, 12).atStartOfDay(), LocalDate.of(2026, 10, 19).atStartOfDay()
+        );
+
+    }
+
+    @Test
+    void givenMissingLogsTable_whenMaintainPartitions_thenDoNothing() {
+
+        // When
+        when(logPartitionRepository.findTableKind()).thenReturn(null);
+
+        // Then
+        logPartitionService.maintainPartitions(TODAY);
+
+        // Verify
+        verify(logPartitionRepository, never()).findPartitions();
+        verify(logPartitionRepository, never()).ensureIndexes();
+        verify(logPartitionRepository, never()).createPartition(anyString(), any(), any());
+
+    }
+
+    private static LogPartition partition(final LocalDate day) {
+        return new LogPartition(
+                "logs_p" + day.toString().replace("-", ""),
+                day.atStartOfDay(),
+                day.plusDays(1).atStartOfDay()
+        );
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.example.footballteamapi.logging.application.service.impl;
+
+import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.exception.InvalidLogCursorException;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPage;
+import com.example.footballteamapi.logging.infrastructure.archive.LogArchive;
+import com.example.footballteamapi.logging.infrastructure.repository.LogQueryRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LogQueryServiceImpl}.
+ * It verifies that pages are cut with a {@code (time, id)} cursor, that the cursor survives a round trip,
+ * that the export walks every page until the repository runs out of rows, and that both continue in the archive
+ * once the table has no older logs.
+ */
+class LogQueryServiceImplTest extends AbstractBaseServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 15, 12, 0);
+
+    @InjectMocks
+    private LogQueryServiceImpl logQueryService;
+
+    @Mock
+    private LogQueryRepository logQueryRepository;
+
+    @Mock
+    private LogArchive logArchive;
+
+    @Test
+    void givenMoreLogsThanPageSize_whenSearchLogs_thenReturnPageWithCursorOfLastLog() {
+
+        // Given
+        final LogSearchRequest request = LogSearchRequest.builder()
+                .endpoint("/api/v1/football-teams")
+                .size(2)
+                .build();
+
+        final List<LogEntity> logs = logs(3);
+
+        // When
+        when(logQueryRepository.findPage(request, null, null, 3)).thenReturn(logs);
+
+        // Then
+        final LogPage page = logQueryService.searchLogs(request);
+
+        assertEquals(2, page.logs().size());
+        assertEquals(new LogCursor(logs.get(1).getTime(), logs.get(1).getId()), page.nextCursor());
+
+        // Verify
+        verify(logQueryRepository).findPage(request, null, null, 3);
+
+    }
+
+    @Test
+    void givenLastPage_whenSearchLogs_thenReturnNoCursor() {
+
+        // Given
+        final LogCursor cursor = new LogCursor(NOW, "log-5");
+        final LogSearchRequest request = LogSearchRequest.builder()
+                .cursor(cursor.encode())
+                .size(10)
+                .build();
+
+        final List<LogEntity> logs = logs(4);
+
+        // When
+        when(logQueryRepository.findPage(request, null, cursor, 11)).thenReturn(logs);
+
+        // Then
+        final LogPage page = logQueryService.searchLogs(request);
+
+        assertEquals(4, page.logs().size());
+        assertNull(page.nextCursor());
+
+        // Verify
+        verify(logQueryRepository).findPage(request, null, cursor, 11);
+
+    }
+
+    @Test
+    void givenMalformedCursor_whenSearchLogs_thenThrowInvalidLogCursorException() {
+
+        // Given
+        final LogSearchRequest request = LogSearchRequest.builder()
+                .cursor("not-a-cursor")
+                .build();
+
+        // When & Then
+        assertThrows(InvalidLogCursorException.class, () -> logQueryService.searchLogs(request));
+
+        // Verify
+        verifyNoInteractions(logQueryRepository);
+
+    }
+
+    @Test
+    void givenSeveralBatches_whenExportLogs_thenStreamEveryLogInOrder() {
+
+        // Given
+        final LogSearchRequest request = LogSearchRequest.builder().build();
+        final int batchSize = LogQueryServiceImpl.EXPORT_BATCH_SIZE;
+
+        final List<LogEntity> firstBatch = logs(batchSize);
+        final List<LogEntity> secondBatch = logs(3);
+        final LogEntity lastOfFirstBatch = firstBatch.get(batchSize - 1);
+
+        final List<LogEntity> exported = new ArrayList<>();
+
+        // When
+        when(logQueryRepository.findPage(request, null, null, batchSize)).thenReturn(firstBatch);
+        when(logQueryRepository.findPage(request, null, LogCursor.of(lastOfFirstBatch), batchSize)).thenReturn(secondBatch);
+
+        // Then
+        logQueryService.exportLogs(request, exported::add);
+
+        assertEquals(batchSize + 3, exported.size());
+        assertSame(secondBatch.get(2), exported.get(exported.size() - 1));
+
+        // Verify
+        verify(logQueryRepository, times(2)).findPage(eq(request), any(), any(), eq(batchSize));
+
+    }
+
+    @Test
+    void givenArchivedDays_whenSearchLogs_thenFillPageFromArchiveAfterLastTableLog() throws IOException {
+
+        // Given
+        final LocalDateTime watermark = NOW.toLocalDate().atStartOfDay();
+        final LogSearchRequest request = LogSearchRequest.builder()
+                .size(3)
+                .build();
+
+        final List<LogEntity> tableLogs = logs(1);
+        final LogEntity archivedLog = LogEntity.builder()
+                .id("archived-0")
+                .time(watermark.minusHours(1))
+                .build();
+
+        // When
+        when(logArchive.findWatermark()).thenReturn(Optional.of(watermark));
+        when(logQueryRepository.findPage(request, watermark, null, 4)).thenReturn(tableLogs);
+        when(logArchive.scan(eq(request), eq(LogCursor.of(tableLogs.getFirst())), any())).thenAnswer(invocation -> {
+            final Predicate<LogEntity> consumer = invocation.getArgument(2);
+            consumer.test(archivedLog);
+            return true;
+        });
+
+        // Then
+        final LogPage page = logQueryService.searchLogs(request);
+
+        assertEquals(List.of(tableLogs.getFirst(), archivedLog), page.logs());
+        assertNull(page.nextCursor());
+
+        // Verify
+        verify(logArchive).scan(eq(request), eq(LogCursor.of(tableLogs.getFirst())), any());
+
+    }
+
+    @Test
+    void givenFullPageFromTable_whenSearchLogs_thenDoNotReadArchive() throws IOException {
+
+        // Given
+        final LocalDateTime watermark = NOW.minusDays(1);
+        final LogSearchRequest request = LogSearchRequest.builder()
+                .size(2)
+                .build();
+
+        // When
+        when(logArchive.findWatermark()).thenReturn(Optional.of(watermark));
+        when(logQueryRepository.findPage(request, watermark, null, 3)).thenReturn(logs(3));
+
+        // Then
+        final LogPage page = logQueryService.searchLogs(request);
+
+        assertEquals(2, page.logs().size());
+        assertNotNull(page.nextCursor());
+
+        // Verify
+        verify(logArchive, never()).scan(any(), any(), any());
+
+    }
+
+    private static List<LogEntity> logs(final int count) {
+        return IntStream.range(0, count)
+                .<LogEntity>mapToObj(i -> LogEntity.builder()
+                        .id("log-" + i)
+                        .time(NOW.minusSeconds(i))
+                        .build())
+                .toList();
+    }
+
+}
@@ -2,7 +2,7 @@ package com.example.footballteamapi.logging.application.service.impl;
 
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
 import com.example.footballteamapi.logging.domain.model.LogEntity;
-import com.example.footballteamapi.logging.infrastructure.repository.LogRepository;
+import com.example.footballteamapi.logging.infrastructure.persistence.LogWriter;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -18,7 +18,7 @@ class LogServiceImplTest extends AbstractBaseServiceTest {
     private LogServiceImpl logService;
 
     @Mock
-    private LogRepository logRepository;
+    private LogWriter logWriter;
 
     @Test
     public void testSaveLogToDatabase() {
@@ -36,16 +36,18 @@ class LogServiceImplTest extends AbstractBaseServiceTest {
                 .build();
 
         // When
-        when(logRepository.save(any(LogEntity.class))).thenReturn(logEntity);
+        when(logWriter.write(any(LogEntity.class))).thenReturn(true);
 
         // Then
         logService.saveLogToDatabase(logEntity);
 
         // Assert that the time field is set by the service
         assertNotNull(logEntity.getTime(), "The log time should be set");
+        assertNotNull(logEntity.getCreatedAt(), "The creation time should be set on the calling thread");
+        assertEquals("anonymousUser", logEntity.getCreatedBy());
 
         // Verify
-        verify(logRepository, times(1)).save(logEntity);
+        verify(logWriter, times(1)).write(logEntity);
 
     }
 
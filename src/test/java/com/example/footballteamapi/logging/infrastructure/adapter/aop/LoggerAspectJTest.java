@@ -2,21 +2,35 @@ package com.example.footballteamapi.logging.infrastructure.adapter.aop;
 
 import com.example.footballteamapi.auth.domain.exception.*;
 import com.example.footballteamapi.base.AbstractBaseServiceTest;
+import com.example.footballteamapi.common.domain.model.RequestPrincipal;
+import com.example.footballteamapi.common.infrastructure.context.RequestPrincipalHolder;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamAlreadyExistException;
 import com.example.footballteamapi.footballteam.domain.exception.footballteam.FootballTeamNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.MaxPlayersExceededException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerNotFoundException;
 import com.example.footballteamapi.footballteam.domain.exception.player.PlayerTeamMismatchException;
+import com.example.footballteamapi.footballteam.domain.exception.player.RosterConflictException;
 import com.example.footballteamapi.logging.application.service.LogService;
+import com.example.footballteamapi.logging.domain.exception.InvalidLogCursorException;
 import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogCaptureProperties;
+import com.example.footballteamapi.logging.infrastructure.config.LogMetricsProperties;
+import com.example.footballteamapi.logging.infrastructure.utils.TruncatingWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,6 +45,7 @@ import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +62,18 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
     @Mock
     private LogService logService;
 
+    @Spy
+    private LogCaptureProperties logCaptureProperties = new LogCaptureProperties();
+
+    @Spy
+    private com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
+
+    @Spy
+    private LogMetricsProperties logMetricsProperties = new LogMetricsProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -68,6 +95,9 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
     @Mock
     private Signature signature;
 
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
     @BeforeEach
     public void setUp() {
         // Initialize mocks and set request attributes
@@ -82,6 +112,11 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         when(signature.getDeclaringType()).thenReturn(LoggerAspectJ.class);
     }
 
+    @AfterEach
+    public void tearDown() {
+        RequestPrincipalHolder.clear();
+    }
+
     @Test
     public void testLogAfterThrowing() {
 
@@ -92,17 +127,16 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/test"));
         when(httpServletRequest.getMethod()).thenReturn("GET");
 
-        // Set an authenticated user in the security context
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn("testUser");
-        SecurityContextHolder.setContext(securityContext);
+        // Set the caller resolved by the authentication filter
+        RequestPrincipalHolder.set(new RequestPrincipal("user-id", "testUser@example.com"));
 
         // Then
         loggerAspectJ.logAfterThrowing(joinPoint, ex);
 
         // Verify
-        verify(logService, times(1)).saveLogToDatabase(any(LogEntity.class));
+        ArgumentCaptor<LogEntity> logEntityCaptor = ArgumentCaptor.forClass(LogEntity.class);
+        verify(logService, times(1)).saveLogToDatabase(logEntityCaptor.capture());
+        assertEquals("testUser@example.com", logEntityCaptor.getValue().getUserInfo());
 
     }
 
@@ -124,7 +158,27 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         loggerAspectJ.logAfterThrowing(joinPoint, ex);
 
         // Verify
-        verify(logService, times(1)).saveLogToDatabase(any(LogEntity.class));
+        ArgumentCaptor<LogEntity> logEntityCaptor = ArgumentCaptor.forClass(LogEntity.class);
+        verify(logService, times(1)).saveLogToDatabase(logEntityCaptor.capture());
+        assertNull(logEntityCaptor.getValue().getUserInfo());
+
+    }
+
+    @Test
+    public void testLogAfterThrowing_TooManyAuthenticationAttempts_SkipsPersistence() {
+
+        // Given
+        Exception ex = new TooManyAuthenticationAttemptsException(Duration.ofSeconds(30));
+
+        // When
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/v1/authentication/users/login"));
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+
+        // Then
+        loggerAspectJ.logAfterThrowing(joinPoint, ex);
+
+        // Verify
+        verify(logService, never()).saveLogToDatabase(any(LogEntity.class));
 
     }
 
@@ -223,6 +277,131 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
 
     }
 
+    @Test
+    public void testLogAfterReturning_LargePayload_TruncatedToMaxPayloadBytes() throws IOException {
+
+        // Given
+        logCaptureProperties.setMaxPayloadBytes(64);
+        Map<String, Object> result = Map.of("teams", Collections.nCopies(10_000, "Team Name"));
+
+        // When
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/test"));
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletResponse.getStatus()).thenReturn(HttpStatus.OK.value());
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, result);
+
+        // Verify
+        ArgumentCaptor<LogEntity> logEntityCaptor = ArgumentCaptor.forClass(LogEntity.class);
+        verify(logService, times(1)).saveLogToDatabase(logEntityCaptor.capture());
+        String response = logEntityCaptor.getValue().getResponse();
+        assertTrue(response.startsWith("{\"teams\":[\"Team Name\""));
+        assertTrue(response.endsWith(TruncatingWriter.TRUNCATED_MARKER));
+        assertEquals(64, response.length());
+
+    }
+
+    @Test
+    public void testLogAfterReturning_ZeroSampleRate_SkipsSuccessButKeepsError() throws IOException {
+
+        // Given
+        logCaptureProperties.setSuccessSampleRates(Map.of("testMethod", 0.0));
+
+        // When
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/api/test"));
+        when(httpServletRequest.getMethod()).thenReturn("GET");
+
+        // Then
+        loggerAspectJ.logAfterReturning(joinPoint, "test response");
+        loggerAspectJ.logAfterThrowing(joinPoint, new UserNotFoundException("User not found"));
+
+        // Verify
+        ArgumentCaptor<LogEntity> logEntityCaptor = ArgumentCaptor.forClass(LogEntity.class);
+        verify(logService, times(1)).saveLogToDatabase(logEntityCaptor.capture());
+        assertEquals(UserNotFoundException.class.getName(), logEntityCaptor.getValue().getErrorType());
+
+    }
+
+    @Test
+    public void testTimeOperation_Success_RecordsTimerWithStatusAndNoException() throws Throwable {
+
+        // Given
+        Object expectedResult = Map.of("key", "value");
+
+        // When
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(proceedingJoinPoint.proceed()).thenReturn(expectedResult);
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletResponse.getStatus()).thenReturn(HttpStatus.OK.value());
+
+        // Then
+        Object result = loggerAspectJ.timeOperation(proceedingJoinPoint);
+
+        assertSame(expectedResult, result);
+
+        Timer timer = meterRegistry.find("api.operation")
+                .tags("operation", "testMethod", "method", "POST", "status", "OK", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+
+        // Verify
+        verify(proceedingJoinPoint, times(1)).proceed();
+        verifyNoInteractions(logService);
+
+    }
+
+    @Test
+    public void testTimeOperation_Exception_RecordsTimerWithExceptionStatusAndRethrows() throws Throwable {
+
+        // Given
+        Exception ex = new PlayerNotFoundException("Player not found");
+
+        // When
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(proceedingJoinPoint.proceed()).thenThrow(ex);
+        when(httpServletRequest.getMethod()).thenReturn("GET");
+
+        // Then
+        Exception thrown = assertThrows(PlayerNotFoundException.class, () -> loggerAspectJ.timeOperation(proceedingJoinPoint));
+
+        assertSame(ex, thrown);
+
+        Timer timer = meterRegistry.find("api.operation")
+                .tags("operation", "testMethod",
+                        "method", "GET",
+                        "status", PlayerNotFoundException.STATUS.name(),
+                        "exception", "PlayerNotFoundException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+
+        // Verify
+        verify(proceedingJoinPoint, times(1)).proceed();
+
+    }
+
+    @Test
+    public void testTimeOperation_MetricsDisabled_OnlyProceeds() throws Throwable {
+
+        // Given
+        logMetricsProperties.setEnabled(false);
+
+        // When
+        when(proceedingJoinPoint.proceed()).thenReturn("result");
+
+        // Then
+        Object result = loggerAspectJ.timeOperation(proceedingJoinPoint);
+
+        assertEquals("result", result);
+        assertNull(meterRegistry.find("api.operation").timer());
+
+        // Verify
+        verify(proceedingJoinPoint, times(1)).proceed();
+
+    }
+
     @Test
     public void testGetHttpStatusFromException_AllCases() {
         // Given a mapping between exception instances and their expected HTTP status values
@@ -238,6 +417,11 @@ class LoggerAspectJTest extends AbstractBaseServiceTest {
         testCases.put(new MaxPlayersExceededException("Max players exceeded"), MaxPlayersExceededException.STATUS.name());
         testCases.put(new PlayerNotFoundException("Player not found"), PlayerNotFoundException.STATUS.name());
         testCases.put(new PlayerTeamMismatchException("Player team mismatch"), PlayerTeamMismatchException.STATUS.name());
+        testCases.put(new RosterConflictException("Roster conflict"), RosterConflictException.STATUS.name());
+        testCases.put(new UnAuthorizeAttemptException(), UnAuthorizeAttemptException.STATUS.name());
+        testCases.put(new TooManyAuthenticationAttemptsException(Duration.ofSeconds(1)), TooManyAuthenticationAttemptsException.STATUS.name());
+        testCases.put(new PasswordHashingUnavailableException(Duration.ofSeconds(1)), PasswordHashingUnavailableException.STATUS.name());
+        testCases.put(new InvalidLogCursorException("Invalid cursor"), InvalidLogCursorException.STATUS.name());
         testCases.put(new Exception("Unknown exception"), HttpStatus.INTERNAL_SERVER_ERROR.name());
 
         // When & Then: using ReflectionTestUtils to call the private method getHttpStatusFromException
@@ -0,0 +1,194 @@
+package com.example.footballteamapi.logging.infrastructure.adapter.in;
+
+import com.example.footballteamapi.base.AbstractRestControllerTest;
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.application.service.LogQueryService;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.domain.model.LogPage;
+import com.example.footballteamapi.logging.infrastructure.config.LogExportProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class LogControllerTest extends AbstractRestControllerTest {
+
+    @MockitoBean
+    LogQueryService logQueryService;
+
+    @Autowired
+    private LogExportProperties logExportProperties;
+
+    @Test
+    void givenSearchRequest_whenSearchLogsForAdmin_thenReturnLogPage() throws Exception {
+
+        // Given
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .endpoint("/api/v1/football-teams")
+                .size(1)
+                .build();
+        LogEntity logEntity = log("log-id-1", LocalDateTime.of(2026, 10, 15, 12, 0));
+        LogCursor nextCursor = LogCursor.of(logEntity);
+
+        // When
+        when(logQueryService.searchLogs(any(LogSearchRequest.class)))
+                .thenReturn(new LogPage(List.of(logEntity), nextCursor));
+
+        // Then
+        mockMvc.perform(post("/api/v1/logs/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.response.logs[0].id").value("log-id-1"))
+                .andExpect(jsonPath("$.response.nextCursor").value(nextCursor.encode()));
+
+        // Verify
+        verify(logQueryService).searchLogs(any(LogSearchRequest.class));
+
+    }
+
+    @Test
+    void givenSearchRequest_whenSearchLogsForUser_thenReturnForbidden() throws Exception {
+
+        // Given
+        LogSearchRequest searchRequest = LogSearchRequest.builder().build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/logs/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        // Verify
+        verify(logQueryService, never()).searchLogs(any(LogSearchRequest.class));
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenMatchingLogs_whenExportLogsForAdmin_thenStreamOneJsonObjectPerLine() throws Exception {
+
+        // Given
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .status(HttpStatus.NOT_FOUND)
+                .build();
+        List<LogEntity> logEntities = List.of(
+                log("log-id-2", LocalDateTime.of(2026, 10, 15, 13, 0)),
+                log("log-id-1", LocalDateTime.of(2026, 10, 15, 12, 0))
+        );
+
+        // When
+        doAnswer(invocation -> {
+            logEntities.forEach(invocation.<Consumer<LogEntity>>getArgument(1));
+            return null;
+        }).when(logQueryService).exportLogs(any(LogSearchRequest.class), any(Consumer.class));
+
+        // Then
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/logs/export")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(logExportProperties.getTimeout().toMillis(), mvcResult.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String body = mvcResult.getResponse().getContentAsString();
+        assertTrue(body.endsWith("\n"));
+
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode line = objectMapper.readTree(lines.get(i));
+            assertEquals(logEntities.get(i).getId(), line.get("id").asText());
+        }
+
+        // Verify
+        verify(logQueryService).exportLogs(any(LogSearchRequest.class), any(Consumer.class));
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenInvalidCursor_whenExportLogsForAdmin_thenReturnBadRequestBeforeStreaming() throws Exception {
+
+        // Given
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .cursor("not-a-cursor")
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/logs/export")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockAdminToken.getAccessToken()))
+                .andDo(print())
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        // Verify
+        verify(logQueryService, never()).exportLogs(any(LogSearchRequest.class), any(Consumer.class));
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenSearchRequest_whenExportLogsForUser_thenReturnForbidden() throws Exception {
+
+        // Given
+        LogSearchRequest searchRequest = LogSearchRequest.builder().build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/logs/export")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + mockUserToken.getAccessToken()))
+                .andDo(print())
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+
+        // Verify
+        verify(logQueryService, never()).exportLogs(any(LogSearchRequest.class), any(Consumer.class));
+
+    }
+
+    private static LogEntity log(final String id, final LocalDateTime time) {
+        return LogEntity.builder()
+                .id(id)
+                .message("message")
+                .endpoint("/api/v1/football-teams")
+                .method("GET")
+                .status(HttpStatus.NOT_FOUND)
+                .time(time)
+                .build();
+    }
+
+}
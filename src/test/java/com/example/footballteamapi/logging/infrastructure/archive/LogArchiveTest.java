@@ -0,0 +1,184 @@
+package com.example.footballteamapi.logging.infrastructure.archive;
+
+import com.example.footballteamapi.logging.application.dto.request.LogSearchRequest;
+import com.example.footballteamapi.logging.domain.model.LogCursor;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogArchiveProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link LogArchive}.
+ * It verifies that archived logs come back unchanged and newest first across blocks and days,
+ * that filters and cursors are applied, that archiving the same logs twice does not duplicate them,
+ * and that the watermark follows the newest archived day.
+ */
+class LogArchiveTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    @TempDir
+    Path directory;
+
+    private LogArchive logArchive;
+
+    @BeforeEach
+    void setUp() {
+        final LogArchiveProperties logArchiveProperties = new LogArchiveProperties();
+        logArchiveProperties.setDirectory(directory.toString());
+        logArchiveProperties.setBlockSize(4);
+        logArchive = new LogArchive(logArchiveProperties);
+    }
+
+    @Test
+    void givenArchivedDay_whenScan_thenReturnAllLogsNewestFirstWithAllColumns() throws IOException {
+
+        // Given
+        final List<LogEntity> logs = logs(DAY, 10);
+        logArchive.archiveDay(DAY, logs.iterator());
+
+        // When
+        final List<LogEntity> scanned = scan(LogSearchRequest.builder().build(), null);
+
+        // Then
+        assertEquals(10, scanned.size());
+        assertEquals(logs.reversed().stream().map(LogEntity::getId).toList(),
+                scanned.stream().map(LogEntity::getId).toList());
+
+        final LogEntity expected = logs.getFirst();
+        final LogEntity actual = scanned.getLast();
+        assertEquals(expected.getTime(), actual.getTime());
+        assertEquals(expected.getEndpoint(), actual.getEndpoint());
+        assertEquals(expected.getMethod(), actual.getMethod());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getOperation(), actual.getOperation());
+        assertEquals(expected.getUserInfo(), actual.getUserInfo());
+        assertEquals(expected.getErrorType(), actual.getErrorType());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(expected.getResponse(), actual.getResponse());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getCreatedBy(), actual.getCreatedBy());
+
+    }
+
+    @Test
+    void givenFilterAndCursor_whenScan_thenReturnOnlyMatchingOlderLogs() throws IOException {
+
+        // Given
+        final List<LogEntity> logs = logs(DAY, 10);
+        logArchive.archiveDay(DAY, logs.iterator());
+
+        final LogSearchRequest filter = LogSearchRequest.builder()
+                .endpoint("/api/v1/football-teams")
+                .status(HttpStatus.NOT_FOUND)
+                .build();
+
+        // When
+        final List<LogEntity> scanned = scan(filter, LogCursor.of(logs.get(7)));
+
+        // Then
+        assertEquals(List.of("log-5", "log-3", "log-1"), scanned.stream().map(LogEntity::getId).toList());
+
+    }
+
+    @Test
+    void givenSeveralDays_whenScanWithEarlyStop_thenReadNewestDayFirst() throws IOException {
+
+        // Given
+        logArchive.archiveDay(DAY, logs(DAY, 3).iterator());
+        logArchive.archiveDay(DAY.plusDays(1), logs(DAY.plusDays(1), 3).iterator());
+
+        // When
+        final List<LogEntity> scanned = new ArrayList<>();
+        final boolean completed = logArchive.scan(LogSearchRequest.builder().build(), null, logEntity -> {
+            scanned.add(logEntity);
+            return scanned.size() < 4;
+        });
+
+        // Then
+        assertFalse(completed);
+        assertEquals(4, scanned.size());
+        assertEquals(DAY.plusDays(1), scanned.getFirst().getTime().toLocalDate());
+        assertEquals(DAY, scanned.getLast().getTime().toLocalDate());
+
+    }
+
+    @Test
+    void givenSameLogsArchivedTwiceWithLateLog_whenScan_thenMergeWithoutDuplicates() throws IOException {
+
+        // Given
+        final List<LogEntity> logs = logs(DAY, 5);
+        logArchive.archiveDay(DAY, logs.iterator());
+
+        final LogEntity lateLog = log(DAY, 99, 30);
+        final List<LogEntity> retry = new ArrayList<>(logs);
+        retry.add(lateLog);
+
+        // When
+        final int rowCount = logArchive.archiveDay(DAY, retry.iterator());
+
+        // Then
+        assertEquals(6, rowCount);
+        assertEquals(6, scan(LogSearchRequest.builder().build(), null).size());
+
+    }
+
+    @Test
+    void givenArchivedDays_whenFindWatermark_thenReturnStartOfDayAfterNewest() throws IOException {
+
+        // Given
+        assertTrue(logArchive.findWatermark().isEmpty());
+
+        // When
+        logArchive.archiveDay(DAY.plusDays(2), logs(DAY.plusDays(2), 1).iterator());
+        logArchive.archiveDay(DAY, logs(DAY, 1).iterator());
+
+        // Then
+        assertEquals(DAY.plusDays(3).atStartOfDay(), logArchive.findWatermark().orElseThrow());
+
+    }
+
+    private List<LogEntity> scan(final LogSearchRequest filter, final LogCursor after) throws IOException {
+        final List<LogEntity> scanned = new ArrayList<>();
+        logArchive.scan(filter, after, scanned::add);
+        return scanned;
+    }
+
+    private static List<LogEntity> logs(final LocalDate day, final int count) {
+        return IntStream.range(0, count)
+                .<LogEntity>mapToObj(i -> log(day, i, i))
+                .toList();
+    }
+
+    private static LogEntity log(final LocalDate day, final int number, final int minute) {
+        final LocalDateTime time = day.atTime(10, minute, 0, 123_456_000);
+        final boolean odd = number % 2 == 1;
+        return LogEntity.builder()
+                .id("log-" + number)
+                .time(time)
+                .endpoint(odd ? "/api/v1/football-teams" : "/api/v1/players")
+                .method("GET")
+                .status(odd ? HttpStatus.NOT_FOUND : HttpStatus.OK)
+                .operation("getFootballTeamById")
+                .userInfo("admin@example.com")
+                .errorType(odd ? "FootballTeamNotFoundException" : null)
+                .message("message-" + number)
+                .response("{\"id\":" + number + "}")
+                .createdAt(time)
+                .createdBy("admin@example.com")
+                .build();
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.example.footballteamapi.logging.infrastructure.persistence;
+
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogJournalProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogInsertRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LogSpillJournal}.
+ * It verifies that spilled logs get an id and come back unchanged on replay, and that a replay that fails
+ * leaves the logs in the journal so the next replay inserts the same ids again.
+ */
+class LogSpillJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private LogInsertRepository logInsertRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LogSpillJournal logSpillJournal;
+
+    @BeforeEach
+    void setUp() {
+        final LogJournalProperties logJournalProperties = new LogJournalProperties();
+        logJournalProperties.setDirectory(directory.toString());
+
+        logInsertRepository = mock(LogInsertRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        logSpillJournal = new LogSpillJournal(
+                logJournalProperties,
+                logInsertRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenSpilledLog_whenReplay_thenInsertSameLogWithAssignedId() throws IOException {
+
+        // Given
+        final LogEntity logEntity = errorLog();
+        assertTrue(logSpillJournal.spill(List.of(logEntity)));
+        assertNotNull(logEntity.getId());
+
+        // When
+        logSpillJournal.replay();
+
+        // Then
+        final ArgumentCaptor<List<LogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logInsertRepository).insertIgnoringDuplicates(captor.capture());
+
+        final LogEntity replayed = captor.getValue().getFirst();
+        assertEquals(logEntity.getId(), replayed.getId());
+        assertEquals(logEntity.getTime(), replayed.getTime());
+        assertEquals(HttpStatus.NOT_FOUND, replayed.getStatus());
+        assertEquals(logEntity.getCreatedBy(), replayed.getCreatedBy());
+        assertEquals(1, meterRegistry.counter("audit.log.spilled").count());
+        assertEquals(1, meterRegistry.counter("audit.log.replayed").count());
+
+        logSpillJournal.close();
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenDatabaseDownDuringReplay_whenReplayAgain_thenInsertSameIds() throws IOException {
+
+        // Given
+        final LogEntity logEntity = errorLog();
+        logSpillJournal.spill(List.of(logEntity));
+        doThrow(new IllegalStateException("database is down"))
+                .doNothing()
+                .when(logInsertRepository).insertIgnoringDuplicates(anyList());
+
+        // When
+        logSpillJournal.replay();
+        logSpillJournal.replay();
+        logSpillJournal.replay();
+
+        // Then
+        final ArgumentCaptor<List<LogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logInsertRepository, times(2)).insertIgnoringDuplicates(captor.capture());
+        assertEquals(logEntity.getId(), captor.getAllValues().get(0).getFirst().getId());
+        assertEquals(logEntity.getId(), captor.getAllValues().get(1).getFirst().getId());
+        assertEquals(1, meterRegistry.counter("audit.log.replayed").count());
+
+        logSpillJournal.close();
+
+    }
+
+    private static LogEntity errorLog() {
+        return LogEntity.builder()
+                .endpoint("/api/v1/football-teams")
+                .method("GET")
+                .operation("getFootballTeamById")
+                .status(HttpStatus.NOT_FOUND)
+                .errorType("FootballTeamNotFoundException")
+                .time(LocalDateTime.of(2026, 10, 15, 12, 0))
+                .createdAt(LocalDateTime.of(2026, 10, 15, 12, 0))
+                .createdBy("admin@example.com")
+                .build();
+    }
+
+}
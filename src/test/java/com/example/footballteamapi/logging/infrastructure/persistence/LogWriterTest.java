@@ -0,0 +1,212 @@
+package com.example.footballteamapi.logging.infrastructure.persistence;
+
+import com.example.footballteamapi.logging.domain.enums.LogOverflowPolicy;
+import com.example.footballteamapi.logging.domain.model.LogEntity;
+import com.example.footballteamapi.logging.infrastructure.config.LogWriterProperties;
+import com.example.footballteamapi.logging.infrastructure.repository.LogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LogWriter}.
+ * It verifies that queued logs are saved in batches on close, that logs the database or the queue cannot take
+ * are spilled to the journal, and that each overflow policy drops or keeps logs as documented while counting
+ * what it drops.
+ */
+class LogWriterTest {
+
+    private LogRepository logRepository;
+
+    private LogSpillJournal logSpillJournal;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LogWriterProperties logWriterProperties;
+
+    private CountDownLatch releaseWriter;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = mock(LogRepository.class);
+        logSpillJournal = mock(LogSpillJournal.class);
+        meterRegistry = new SimpleMeterRegistry();
+        logWriterProperties = new LogWriterProperties();
+        logWriterProperties.setFlushInterval(Duration.ZERO);
+        releaseWriter = new CountDownLatch(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenQueuedLogs_whenClose_thenSaveAllInBatches() {
+
+        // Given
+        logWriterProperties.setBatchSize(2);
+        final LogWriter logWriter = new LogWriter(logRepository, logWriterProperties, logSpillJournal, meterRegistry);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(logWriter.write(successLog()));
+        }
+        logWriter.close();
+
+        // Then
+        final ArgumentCaptor<List<LogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logRepository, atLeastOnce()).saveAll(captor.capture());
+        assertEquals(5, captor.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(captor.getAllValues().stream().allMatch(batch -> batch.size() <= 2));
+
+    }
+
+    @Test
+    void givenDropPolicyAndFullQueue_whenWrite_thenDropLogAndCountIt() throws InterruptedException {
+
+        // Given
+        final LogWriter logWriter = blockedWriter(LogOverflowPolicy.DROP, 1);
+
+        // When
+        assertTrue(logWriter.write(successLog()));
+
+        // Then
+        assertFalse(logWriter.write(successLog()));
+        assertEquals(1, droppedCount("queue-full", LogOverflowPolicy.DROP));
+
+        releaseWriter.countDown();
+        logWriter.close();
+
+    }
+
+    @Test
+    void givenSamplePolicyAboveThreshold_whenWrite_thenKeepErrorsAndSampleSuccesses() throws InterruptedException {
+
+        // Given
+        logWriterProperties.setSamplingThreshold(0.1);
+        logWriterProperties.setSampleRate(2);
+        final LogWriter logWriter = blockedWriter(LogOverflowPolicy.SAMPLE, 10);
+        assertTrue(logWriter.write(successLog()));
+
+        // When
+        final LogEntity errorLog = successLog();
+        errorLog.setErrorType(IllegalStateException.class.getName());
+
+        // Then
+        assertTrue(logWriter.write(errorLog));
+        assertTrue(logWriter.write(successLog()));
+        assertFalse(logWriter.write(successLog()));
+        assertEquals(1, droppedCount("sampled-out", LogOverflowPolicy.SAMPLE));
+
+        releaseWriter.countDown();
+        logWriter.close();
+
+    }
+
+    @Test
+    void givenBlockPolicyAndFullQueue_whenWrite_thenWaitForBlockTimeoutAndDrop() throws InterruptedException {
+
+        // Given
+        logWriterProperties.setBlockTimeout(Duration.ofMillis(50));
+        final LogWriter logWriter = blockedWriter(LogOverflowPolicy.BLOCK, 1);
+        assertTrue(logWriter.write(successLog()));
+
+        // When
+        final long startedAt = System.nanoTime();
+        final boolean queued = logWriter.write(successLog());
+
+        // Then
+        assertFalse(queued);
+        assertTrue(System.nanoTime() - startedAt >= Duration.ofMillis(50).toNanos());
+        assertEquals(1, droppedCount("queue-full", LogOverflowPolicy.BLOCK));
+
+        releaseWriter.countDown();
+        logWriter.close();
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenFailingDatabase_whenClose_thenSpillFailedBatchToJournal() {
+
+        // Given
+        when(logRepository.saveAll(anyList())).thenThrow(new IllegalStateException("database is down"));
+        when(logSpillJournal.spill(anyList())).thenReturn(true);
+        final LogWriter logWriter = new LogWriter(logRepository, logWriterProperties, logSpillJournal, meterRegistry);
+
+        // When
+        assertTrue(logWriter.write(successLog()));
+        logWriter.close();
+
+        // Then
+        final ArgumentCaptor<List<LogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logSpillJournal).spill(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(0, meterRegistry.counter("write.behind.queue.failed", "queue", "auditLog").count());
+
+    }
+
+    @Test
+    void givenFullQueueAndJournal_whenWrite_thenSpillInsteadOfDrop() throws InterruptedException {
+
+        // Given
+        when(logSpillJournal.spill(anyList())).thenReturn(true);
+        final LogWriter logWriter = blockedWriter(LogOverflowPolicy.DROP, 1);
+        assertTrue(logWriter.write(successLog()));
+
+        // When
+        final LogEntity overflowLog = successLog();
+
+        // Then
+        assertTrue(logWriter.write(overflowLog));
+        verify(logSpillJournal).spill(List.of(overflowLog));
+        assertEquals(0, droppedCount("queue-full", LogOverflowPolicy.DROP));
+
+        releaseWriter.countDown();
+        logWriter.close();
+
+    }
+
+    /**
+     * Returns a writer whose background thread is stuck saving the first log, with {@code queueCapacity} free slots.
+     */
+    private LogWriter blockedWriter(final LogOverflowPolicy overflowPolicy,
+                                    final int queueCapacity) throws InterruptedException {
+
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+        when(logRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await();
+            return invocation.getArgument(0);
+        });
+
+        logWriterProperties.setOverflowPolicy(overflowPolicy);
+        logWriterProperties.setQueueCapacity(queueCapacity);
+        logWriterProperties.setBatchSize(1);
+
+        final LogWriter logWriter = new LogWriter(logRepository, logWriterProperties, logSpillJournal, meterRegistry);
+        logWriter.write(successLog());
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+        return logWriter;
+    }
+
+    private double droppedCount(final String reason, final LogOverflowPolicy overflowPolicy) {
+        return meterRegistry.counter("audit.log.dropped", "reason", reason, "policy", overflowPolicy.name()).count();
+    }
+
+    private static LogEntity successLog() {
+        return LogEntity.builder()
+                .endpoint("/api/v1/teams")
+                .method("GET")
+                .operation("getTeams")
+                .build();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.footballteamapi.logging.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link TruncatingWriter}.
+ * It verifies that text under the limit is kept as is, and that the limit is counted in UTF-8 bytes,
+ * marker included, without splitting a character.
+ */
+class TruncatingWriterTest {
+
+    private static final int MARKER_BYTES = TruncatingWriter.TRUNCATED_MARKER.getBytes(StandardCharsets.UTF_8).length;
+
+    @Test
+    void givenTextWithinLimit_whenWrite_thenKeepWholeText() throws IOException {
+
+        // Given
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(5);
+
+        // When
+        truncatingWriter.write("hello");
+
+        // Then
+        assertFalse(truncatingWriter.isTruncated());
+        assertEquals("hello", truncatingWriter.toString());
+
+    }
+
+    @Test
+    void givenMultiByteTextOverLimit_whenWrite_thenStopAtLimitInBytesAndMarkTruncated() {
+
+        // Given
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(MARKER_BYTES + 5);
+
+        // When
+        assertThrows(IOException.class, () -> truncatingWriter.write("ğ".repeat(20)));
+
+        // Then
+        assertTrue(truncatingWriter.isTruncated());
+        assertEquals("ğğ" + TruncatingWriter.TRUNCATED_MARKER, truncatingWriter.toString());
+        assertThrows(IOException.class, () -> truncatingWriter.write("a"));
+
+    }
+
+    @Test
+    void givenSurrogatePairOverLimit_whenWrite_thenDropWholePair() {
+
+        // Given
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(MARKER_BYTES + 5);
+
+        // When
+        assertThrows(IOException.class, () -> truncatingWriter.write("a" + "😀".repeat(10)));
+
+        // Then
+        assertEquals("a😀" + TruncatingWriter.TRUNCATED_MARKER, truncatingWriter.toString());
+
+    }
+
+    @Test
+    void givenTextOverLimit_whenToString_thenKeepMarkerWithinLimit() {
+
+        // Given
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(64);
+
+        // When
+        assertThrows(IOException.class, () -> truncatingWriter.write("x".repeat(100)));
+
+        // Then
+        final String truncatedText = truncatingWriter.toString();
+        assertEquals(64, truncatedText.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals("x".repeat(64 - MARKER_BYTES) + TruncatingWriter.TRUNCATED_MARKER, truncatedText);
+
+    }
+
+    @Test
+    void givenLimitSmallerThanMarker_whenToString_thenCutMarkerToLimit() {
+
+        // Given
+        final TruncatingWriter truncatingWriter = new TruncatingWriter(3);
+
+        // When
+        assertThrows(IOException.class, () -> truncatingWriter.write("hello"));
+
+        // Then
+        assertEquals(TruncatingWriter.TRUNCATED_MARKER.substring(0, 3), truncatingWriter.toString());
+
+    }
+
+}